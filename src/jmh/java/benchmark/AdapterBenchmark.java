@@ -0,0 +1,57 @@
+package benchmark;
+
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.CommandDispatcher;
+import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapterRegistry;
+import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdapterBenchmark {
+
+    private CommandDispatcher dispatcher;
+    private TypeAdapterRegistry registry;
+    private CommandDefinition add;
+    private CommandDefinition echo;
+
+    @Setup
+    public void setup() {
+        dispatcher = Benchmarks.dispatcher();
+        registry = dispatcher.getAdapterRegistry();
+        add = Benchmarks.command(dispatcher, "add");
+        echo = Benchmarks.command(dispatcher, "echo");
+    }
+
+    @TearDown
+    public void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Benchmark
+    public CommandContext primitives() {
+        CommandContext context = Benchmarks.context(dispatcher, "", "1", "2").setCommand(add);
+        registry.adapt(context);
+        return context;
+    }
+
+    @Benchmark
+    public CommandContext concat() {
+        CommandContext context = Benchmarks.context(dispatcher, "", "first", "and", "the", "rest").setCommand(echo);
+        registry.adapt(context);
+        return context;
+    }
+
+    @Benchmark
+    public CommandContext syntaxError() {
+        CommandContext context = Benchmarks.context(dispatcher, "", "one", "two").setCommand(add);
+        registry.adapt(context);
+        return context;
+    }
+}
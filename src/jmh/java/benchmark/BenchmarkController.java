@@ -0,0 +1,25 @@
+package benchmark;
+
+import com.github.kaktushose.jda.commands.annotations.Command;
+import com.github.kaktushose.jda.commands.annotations.CommandController;
+import com.github.kaktushose.jda.commands.annotations.Concat;
+import com.github.kaktushose.jda.commands.dispatching.CommandEvent;
+
+@CommandController
+public class BenchmarkController {
+
+    @Command("ping")
+    public void ping(CommandEvent event) {
+
+    }
+
+    @Command("add")
+    public void add(CommandEvent event, int first, int second) {
+
+    }
+
+    @Command("echo")
+    public void echo(CommandEvent event, String first, @Concat String rest) {
+
+    }
+}
@@ -0,0 +1,43 @@
+package benchmark;
+
+import adapting.mock.MessageMock;
+import adapting.mock.UserMock;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.entities.channel.unions.MessageChannelUnion;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Proxy;
+
+@SuppressWarnings("ConstantConditions")
+public class BenchmarkMessage extends MessageMock {
+
+    private static final User AUTHOR = new UserMock("author", 1);
+    private static final MessageChannelUnion CHANNEL = (MessageChannelUnion) Proxy.newProxyInstance(
+            MessageChannelUnion.class.getClassLoader(),
+            new Class<?>[]{MessageChannelUnion.class},
+            (proxy, method, args) -> method.getReturnType() == long.class ? 2L : null
+    );
+    private final String content;
+
+    public BenchmarkMessage(String content) {
+        this.content = content;
+    }
+
+    @NotNull
+    @Override
+    public String getContentRaw() {
+        return content;
+    }
+
+    @NotNull
+    @Override
+    public User getAuthor() {
+        return AUTHOR;
+    }
+
+    @NotNull
+    @Override
+    public MessageChannelUnion getChannel() {
+        return CHANNEL;
+    }
+}
@@ -0,0 +1,66 @@
+package benchmark;
+
+import adapting.mock.JDAMock;
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.CommandDispatcher;
+import com.github.kaktushose.jda.commands.dispatching.CommandEvent;
+import com.github.kaktushose.jda.commands.dispatching.validation.ValidatorRegistry;
+import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
+import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Shared setup of the benchmarks. Run all benchmarks with {@code mvn -P jmh test-compile exec:exec}, pass
+ * {@code -Djmh.args="..."} to override the JMH options, which default to {@code -prof gc}.
+ */
+public final class Benchmarks {
+
+    private Benchmarks() {
+    }
+
+    public static CommandDispatcher dispatcher() {
+        // the JDACommands instance is only handed through to the CommandContext
+        return new CommandDispatcher(new JDAMock(), false, null, BenchmarkController.class, "benchmark");
+    }
+
+    public static MessageReceivedEvent event(String content) {
+        return new MessageReceivedEvent(new JDAMock(), 0, new BenchmarkMessage(content));
+    }
+
+    public static CommandContext context(CommandDispatcher dispatcher, String content, String... input) {
+        return new CommandContext()
+                .setEvent(event(content))
+                .setSettings(new GuildSettings())
+                .setImplementationRegistry(dispatcher.getImplementationRegistry())
+                .setInput(input);
+    }
+
+    public static CommandDefinition command(CommandDispatcher dispatcher, String label) {
+        return dispatcher.getCommandRegistry().getCommands().stream()
+                .filter(command -> command.getLabels().contains(label))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown command " + label));
+    }
+
+    /**
+     * Generates the given amount of commands labeled {@code command<i> sub}.
+     */
+    public static Set<CommandDefinition> commands(CommandDispatcher dispatcher, int amount) throws NoSuchMethodException {
+        BenchmarkController instance = new BenchmarkController();
+        Method method = BenchmarkController.class.getMethod("ping", CommandEvent.class);
+        ValidatorRegistry validators = dispatcher.getValidatorRegistry();
+        Set<CommandDefinition> commands = new LinkedHashSet<>();
+        for (int i = 0; i < amount; i++) {
+            CommandDefinition command = CommandDefinition.build(method, instance, dispatcher.getAdapterRegistry(), validators)
+                    .orElseThrow(IllegalStateException::new);
+            command.getLabels().clear();
+            command.getLabels().add("command" + i + " sub");
+            commands.add(command);
+        }
+        return commands;
+    }
+}
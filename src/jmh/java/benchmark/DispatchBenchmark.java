@@ -0,0 +1,41 @@
+package benchmark;
+
+import com.github.kaktushose.jda.commands.dispatching.CommandDispatcher;
+import com.github.kaktushose.jda.commands.dispatching.parser.ParserSupervisor;
+import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatchBenchmark {
+
+    @Param({"!ping", "!add 1 2", "!echo first and the rest", "no command at all"})
+    public String content;
+
+    private CommandDispatcher dispatcher;
+    private ParserSupervisor supervisor;
+    private MessageReceivedEvent event;
+
+    @Setup
+    public void setup() {
+        dispatcher = Benchmarks.dispatcher();
+        supervisor = dispatcher.getParserSupervisor();
+        event = Benchmarks.event(content);
+    }
+
+    @TearDown
+    public void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Benchmark
+    public void onGenericEvent() {
+        supervisor.onGenericEvent(event);
+    }
+}
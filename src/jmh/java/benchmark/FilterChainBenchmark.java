@@ -0,0 +1,67 @@
+package benchmark;
+
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.CommandDispatcher;
+import com.github.kaktushose.jda.commands.dispatching.filter.Filter;
+import com.github.kaktushose.jda.commands.dispatching.filter.FilterRegistry;
+import com.github.kaktushose.jda.commands.dispatching.filter.FilterRegistry.FilterPosition;
+import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterChainBenchmark {
+
+    private CommandDispatcher dispatcher;
+    private FilterRegistry registry;
+    private CommandDefinition command;
+    private List<Object> arguments;
+
+    @Setup
+    public void setup() {
+        dispatcher = Benchmarks.dispatcher();
+        registry = dispatcher.getFilterRegistry();
+        command = Benchmarks.command(dispatcher, "add");
+        CommandContext context = Benchmarks.context(dispatcher, "", "1", "2").setCommand(command);
+        dispatcher.getAdapterRegistry().adapt(context);
+        arguments = context.getArguments();
+    }
+
+    @TearDown
+    public void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Benchmark
+    public CommandContext defaultFilters() {
+        CommandContext context = Benchmarks.context(dispatcher, "", "1", "2")
+                .setCommand(command)
+                .setArguments(arguments);
+        // resolves the filters the same way the CommandDispatcher does
+        if (apply(registry.getAll(FilterPosition.BEFORE_ROUTING), context)) {
+            return context;
+        }
+        if (apply(registry.getChain(command).getAll(FilterPosition.BEFORE_ADAPTING), context)) {
+            return context;
+        }
+        apply(registry.getChain(command).getAll(FilterPosition.BEFORE_EXECUTION), context);
+        return context;
+    }
+
+    private boolean apply(List<Filter> filters, CommandContext context) {
+        for (Filter filter : filters) {
+            filter.apply(context);
+            if (context.isCancelled()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
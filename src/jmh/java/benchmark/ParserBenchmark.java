@@ -0,0 +1,42 @@
+package benchmark;
+
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.CommandDispatcher;
+import com.github.kaktushose.jda.commands.dispatching.parser.impl.DefaultMessageParser;
+import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    @Param({"!ping", "!add  1   2", "!echo \"quoted argument\" and the rest", "no command at all"})
+    public String content;
+
+    private CommandDispatcher dispatcher;
+    private DefaultMessageParser parser;
+    private MessageReceivedEvent event;
+
+    @Setup
+    public void setup() {
+        dispatcher = Benchmarks.dispatcher();
+        parser = new DefaultMessageParser();
+        event = Benchmarks.event(content);
+    }
+
+    @TearDown
+    public void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Benchmark
+    public CommandContext parse() {
+        return parser.parse(event, dispatcher);
+    }
+}
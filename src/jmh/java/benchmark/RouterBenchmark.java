@@ -0,0 +1,63 @@
+package benchmark;
+
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.CommandDispatcher;
+import com.github.kaktushose.jda.commands.dispatching.router.impl.CommandRouter;
+import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouterBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int commands;
+
+    private CommandDispatcher dispatcher;
+    private CommandRouter router;
+    private Set<CommandDefinition> definitions;
+    private String label;
+    private String typo;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        dispatcher = Benchmarks.dispatcher();
+        router = new CommandRouter();
+        definitions = Benchmarks.commands(dispatcher, commands);
+        label = "command" + commands / 2;
+        typo = "commnd" + commands / 2;
+    }
+
+    @TearDown
+    public void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Benchmark
+    public CommandContext exactMatch() {
+        CommandContext context = Benchmarks.context(dispatcher, "", label, "sub", "argument");
+        router.findCommands(context, definitions);
+        return context;
+    }
+
+    @Benchmark
+    public CommandContext similarMatch() {
+        CommandContext context = Benchmarks.context(dispatcher, "", typo, "sb", "argument");
+        router.findCommands(context, definitions);
+        return context;
+    }
+
+    @Benchmark
+    public CommandContext noMatch() {
+        CommandContext context = Benchmarks.context(dispatcher, "", "unknown", "label");
+        router.findCommands(context, definitions);
+        return context;
+    }
+}
@@ -9,16 +9,30 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
 import java.lang.reflect.Type;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * An implementation of the {@link Repository} interface that stores data as json.
  *
+ * <p>By default, every modification is written to the file immediately. Use
+ * {@link #setWriteBehind(long, TimeUnit, int)} to coalesce modifications and write them in the background instead.
+ * The file is always replaced atomically, thus a crash during a write never leaves a truncated file behind.
+ *
  * @param <T> the type the repository manages
  * @author Kaktushose
  * @version 2.0.0
@@ -30,6 +44,15 @@ public abstract class JsonRepository<T> implements Repository<T> {
     private final Gson gson;
     private final File file;
     private final Type mapType;
+    private final Set<Long> dirty;
+    private final Object writeLock;
+    private final AtomicBoolean isFlushScheduled;
+    private ScheduledExecutorService scheduler;
+    private Thread shutdownHook;
+    private int threshold;
+    /**
+     * The entities of this repository. Must only be accessed while holding the monitor of this repository.
+     */
     protected Map<Long, T> map;
 
     /**
@@ -53,6 +76,9 @@ public abstract class JsonRepository<T> implements Repository<T> {
         this.mapType = mapType;
         gson = new Gson();
         map = new HashMap<>();
+        dirty = new HashSet<>();
+        writeLock = new Object();
+        isFlushScheduled = new AtomicBoolean();
         if (!file.exists()) {
             try {
                 file.createNewFile();
@@ -66,9 +92,95 @@ public abstract class JsonRepository<T> implements Repository<T> {
         load();
     }
 
+    /**
+     * Enables the write-behind mode. Modifications will no longer be written immediately, instead the ids of the
+     * modified entities are collected and all of them are written at once, either after the given interval or as soon
+     * as the amount of modified entities reaches the threshold. Writing happens on a background thread, thus
+     * modifications never block on file IO.
+     *
+     * <p>Pending modifications are also written on JVM shutdown. Call {@link #close()} to write pending modifications
+     * and stop the background thread explicitly.
+     *
+     * @param interval  the maximum time modifications stay unwritten
+     * @param unit      the {@link TimeUnit} of the interval
+     * @param threshold the amount of modified entities that triggers a write
+     * @return this instance
+     * @throws IllegalArgumentException if the interval or the threshold is less than one
+     * @throws IllegalStateException    if the write-behind mode is already enabled
+     */
+    public synchronized JsonRepository<T> setWriteBehind(long interval, @NotNull TimeUnit unit, int threshold) {
+        if (interval < 1 || threshold < 1) {
+            throw new IllegalArgumentException("Interval and threshold must be at least 1!");
+        }
+        if (scheduler != null) {
+            throw new IllegalStateException("Write-behind is already enabled!");
+        }
+        this.threshold = threshold;
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "JDA-Commands JsonRepository " + file.getName());
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flush, interval, interval, unit);
+        shutdownHook = new Thread(this::flush);
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+        log.debug("Enabled write-behind with an interval of {} {} and a threshold of {}", interval, unit, threshold);
+        return this;
+    }
+
+    /**
+     * Whether the write-behind mode is enabled.
+     *
+     * @return {@code true} if the write-behind mode is enabled
+     * @see #setWriteBehind(long, TimeUnit, int)
+     */
+    public synchronized boolean isWriteBehind() {
+        return scheduler != null;
+    }
+
+    /**
+     * Writes all pending modifications to the file. Does nothing if there are no pending modifications.
+     */
+    public void flush() {
+        synchronized (this) {
+            if (dirty.isEmpty()) {
+                return;
+            }
+        }
+        save();
+    }
+
+    /**
+     * Writes all pending modifications and disables the write-behind mode. Does nothing besides flushing if the
+     * write-behind mode isn't enabled.
+     */
+    public void close() {
+        ScheduledExecutorService scheduler;
+        synchronized (this) {
+            scheduler = this.scheduler;
+            this.scheduler = null;
+            if (shutdownHook != null) {
+                try {
+                    Runtime.getRuntime().removeShutdownHook(shutdownHook);
+                } catch (IllegalStateException ignored) {
+                    // JVM is already shutting down, the hook will flush
+                }
+                shutdownHook = null;
+            }
+        }
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+        flush();
+    }
+
     protected void load() {
         try (JsonReader reader = new JsonReader(new FileReader(file))) {
-            map = gson.fromJson(reader, mapType);
+            Map<Long, T> loaded = gson.fromJson(reader, mapType);
+            synchronized (this) {
+                map = loaded;
+                dirty.clear();
+            }
             log.debug("Loaded values from file");
         } catch (IOException e) {
             e.printStackTrace();
@@ -77,44 +189,106 @@ public abstract class JsonRepository<T> implements Repository<T> {
     }
 
     protected void save() {
-        try (FileWriter writer = new FileWriter(file)) {
-            gson.toJson(map, writer);
-            log.debug("Saved values to file");
-        } catch (IOException e) {
-            e.printStackTrace();
-            log.error("An error has occurred while saving values!", e);
+        // the write lock keeps an older snapshot from overwriting a newer one
+        synchronized (writeLock) {
+            String json;
+            Set<Long> written;
+            synchronized (this) {
+                json = gson.toJson(map);
+                written = new HashSet<>(dirty);
+                dirty.clear();
+            }
+            Path target = file.toPath();
+            Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+            try {
+                try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING)) {
+                    Writer writer = Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), -1);
+                    writer.write(json);
+                    writer.flush();
+                    // the data must be on disk before the rename, otherwise a crash could leave an empty file behind
+                    channel.force(true);
+                }
+                try {
+                    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+                log.debug("Saved values to file");
+            } catch (IOException e) {
+                // keep the modifications pending, the next write will retry them
+                synchronized (this) {
+                    dirty.addAll(written);
+                }
+                log.error("An error has occurred while saving values!", e);
+            }
+        }
+    }
+
+    private void modified(Collection<Long> ids) {
+        ScheduledExecutorService scheduler;
+        boolean isThresholdReached;
+        synchronized (this) {
+            dirty.addAll(ids);
+            scheduler = this.scheduler;
+            isThresholdReached = dirty.size() >= threshold;
+        }
+        if (scheduler == null) {
+            save();
+            return;
+        }
+        if (isThresholdReached && isFlushScheduled.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(() -> {
+                    isFlushScheduled.set(false);
+                    flush();
+                });
+            } catch (RuntimeException e) {
+                // scheduler got closed concurrently, close() flushes anyway
+                isFlushScheduled.set(false);
+            }
         }
     }
 
     @Override
-    public long count() {
+    public synchronized long count() {
         return map.size();
     }
 
     @Override
     public void delete(long id) {
-        map.remove(id);
-        save();
+        synchronized (this) {
+            map.remove(id);
+        }
+        modified(Collections.singleton(id));
     }
 
     @Override
     public void deleteAll(@NotNull Collection<Long> ids) {
-        ids.forEach(this::delete);
+        synchronized (this) {
+            ids.forEach(map::remove);
+        }
+        modified(ids);
     }
 
     @Override
-    public boolean existsById(long id) {
+    public synchronized boolean existsById(long id) {
         return map.containsKey(id);
     }
 
     @Override
     public void save(long id, @Nullable T entity) {
-        map.put(id, entity);
-        save();
+        synchronized (this) {
+            map.put(id, entity);
+        }
+        modified(Collections.singleton(id));
     }
 
     @Override
     public void saveAll(@NotNull Map<@Nullable Long, @Nullable T> entities) {
-        entities.forEach(this::save);
+        synchronized (this) {
+            map.putAll(entities);
+        }
+        modified(entities.keySet());
     }
 }
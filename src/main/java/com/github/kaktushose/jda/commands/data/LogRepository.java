@@ -0,0 +1,349 @@
+package com.github.kaktushose.jda.commands.data;
+
+import com.google.gson.Gson;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.lang.reflect.Type;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An implementation of the {@link Repository} interface that stores data in an append-only log. Every save and every
+ * delete appends a single record to the file, thus the cost of a write only depends on the size of the entity and
+ * not on the size of the repository. On construction the log gets replayed to rebuild the current state.
+ *
+ * <p>Overwritten and deleted entities remain in the log until it gets compacted. Compaction rewrites the log so that
+ * it only contains the current state and happens automatically once the amount of obsolete records exceeds both
+ * the compaction threshold and the amount of entities.
+ *
+ * <p>A record consists of the id, the type of operation and the length prefixed json of the entity. A record at the
+ * end of the log that was only partially written, e.g. due to a crash, gets discarded on replay. Any other damaged
+ * record fails the replay and leaves the file untouched, since discarding it would also discard all following
+ * records. If appending fails, the log gets rewritten from the current state. If that fails as well, further
+ * modifications won't be persisted.
+ *
+ * @param <T> the type the repository manages
+ * @author Kaktushose
+ * @version 3.0.0
+ * @see JsonRepository
+ * @since 3.0.0
+ */
+public abstract class LogRepository<T> implements Repository<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(LogRepository.class);
+    private static final byte SAVE = 1;
+    private static final byte DELETE = 2;
+    private static final int RECORD_HEADER_SIZE = Long.BYTES + Byte.BYTES + Integer.BYTES;
+    private final Gson gson;
+    private final File file;
+    private final Type type;
+    private DataOutputStream output;
+    // the length of the log up to the last flushed record and the bytes appended since then
+    private long committed;
+    private long pending;
+    private long obsolete;
+    private int compactionThreshold;
+    protected Map<Long, T> map;
+
+    /**
+     * Constructs a new LogRepository.
+     *
+     * @param path the path of the log file
+     * @param type the {@link Type} the repository manages
+     * @throws IllegalStateException if the log file contains a damaged record
+     */
+    public LogRepository(@NotNull String path, @NotNull Type type) {
+        this(new File(path), type);
+    }
+
+    /**
+     * Constructs a new LogRepository.
+     *
+     * @param file the log file
+     * @param type the {@link Type} the repository manages
+     * @throws IllegalStateException if the log file contains a damaged record
+     */
+    public LogRepository(@NotNull File file, @NotNull Type type) {
+        this.file = file;
+        this.type = type;
+        gson = new Gson();
+        map = new HashMap<>();
+        compactionThreshold = 10_000;
+        replay();
+        open();
+    }
+
+    private void replay() {
+        if (!file.exists()) {
+            log.debug("File didn't exist yet. Starting with an empty log.");
+            return;
+        }
+        long size = file.length();
+        long valid = 0;
+        long records = 0;
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            while (true) {
+                long id;
+                try {
+                    id = input.readLong();
+                } catch (EOFException e) {
+                    break;
+                }
+                byte operation = input.readByte();
+                int length = input.readInt();
+                if (length < 0) {
+                    throw new IOException("Corrupted record length " + length);
+                }
+                // checked before allocating, a corrupted length could otherwise allocate up to 2 GB
+                if (length > size - valid - RECORD_HEADER_SIZE) {
+                    throw new EOFException();
+                }
+                byte[] data = new byte[length];
+                input.readFully(data);
+                apply(id, operation, data);
+                valid += RECORD_HEADER_SIZE + data.length;
+                records++;
+            }
+        } catch (EOFException e) {
+            // the last record was only partially written, handled below
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalStateException(String.format(
+                    "Unable to replay the log file! The record at offset %d is damaged.", valid), e
+            );
+        }
+        if (valid < size) {
+            log.warn("Log file ends with an incomplete record. Discarding it.");
+            truncate(valid);
+        }
+        obsolete = records - map.size();
+        log.debug("Replayed {} record(s) from file", records);
+    }
+
+    private void apply(long id, byte operation, byte[] data) {
+        switch (operation) {
+            case SAVE:
+                map.put(id, gson.fromJson(new String(data, StandardCharsets.UTF_8), type));
+                break;
+            case DELETE:
+                map.remove(id);
+                break;
+            default:
+                throw new IllegalStateException("Unknown operation " + operation);
+        }
+    }
+
+    private void truncate(long length) {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) {
+            channel.truncate(length);
+        } catch (IOException e) {
+            log.error("Unable to truncate the log file!", e);
+        }
+    }
+
+    private void open() {
+        try {
+            output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, true)));
+            committed = file.length();
+            pending = 0;
+        } catch (IOException e) {
+            log.error("Unable to open the log file!", e);
+        }
+    }
+
+    private int append(DataOutputStream output, long id, byte operation, @Nullable T entity) throws IOException {
+        byte[] data = operation == SAVE ? gson.toJson(entity, type).getBytes(StandardCharsets.UTF_8) : new byte[0];
+        output.writeLong(id);
+        output.writeByte(operation);
+        output.writeInt(data.length);
+        output.write(data);
+        return RECORD_HEADER_SIZE + data.length;
+    }
+
+    private void write(long id, byte operation, @Nullable T entity) {
+        if (output == null) {
+            log.error("Log file is not open! Record for id {} will not be persisted.", id);
+            return;
+        }
+        try {
+            pending += append(output, id, operation, entity);
+        } catch (IOException e) {
+            recover(e);
+        }
+    }
+
+    private void flush() {
+        if (output != null) {
+            try {
+                output.flush();
+                committed += pending;
+                pending = 0;
+            } catch (IOException e) {
+                recover(e);
+            }
+        }
+        if (obsolete >= compactionThreshold && obsolete >= map.size()) {
+            compact();
+        }
+    }
+
+    /**
+     * Removes a partially appended record and rewrites the log from the current state. Records appended after a
+     * partially written record would otherwise be discarded on the next replay.
+     */
+    private void recover(IOException cause) {
+        log.error("An error has occurred while appending to the log! Rewriting it from the current state.", cause);
+        try {
+            output.close();
+        } catch (IOException ignored) {
+            // the stream is discarded anyway
+        }
+        output = null;
+        truncate(committed);
+        // only reopens the log if rewriting succeeds, thus no record can follow a partially written one
+        compact();
+    }
+
+    /**
+     * Rewrites the log so that it only contains the current state. The log is replaced atomically.
+     */
+    public synchronized void compact() {
+        Path target = file.toPath();
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream stream = Channels.newOutputStream(channel);
+            DataOutputStream compacted = new DataOutputStream(new BufferedOutputStream(stream));
+            for (Map.Entry<Long, T> entry : map.entrySet()) {
+                append(compacted, entry.getKey(), SAVE, entry.getValue());
+            }
+            compacted.flush();
+            // the data must be on disk before the rename, otherwise a crash could leave an empty log behind
+            channel.force(true);
+        } catch (IOException e) {
+            log.error("An error has occurred while compacting the log!", e);
+            return;
+        }
+        close();
+        try {
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            log.debug("Compacted log, removed {} obsolete record(s)", obsolete);
+            obsolete = 0;
+        } catch (IOException e) {
+            log.error("An error has occurred while compacting the log!", e);
+        }
+        open();
+    }
+
+    /**
+     * Closes the log file. Any further modification will not be persisted.
+     */
+    public synchronized void close() {
+        if (output == null) {
+            return;
+        }
+        try {
+            output.close();
+        } catch (IOException e) {
+            log.error("Unable to close the log file!", e);
+        }
+        output = null;
+    }
+
+    /**
+     * Gets the amount of obsolete records that trigger a compaction. Default value is {@code 10000}.
+     *
+     * @return the amount of obsolete records that trigger a compaction
+     */
+    public int getCompactionThreshold() {
+        return compactionThreshold;
+    }
+
+    /**
+     * Sets the amount of obsolete records that trigger a compaction. A compaction will only happen if there are also
+     * more obsolete records than entities.
+     *
+     * @param compactionThreshold the amount of obsolete records that trigger a compaction
+     * @return this instance
+     */
+    public synchronized LogRepository<T> setCompactionThreshold(int compactionThreshold) {
+        this.compactionThreshold = compactionThreshold;
+        return this;
+    }
+
+    @Override
+    public synchronized long count() {
+        return map.size();
+    }
+
+    @Override
+    public synchronized void delete(long id) {
+        if (!map.containsKey(id)) {
+            return;
+        }
+        map.remove(id);
+        write(id, DELETE, null);
+        // the delete record and the record it deletes
+        obsolete += 2;
+        flush();
+    }
+
+    @Override
+    public synchronized void deleteAll(@NotNull Collection<Long> ids) {
+        for (Long id : ids) {
+            if (!map.containsKey(id)) {
+                continue;
+            }
+            map.remove(id);
+            write(id, DELETE, null);
+            obsolete += 2;
+        }
+        flush();
+    }
+
+    @Override
+    public synchronized boolean existsById(long id) {
+        return map.containsKey(id);
+    }
+
+    @Override
+    public synchronized void save(long id, @Nullable T entity) {
+        if (map.containsKey(id)) {
+            obsolete++;
+        }
+        map.put(id, entity);
+        write(id, SAVE, entity);
+        flush();
+    }
+
+    @Override
+    public synchronized void saveAll(@NotNull Map<@Nullable Long, @Nullable T> entities) {
+        entities.forEach((id, entity) -> {
+            if (id == null) {
+                return;
+            }
+            if (map.containsKey(id)) {
+                obsolete++;
+            }
+            map.put(id, entity);
+            write(id, SAVE, entity);
+        });
+        flush();
+    }
+}
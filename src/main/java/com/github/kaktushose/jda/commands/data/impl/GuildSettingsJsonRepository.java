@@ -7,6 +7,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.io.File;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
@@ -43,12 +44,12 @@ public class GuildSettingsJsonRepository extends JsonRepository<GuildSettings> {
     }
 
     @Override
-    public Collection<GuildSettings> findAll() {
-        return map.values();
+    public synchronized Collection<GuildSettings> findAll() {
+        return new ArrayList<>(map.values());
     }
 
     @Override
-    public Optional<GuildSettings> findById(long id) {
+    public synchronized Optional<GuildSettings> findById(long id) {
         return Optional.ofNullable(map.get(id));
     }
 }
@@ -0,0 +1,48 @@
+package com.github.kaktushose.jda.commands.data.impl;
+
+import com.github.kaktushose.jda.commands.data.LogRepository;
+import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * An implementation of the {@link LogRepository} to store {@link GuildSettings} in an append-only log.
+ *
+ * @author Kaktushose
+ * @version 3.0.0
+ * @since 3.0.0
+ */
+public class GuildSettingsLogRepository extends LogRepository<GuildSettings> {
+
+    /**
+     * Constructs a new GuildSettingsLogRepository.
+     *
+     * @param path the path of the log file
+     */
+    public GuildSettingsLogRepository(@NotNull String path) {
+        super(path, GuildSettings.class);
+    }
+
+    /**
+     * Constructs a new GuildSettingsLogRepository.
+     *
+     * @param file the log file
+     */
+    public GuildSettingsLogRepository(@NotNull File file) {
+        super(file, GuildSettings.class);
+    }
+
+    @Override
+    public synchronized Collection<GuildSettings> findAll() {
+        return new ArrayList<>(map.values());
+    }
+
+    @Override
+    public synchronized Optional<GuildSettings> findById(long id) {
+        return Optional.ofNullable(map.get(id));
+    }
+}
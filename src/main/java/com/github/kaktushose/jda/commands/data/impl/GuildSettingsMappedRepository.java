@@ -0,0 +1,475 @@
+package com.github.kaktushose.jda.commands.data.impl;
+
+import com.github.kaktushose.jda.commands.data.Repository;
+import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * An implementation of the {@link Repository} interface that stores {@link GuildSettings} in memory-mapped files.
+ * Unlike the {@link GuildSettingsJsonRepository} no {@link GuildSettings} are kept on the heap, thus the heap usage
+ * doesn't depend on the amount of guilds and starting up doesn't require parsing all settings.
+ *
+ * <p>The repository consists of two files. The data file ({@code <name>.dat}) holds one record per guild, the index
+ * file ({@code <name>.idx}) is an open-addressing hash table mapping guild ids to record offsets. If the index file is
+ * missing or damaged, it gets rebuilt from the data file.
+ *
+ * <p>{@link #findById(long)} and {@link #findAll()} materialize {@link GuildSettings} lazily. The returned objects are
+ * detached copies, modifications must be saved via {@link #save(long, GuildSettings)} to take effect. Saving
+ * {@code null} deletes the settings.
+ *
+ * @author Kaktushose
+ * @version 3.0.0
+ * @see GuildSettingsJsonRepository
+ * @since 3.0.0
+ */
+public class GuildSettingsMappedRepository implements Repository<GuildSettings> {
+
+    private static final Logger log = LoggerFactory.getLogger(GuildSettingsMappedRepository.class);
+    private static final int INDEX_MAGIC = 0x4A434958;
+    private static final int DATA_MAGIC = 0x4A434454;
+    private static final int HEADER_SIZE = 16;
+    private static final int SLOT_SIZE = 16;
+    private static final int RECORD_HEADER_SIZE = 16;
+    private static final int MIN_RECORD_CAPACITY = 64;
+    private static final int INITIAL_INDEX_CAPACITY = 1024;
+    private static final int INITIAL_DATA_SIZE = 64 * 1024;
+    private static final long EMPTY = 0;
+    private static final long TOMBSTONE = -1;
+    private static final int DELETED = -1;
+    private final File indexFile;
+    private final File dataFile;
+    private FileChannel indexChannel;
+    private FileChannel dataChannel;
+    private MappedByteBuffer index;
+    private MappedByteBuffer data;
+    // index header: magic, capacity, size, tombstones
+    private int capacity;
+    private int size;
+    private int tombstones;
+    // data header: magic, unused, end
+    private long end;
+
+    /**
+     * Constructs a new GuildSettingsMappedRepository.
+     *
+     * @param path the path of the files without extension
+     */
+    public GuildSettingsMappedRepository(@NotNull String path) {
+        this(new File(path));
+    }
+
+    /**
+     * Constructs a new GuildSettingsMappedRepository.
+     *
+     * @param file the path of the files without extension
+     * @throws IllegalStateException if the files cannot be opened
+     */
+    public GuildSettingsMappedRepository(@NotNull File file) {
+        indexFile = new File(file.getPath() + ".idx");
+        dataFile = new File(file.getPath() + ".dat");
+        try {
+            openData();
+            openIndex();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to open the mapped files!", e);
+        }
+    }
+
+    private void openData() throws IOException {
+        dataChannel = new RandomAccessFile(dataFile, "rw").getChannel();
+        boolean isNew = dataChannel.size() < HEADER_SIZE;
+        data = dataChannel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(dataChannel.size(), INITIAL_DATA_SIZE));
+        if (isNew) {
+            data.putInt(0, DATA_MAGIC);
+            end = HEADER_SIZE;
+            data.putLong(8, end);
+            log.debug("Data file didn't exist yet. Created a new one.");
+            return;
+        }
+        if (data.getInt(0) != DATA_MAGIC) {
+            throw new IOException("Data file is not a GuildSettings data file!");
+        }
+        end = data.getLong(8);
+    }
+
+    private void openIndex() throws IOException {
+        indexChannel = new RandomAccessFile(indexFile, "rw").getChannel();
+        if (indexChannel.size() >= HEADER_SIZE) {
+            index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, indexChannel.size());
+            capacity = index.getInt(4);
+            if (index.getInt(0) == INDEX_MAGIC && capacity > 0 && indexSize(capacity) <= indexChannel.size()) {
+                size = index.getInt(8);
+                tombstones = index.getInt(12);
+                log.debug("Loaded index with {} guild(s)", size);
+                return;
+            }
+            log.warn("Index file is damaged! Rebuilding it from the data file.");
+        }
+        rebuild(INITIAL_INDEX_CAPACITY);
+    }
+
+    private static long indexSize(int capacity) {
+        return HEADER_SIZE + (long) capacity * SLOT_SIZE;
+    }
+
+    private static int hash(long guildId) {
+        long h = guildId * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Recreates the index by scanning the data file. Also used for growing the index.
+     */
+    private void rebuild(int newCapacity) throws IOException {
+        discardDamagedRecords();
+        int live = 0;
+        for (long offset = HEADER_SIZE; offset < end; offset += RECORD_HEADER_SIZE + data.getInt((int) offset + 8)) {
+            if (data.getInt((int) offset + 12) != DELETED) {
+                live++;
+            }
+        }
+        while ((live + 1) * 4L > newCapacity * 3L) {
+            newCapacity *= 2;
+        }
+        index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, indexSize(newCapacity));
+        for (int i = 0; i < newCapacity; i++) {
+            index.putLong(HEADER_SIZE + i * SLOT_SIZE + 8, EMPTY);
+        }
+        capacity = newCapacity;
+        size = 0;
+        tombstones = 0;
+        long offset = HEADER_SIZE;
+        while (offset < end) {
+            int recordCapacity = data.getInt((int) offset + 8);
+            if (data.getInt((int) offset + 12) != DELETED) {
+                insert(data.getLong((int) offset), offset);
+            }
+            offset += RECORD_HEADER_SIZE + recordCapacity;
+        }
+        index.putInt(0, INDEX_MAGIC);
+        index.putInt(4, capacity);
+        writeIndexHeader();
+        log.debug("Built index with a capacity of {} for {} guild(s)", capacity, size);
+    }
+
+    /**
+     * Moves the end of the data file to the end of the last valid record. Records following a damaged record can't be
+     * located anymore, thus they are discarded just like the incomplete tail of a log file.
+     */
+    private void discardDamagedRecords() {
+        long limit = Math.min(end, data.capacity());
+        long offset = HEADER_SIZE;
+        while (offset + RECORD_HEADER_SIZE <= limit) {
+            int recordCapacity = data.getInt((int) offset + 8);
+            int length = data.getInt((int) offset + 12);
+            if (recordCapacity < 0 || offset + RECORD_HEADER_SIZE + recordCapacity > limit
+                    || length != DELETED && (length < 0 || length > recordCapacity)) {
+                break;
+            }
+            offset += RECORD_HEADER_SIZE + recordCapacity;
+        }
+        if (offset != end) {
+            log.warn("Data file contains a damaged record! Discarding it and all following records.");
+            end = offset;
+            data.putLong(8, end);
+        }
+    }
+
+    private void writeIndexHeader() {
+        index.putInt(8, size);
+        index.putInt(12, tombstones);
+    }
+
+    private int slot(int i) {
+        return HEADER_SIZE + i * SLOT_SIZE;
+    }
+
+    /**
+     * Finds the slot holding the guild id.
+     *
+     * @return the slot index or {@code -1} if the guild id isn't present
+     */
+    private int find(long guildId) {
+        int mask = capacity - 1;
+        for (int i = hash(guildId) & mask, probes = 0; probes < capacity; i = (i + 1) & mask, probes++) {
+            long value = index.getLong(slot(i) + 8);
+            if (value == EMPTY) {
+                return -1;
+            }
+            if (value != TOMBSTONE && index.getLong(slot(i)) == guildId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void insert(long guildId, long offset) {
+        int mask = capacity - 1;
+        int i = hash(guildId) & mask;
+        while (true) {
+            long value = index.getLong(slot(i) + 8);
+            if (value == EMPTY || value == TOMBSTONE) {
+                if (value == TOMBSTONE) {
+                    tombstones--;
+                }
+                index.putLong(slot(i), guildId);
+                index.putLong(slot(i) + 8, offset);
+                size++;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    private void ensureIndexCapacity() throws IOException {
+        // keep the load factor including tombstones below 0.75
+        if ((size + tombstones + 1) * 4L <= capacity * 3L) {
+            return;
+        }
+        rebuild(size * 4 >= capacity ? capacity * 2 : capacity);
+    }
+
+    private void ensureDataCapacity(long required) throws IOException {
+        if (required <= data.capacity()) {
+            return;
+        }
+        long newSize = Math.max(required, data.capacity() * 2L);
+        if (newSize > Integer.MAX_VALUE) {
+            throw new IOException("Data file exceeds the maximum size of 2 GB!");
+        }
+        data.force();
+        data = dataChannel.map(FileChannel.MapMode.READ_WRITE, 0, newSize);
+    }
+
+    private static byte[] encode(GuildSettings settings) {
+        byte[] prefix = settings.getPrefix().getBytes(StandardCharsets.UTF_8);
+        List<byte[]> helpLabels = new ArrayList<>();
+        int length = 4 + prefix.length + 1 + 4 + 4 + 4 + 8 * settings.getMutedChannels().size();
+        for (String label : settings.getHelpLabels()) {
+            byte[] bytes = label.getBytes(StandardCharsets.UTF_8);
+            helpLabels.add(bytes);
+            length += 4 + bytes.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.putInt(prefix.length).put(prefix);
+        byte flags = 0;
+        flags |= settings.isIgnoreCase() ? 1 : 0;
+        flags |= settings.isIgnoreBots() ? 2 : 0;
+        flags |= settings.isParseQuotes() ? 4 : 0;
+        flags |= settings.isMutedGuild() ? 8 : 0;
+        buffer.put(flags);
+        buffer.putInt(settings.getMaxDistance());
+        buffer.putInt(helpLabels.size());
+        for (byte[] label : helpLabels) {
+            buffer.putInt(label.length).put(label);
+        }
+        buffer.putInt(settings.getMutedChannels().size());
+        for (long channel : settings.getMutedChannels()) {
+            buffer.putLong(channel);
+        }
+        return buffer.array();
+    }
+
+    private GuildSettings decode(long offset) {
+        ByteBuffer buffer = data.duplicate();
+        buffer.position((int) offset + RECORD_HEADER_SIZE);
+        long guildId = data.getLong((int) offset);
+        String prefix = readString(buffer);
+        byte flags = buffer.get();
+        int maxDistance = buffer.getInt();
+        int labelCount = buffer.getInt();
+        Set<String> helpLabels = new HashSet<>();
+        for (int i = 0; i < labelCount; i++) {
+            helpLabels.add(readString(buffer));
+        }
+        int channelCount = buffer.getInt();
+        Set<Long> mutedChannels = new HashSet<>();
+        for (int i = 0; i < channelCount; i++) {
+            mutedChannels.add(buffer.getLong());
+        }
+        return new GuildSettings(guildId,
+                prefix,
+                (flags & 1) != 0,
+                (flags & 2) != 0,
+                (flags & 4) != 0,
+                helpLabels,
+                mutedChannels,
+                (flags & 8) != 0,
+                maxDistance
+        );
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void write(long guildId, GuildSettings settings) throws IOException {
+        byte[] record = encode(settings);
+        int slot = find(guildId);
+        if (slot < 0) {
+            // grow before appending, the rebuild would pick up the new record otherwise
+            ensureIndexCapacity();
+        }
+        if (slot >= 0) {
+            int offset = (int) index.getLong(slot(slot) + 8);
+            // overwrite in place if the record still fits
+            if (data.getInt(offset + 8) >= record.length) {
+                data.putInt(offset + 12, record.length);
+                data.position(offset + RECORD_HEADER_SIZE);
+                data.put(record);
+                return;
+            }
+            data.putInt(offset + 12, DELETED);
+        }
+
+        // leave some room, so growing settings can be written in place
+        int recordCapacity = Math.max(MIN_RECORD_CAPACITY, record.length + record.length / 2);
+        ensureDataCapacity(end + RECORD_HEADER_SIZE + recordCapacity);
+        int offset = (int) end;
+        data.putLong(offset, guildId);
+        data.putInt(offset + 8, recordCapacity);
+        data.putInt(offset + 12, record.length);
+        data.position(offset + RECORD_HEADER_SIZE);
+        data.put(record);
+        end += RECORD_HEADER_SIZE + recordCapacity;
+        data.putLong(8, end);
+
+        if (slot >= 0) {
+            index.putLong(slot(slot) + 8, offset);
+            return;
+        }
+        insert(guildId, offset);
+        writeIndexHeader();
+    }
+
+    private void remove(long guildId) {
+        int slot = find(guildId);
+        if (slot < 0) {
+            return;
+        }
+        data.putInt((int) index.getLong(slot(slot) + 8) + 12, DELETED);
+        index.putLong(slot(slot) + 8, TOMBSTONE);
+        size--;
+        tombstones++;
+        writeIndexHeader();
+    }
+
+    /**
+     * Writes all changes to the storage device.
+     */
+    public synchronized void flush() {
+        data.force();
+        index.force();
+    }
+
+    /**
+     * Writes all changes to the storage device and closes the files. Any further usage of this repository will fail.
+     */
+    public synchronized void close() {
+        flush();
+        try {
+            dataChannel.close();
+            indexChannel.close();
+        } catch (IOException e) {
+            log.error("Unable to close the mapped files!", e);
+        }
+    }
+
+    @Override
+    public synchronized long count() {
+        return size;
+    }
+
+    @Override
+    public synchronized void delete(long id) {
+        remove(id);
+    }
+
+    @Override
+    public synchronized void deleteAll(@NotNull Collection<Long> ids) {
+        ids.forEach(this::remove);
+    }
+
+    @Override
+    public synchronized boolean existsById(long id) {
+        return find(id) >= 0;
+    }
+
+    /**
+     * Returns all entities inside the repository. The returned collection is a snapshot of the guild ids, the
+     * {@link GuildSettings} themselves get materialized during iteration.
+     *
+     * @return all entities inside the repository
+     */
+    @Override
+    public synchronized Collection<GuildSettings> findAll() {
+        long[] ids = new long[size];
+        int count = 0;
+        for (int i = 0; i < capacity; i++) {
+            long value = index.getLong(slot(i) + 8);
+            if (value != EMPTY && value != TOMBSTONE) {
+                ids[count++] = index.getLong(slot(i));
+            }
+        }
+        return new AbstractCollection<GuildSettings>() {
+            @Override
+            public Iterator<GuildSettings> iterator() {
+                return Arrays.stream(ids)
+                        .mapToObj(GuildSettingsMappedRepository.this::findById)
+                        .filter(Optional::isPresent)
+                        .map(Optional::get)
+                        .iterator();
+            }
+
+            @Override
+            public int size() {
+                return ids.length;
+            }
+        };
+    }
+
+    @Override
+    public synchronized Optional<GuildSettings> findById(long id) {
+        int slot = find(id);
+        if (slot < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(decode(index.getLong(slot(slot) + 8)));
+    }
+
+    @Override
+    public synchronized void save(long id, @Nullable GuildSettings entity) {
+        if (entity == null) {
+            remove(id);
+            return;
+        }
+        try {
+            write(id, entity);
+        } catch (IOException e) {
+            log.error("An error has occurred while saving values!", e);
+        }
+    }
+
+    @Override
+    public synchronized void saveAll(@NotNull Map<@Nullable Long, @Nullable GuildSettings> entities) {
+        entities.forEach((id, entity) -> {
+            if (id != null) {
+                save(id, entity);
+            }
+        });
+    }
+}
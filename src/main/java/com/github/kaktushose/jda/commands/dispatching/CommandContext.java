@@ -1,6 +1,8 @@
 package com.github.kaktushose.jda.commands.dispatching;
 
 import com.github.kaktushose.jda.commands.JDACommands;
+import com.github.kaktushose.jda.commands.dispatching.adapter.MentionTable;
+import com.github.kaktushose.jda.commands.dispatching.parser.MessageTokens;
 import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
 import com.github.kaktushose.jda.commands.reflect.ImplementationRegistry;
 import com.github.kaktushose.jda.commands.settings.GuildSettings;
@@ -26,7 +28,9 @@ import java.util.List;
 public class CommandContext {
 
     private String[] input;
+    private MessageTokens tokens;
     private MessageReceivedEvent event;
+    private MentionTable mentions;
     private CommandDefinition command;
     private List<CommandDefinition> possibleCommands;
     private List<Object> arguments;
@@ -57,6 +61,27 @@ public class CommandContext {
         return this;
     }
 
+    /**
+     * Gets the {@link MessageTokens} the input was derived from.
+     *
+     * @return the {@link MessageTokens} or {@code null} if the parser didn't provide them
+     */
+    @Nullable
+    public MessageTokens getTokens() {
+        return tokens;
+    }
+
+    /**
+     * Set the {@link MessageTokens} the input was derived from.
+     *
+     * @param tokens the {@link MessageTokens}
+     * @return the current CommandContext instance
+     */
+    public CommandContext setTokens(@Nullable MessageTokens tokens) {
+        this.tokens = tokens;
+        return this;
+    }
+
     /**
      * Gets the corresponding {@link MessageReceivedEvent}.
      *
@@ -74,9 +99,22 @@ public class CommandContext {
      */
     public CommandContext setEvent(@NotNull MessageReceivedEvent event) {
         this.event = event;
+        mentions = null;
         return this;
     }
 
+    /**
+     * Gets the {@link MentionTable} of the message. The table is built on first access.
+     *
+     * @return the {@link MentionTable} of the message
+     */
+    public MentionTable getMentions() {
+        if (mentions == null) {
+            mentions = MentionTable.of(event == null ? null : event.getMessage());
+        }
+        return mentions;
+    }
+
     /**
      * Gets the {@link CommandDefinition}.
      *
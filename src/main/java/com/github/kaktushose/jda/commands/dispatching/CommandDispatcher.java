@@ -3,6 +3,7 @@ package com.github.kaktushose.jda.commands.dispatching;
 import com.github.kaktushose.jda.commands.JDACommands;
 import com.github.kaktushose.jda.commands.dependency.DependencyInjector;
 import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapterRegistry;
+import com.github.kaktushose.jda.commands.dispatching.filter.AsyncFilter;
 import com.github.kaktushose.jda.commands.dispatching.filter.Filter;
 import com.github.kaktushose.jda.commands.dispatching.filter.FilterRegistry;
 import com.github.kaktushose.jda.commands.dispatching.filter.FilterRegistry.FilterPosition;
@@ -20,7 +21,9 @@ import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 /**
  * Dispatches commands by taking a {@link CommandContext} and passing it through the execution chain.
@@ -32,6 +35,9 @@ import java.lang.reflect.InvocationTargetException;
 public class CommandDispatcher {
 
     private static final Logger log = LoggerFactory.getLogger(CommandDispatcher.class);
+    private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
+    private static final CompletableFuture<Boolean> PASSED = CompletableFuture.completedFuture(true);
+    private static final CompletableFuture<Boolean> CANCELLED = CompletableFuture.completedFuture(false);
     private static boolean isActive;
     private final Object jda;
     private final boolean isShardManager;
@@ -105,28 +111,40 @@ public class CommandDispatcher {
      */
     public void shutdown() {
         if (isShardManager) {
-            ((ShardManager) jda).removeEventListener(this);
+            ((ShardManager) jda).removeEventListener(parserSupervisor);
         } else {
-            ((JDA) jda).removeEventListener(this);
+            ((JDA) jda).removeEventListener(parserSupervisor);
+        }
+        DispatchExecutor executor = parserSupervisor.getExecutor();
+        if (executor != null) {
+            executor.shutdown();
         }
         isActive = false;
     }
 
     /**
      * Dispatches a {@link CommandContext}. This will route the command, apply all filters and parse the arguments.
-     * Finally, the command will be executed.
+     * Finally, the command will be executed. If an {@link AsyncFilter} or an
+     * {@link com.github.kaktushose.jda.commands.dispatching.adapter.AsyncTypeAdapter AsyncTypeAdapter} is involved,
+     * this returns early and the remaining steps run once it completes.
      *
      * @param context the {@link CommandContext} to dispatch.
+     * @return a {@link CompletableFuture} completing once the dispatching is done. Completes exceptionally if a
+     * filter, a type adapter or a message factory failed. Exceptions thrown by the command itself are only logged
      */
-    public void onEvent(@NotNull CommandContext context) {
-        log.debug("Applying filters in phase BEFORE_ROUTING...");
-        for (Filter filter : filterRegistry.getAll(FilterPosition.BEFORE_ROUTING)) {
-            filter.apply(context);
-            if (checkCancelled(context)) {
-                return;
-            }
+    public CompletableFuture<Void> onEvent(@NotNull CommandContext context) {
+        try {
+            log.debug("Applying filters in phase BEFORE_ROUTING...");
+            List<Filter> filters = filterRegistry.getAll(FilterPosition.BEFORE_ROUTING);
+            return whenPassed(applyFilters(filters, 0, context), () -> route(context));
+        } catch (RuntimeException e) {
+            CompletableFuture<Void> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
         }
+    }
 
+    private CompletableFuture<Void> route(CommandContext context) {
         HelpMessageFactory helpMessageFactory = implementationRegistry.getHelpMessageFactory();
         Router router = implementationRegistry.getRouter();
         MessageSender sender = implementationRegistry.getMessageSender();
@@ -136,12 +154,12 @@ public class CommandDispatcher {
         if (context.isCancelled() && context.isHelpEvent()) {
             log.debug("Sending generic help");
             sender.sendGenericHelpMessage(context, helpMessageFactory.getGenericHelp(commandRegistry.getControllers(), context));
-            return;
+            return DONE;
         }
 
         if (checkCancelled(context)) {
             log.debug("No matching command found!");
-            return;
+            return DONE;
         }
 
         CommandDefinition command = context.getCommand();
@@ -150,41 +168,69 @@ public class CommandDispatcher {
         if (context.isHelpEvent()) {
             log.debug("Sending specific help");
             sender.sendSpecificHelpMessage(context, helpMessageFactory.getSpecificHelp(context));
-            return;
+            return DONE;
         }
 
         log.debug("Applying filters in phase BEFORE_ADAPTING...");
-        for (Filter filter : filterRegistry.getAll(FilterPosition.BEFORE_ADAPTING)) {
-            filter.apply(context);
-            if (checkCancelled(context)) {
-                return;
-            }
-        }
+        List<Filter> filters = filterRegistry.getChain(command).getAll(FilterPosition.BEFORE_ADAPTING);
+        return whenPassed(applyFilters(filters, 0, context), () -> adapt(context));
+    }
+
+    private CompletableFuture<Void> adapt(CommandContext context) {
+        // continues on the calling thread if all type adapters are already done
+        return adapterRegistry.adaptAsync(context).thenCompose(ignored -> execute(context));
+    }
 
-        adapterRegistry.adapt(context);
+    private CompletableFuture<Void> execute(CommandContext context) {
         if (checkCancelled(context)) {
-            return;
+            return DONE;
         }
 
         log.debug("Applying filters in phase BEFORE_EXECUTION...");
-        for (Filter filter : filterRegistry.getAll(FilterPosition.BEFORE_EXECUTION)) {
-            filter.apply(context);
-            if (checkCancelled(context)) {
-                return;
-            }
-        }
-
-        if (checkCancelled(context)) {
-            return;
-        }
+        List<Filter> filters = filterRegistry.getChain(context.getCommand()).getAll(FilterPosition.BEFORE_EXECUTION);
+        return whenPassed(applyFilters(filters, 0, context), () -> invoke(context));
+    }
 
+    private CompletableFuture<Void> invoke(CommandContext context) {
+        CommandDefinition command = context.getCommand();
         log.info("Executing command {} for user {}", command.getMethod().getName(), context.getEvent().getAuthor());
         try {
             log.debug("Invoking method with following arguments: {}", context.getArguments());
-            command.getMethod().invoke(command.getInstance(), context.getArguments().toArray());
-        } catch (Exception e) {
-            log.error("Command execution failed!", new InvocationTargetException(e));
+            command.invoke(context.getArguments().toArray());
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            log.error("Command execution failed!", t);
         }
+        return DONE;
+    }
+
+    private CompletableFuture<Boolean> applyFilters(List<Filter> filters, int from, CommandContext context) {
+        for (int i = from; i < filters.size(); i++) {
+            Filter filter = filters.get(i);
+            if (filter instanceof AsyncFilter) {
+                CompletableFuture<Void> filtering = ((AsyncFilter) filter).applyAsync(context);
+                if (!filtering.isDone() || filtering.isCompletedExceptionally()) {
+                    // the remaining filters are applied once the asynchronous filter completes
+                    int next = i + 1;
+                    return filtering.thenCompose(ignored ->
+                            checkCancelled(context) ? CANCELLED : applyFilters(filters, next, context)
+                    );
+                }
+            } else {
+                filter.apply(context);
+            }
+            if (checkCancelled(context)) {
+                return CANCELLED;
+            }
+        }
+        return PASSED;
+    }
+
+    private CompletableFuture<Void> whenPassed(CompletableFuture<Boolean> filtering,
+                                               Supplier<CompletableFuture<Void>> next) {
+        // continues on the calling thread if all filters are already done
+        return filtering.thenCompose(passed -> passed ? next.get() : DONE);
     }
 
     private boolean checkCancelled(CommandContext context) {
@@ -55,7 +55,7 @@ public class CommandEvent extends MessageReceivedEvent {
      * @param message the message to send
      */
     public void reply(@NotNull String message) {
-        getChannel().sendMessage(message).queue();
+        reply(MessageCreateData.fromContent(message), null);
     }
 
     /**
@@ -82,7 +82,7 @@ public class CommandEvent extends MessageReceivedEvent {
      * @see <a href="https://ci.dv8tion.net/job/JDA/javadoc/net/dv8tion/jda/api/requests/RestAction.html">JDA RestAction Documentation</a>
      */
     public void reply(@NotNull String message, @Nullable Consumer<Message> success) {
-        getChannel().sendMessage(message).queue(success);
+        reply(MessageCreateData.fromContent(message), success);
     }
 
     /**
@@ -91,7 +91,7 @@ public class CommandEvent extends MessageReceivedEvent {
      * @param message the {@code Message} to send
      */
     public void reply(@NotNull MessageCreateData message) {
-        getChannel().sendMessage(message).queue();
+        reply(message, null);
     }
 
     /**
@@ -103,7 +103,7 @@ public class CommandEvent extends MessageReceivedEvent {
      * @see <a href="https://ci.dv8tion.net/job/JDA/javadoc/net/dv8tion/jda/api/requests/RestAction.html">JDA RestAction Documentation</a>
      */
     public void reply(@NotNull MessageCreateData message, @Nullable Consumer<Message> success) {
-        getChannel().sendMessage(message).queue(success);
+        context.getImplementationRegistry().getMessageSender().sendReply(context, message, success);
     }
 
     /**
@@ -112,7 +112,7 @@ public class CommandEvent extends MessageReceivedEvent {
      * @param messageBuilder the {@code MessageBuilder} to send
      */
     public void reply(@NotNull MessageCreateBuilder messageBuilder) {
-        getChannel().sendMessage(messageBuilder.build()).queue();
+        reply(messageBuilder.build(), null);
     }
 
     /**
@@ -124,7 +124,7 @@ public class CommandEvent extends MessageReceivedEvent {
      * @see <a href="https://ci.dv8tion.net/job/JDA/javadoc/net/dv8tion/jda/api/requests/RestAction.html">JDA RestAction Documentation</a>
      */
     public void reply(@NotNull MessageCreateBuilder messageBuilder, @Nullable Consumer<Message> success) {
-        getChannel().sendMessage(messageBuilder.build()).queue(success);
+        reply(messageBuilder.build(), success);
     }
 
     /**
@@ -133,7 +133,7 @@ public class CommandEvent extends MessageReceivedEvent {
      * @param embedBuilder the {@code EmbedBuilder} to send
      */
     public void reply(@NotNull EmbedBuilder embedBuilder) {
-        getChannel().sendMessageEmbeds(embedBuilder.build()).queue();
+        reply(MessageCreateData.fromEmbeds(embedBuilder.build()), null);
     }
 
     /**
@@ -145,7 +145,7 @@ public class CommandEvent extends MessageReceivedEvent {
      * @see <a href="https://ci.dv8tion.net/job/JDA/javadoc/net/dv8tion/jda/api/requests/RestAction.html">JDA RestAction Documentation</a>
      */
     public void reply(@NotNull EmbedBuilder embedBuilder, @Nullable Consumer<Message> success) {
-        getChannel().sendMessageEmbeds(embedBuilder.build()).queue(success);
+        reply(MessageCreateData.fromEmbeds(embedBuilder.build()), success);
     }
 
     /**
@@ -154,7 +154,7 @@ public class CommandEvent extends MessageReceivedEvent {
      * @param embedDTO the {@link EmbedDTO} to send
      */
     public void reply(@NotNull EmbedDTO embedDTO) {
-        getChannel().sendMessageEmbeds(embedDTO.toEmbedBuilder().build()).queue();
+        reply(embedDTO.toEmbedBuilder(), null);
     }
 
     /**
@@ -166,7 +166,7 @@ public class CommandEvent extends MessageReceivedEvent {
      * @see <a href="https://ci.dv8tion.net/job/JDA/javadoc/net/dv8tion/jda/api/requests/RestAction.html">JDA RestAction Documentation</a>
      */
     public void reply(@NotNull EmbedDTO embedDTO, @Nullable Consumer<Message> success) {
-        getChannel().sendMessageEmbeds(embedDTO.toEmbedBuilder().build()).queue(success);
+        reply(embedDTO.toEmbedBuilder(), success);
     }
 
     /**
@@ -0,0 +1,427 @@
+package com.github.kaktushose.jda.commands.dispatching;
+
+import com.github.kaktushose.jda.commands.dispatching.parser.ParserSupervisor;
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.events.guild.GenericGuildEvent;
+import net.dv8tion.jda.api.events.message.GenericMessageEvent;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Executes the parsing and dispatching of events outside the JDA event thread. By default, the
+ * {@link ParserSupervisor} runs the whole execution chain inline, thus one slow command stalls every other event of
+ * the same shard. Once a DispatchExecutor is set via {@link ParserSupervisor#setExecutor(DispatchExecutor)}, every
+ * event gets submitted to the underlying {@link Executor} instead.
+ *
+ * <p>Events can optionally be executed in order per guild or per channel, see {@link Ordering}. The amount of events
+ * waiting for execution is bounded, events exceeding the capacity are handled by the {@link RejectionPolicy}. Events
+ * that continue asynchronously, e.g. while waiting for a permission check, stay pending until they are done.
+ *
+ * <p>The configuration must be done before the DispatchExecutor gets passed to the {@link ParserSupervisor}.
+ *
+ * @author Kaktushose
+ * @version 3.0.0
+ * @see ParserSupervisor#setExecutor(DispatchExecutor)
+ * @since 3.0.0
+ */
+public class DispatchExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(DispatchExecutor.class);
+    private final Executor executor;
+    private final boolean isOwner;
+    private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
+    private final Map<Long, Deque<Supplier<? extends CompletionStage<?>>>> queues;
+    private final AtomicInteger pending;
+    private Ordering ordering;
+    private RejectionPolicy rejectionPolicy;
+    private int capacity;
+
+    private DispatchExecutor(Executor executor, boolean isOwner) {
+        this.executor = executor;
+        this.isOwner = isOwner;
+        queues = new ConcurrentHashMap<>();
+        pending = new AtomicInteger();
+        ordering = Ordering.NONE;
+        rejectionPolicy = RejectionPolicy.DISCARD;
+        capacity = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Creates a new DispatchExecutor backed by the given {@link Executor}. The {@link Executor} will not be shut down
+     * by {@link #shutdown()}.
+     *
+     * @param executor the {@link Executor} to use
+     * @return a new DispatchExecutor
+     */
+    public static DispatchExecutor of(@NotNull Executor executor) {
+        return new DispatchExecutor(executor, false);
+    }
+
+    /**
+     * Creates a new DispatchExecutor backed by a thread pool with a fixed amount of threads.
+     *
+     * @param threads the number of threads in the pool
+     * @return a new DispatchExecutor
+     */
+    public static DispatchExecutor fixed(int threads) {
+        AtomicInteger count = new AtomicInteger();
+        return new DispatchExecutor(Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "JDA-Commands Dispatcher " + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }), true);
+    }
+
+    /**
+     * Creates a new DispatchExecutor backed by a work-stealing {@link ForkJoinPool}.
+     *
+     * @param parallelism the targeted parallelism level
+     * @return a new DispatchExecutor
+     */
+    public static DispatchExecutor forkJoin(int parallelism) {
+        return new DispatchExecutor(new ForkJoinPool(parallelism), true);
+    }
+
+    /**
+     * Creates a new DispatchExecutor that starts a new virtual thread for each event.
+     *
+     * @return a new DispatchExecutor
+     * @throws UnsupportedOperationException if the runtime doesn't support virtual threads, which requires Java 21 or
+     *                                       newer
+     */
+    public static DispatchExecutor virtual() {
+        ExecutorService executor;
+        try {
+            // resolved reflectively to stay compatible with Java 8
+            executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or newer!", e);
+        }
+        return new DispatchExecutor(executor, true);
+    }
+
+    /**
+     * Submits an event for execution, respecting the {@link Ordering}.
+     *
+     * @param event the {@link GenericEvent} the task belongs to
+     * @param task  the task to execute
+     */
+    public void execute(@NotNull GenericEvent event, @NotNull Runnable task) {
+        executeAsync(event, adapt(task));
+    }
+
+    /**
+     * Submits a task for execution. All tasks sharing the same key are executed one after another in the order they
+     * were submitted.
+     *
+     * @param key  the key determining the order
+     * @param task the task to execute
+     */
+    public void execute(long key, @NotNull Runnable task) {
+        executeAsync(key, adapt(task));
+    }
+
+    /**
+     * Submits an event for execution, respecting the {@link Ordering}. The task counts as pending and blocks the
+     * following tasks of the same key until the returned {@link CompletionStage} completes.
+     *
+     * @param event the {@link GenericEvent} the task belongs to
+     * @param task  the task to execute, returning a {@link CompletionStage} that completes once the task is done
+     */
+    public void executeAsync(@NotNull GenericEvent event, @NotNull Supplier<? extends CompletionStage<?>> task) {
+        long key = ordering.getKey(event);
+        if (key == Ordering.UNORDERED) {
+            submit(task);
+            return;
+        }
+        executeAsync(key, task);
+    }
+
+    /**
+     * Submits a task for execution. All tasks sharing the same key are executed one after another in the order they
+     * were submitted. A task is done once the returned {@link CompletionStage} completes.
+     *
+     * @param key  the key determining the order
+     * @param task the task to execute, returning a {@link CompletionStage} that completes once the task is done
+     */
+    public void executeAsync(long key, @NotNull Supplier<? extends CompletionStage<?>> task) {
+        if (!reserve(task)) {
+            return;
+        }
+        boolean[] isIdle = new boolean[1];
+        queues.compute(key, (k, queue) -> {
+            if (queue == null) {
+                queue = new ArrayDeque<>();
+                isIdle[0] = true;
+            }
+            queue.add(task);
+            return queue;
+        });
+        if (isIdle[0]) {
+            schedule(key, task);
+        }
+    }
+
+    private Supplier<CompletionStage<?>> adapt(Runnable task) {
+        return () -> {
+            task.run();
+            return DONE;
+        };
+    }
+
+    private void submit(Supplier<? extends CompletionStage<?>> task) {
+        if (!reserve(task)) {
+            return;
+        }
+        try {
+            executor.execute(() -> run(task).whenComplete((ignored, throwable) -> pending.decrementAndGet()));
+        } catch (RejectedExecutionException e) {
+            pending.decrementAndGet();
+            log.warn("Executor rejected event! The event will be ignored.", e);
+        }
+    }
+
+    private void schedule(long key, Supplier<? extends CompletionStage<?>> task) {
+        try {
+            // the slot of the key is released once the task is done, not when it returns
+            executor.execute(() -> run(task).whenComplete((ignored, throwable) -> {
+                pending.decrementAndGet();
+                next(key);
+            }));
+        } catch (RejectedExecutionException e) {
+            Deque<Supplier<? extends CompletionStage<?>>> dropped = queues.remove(key);
+            pending.addAndGet(-(dropped == null ? 1 : dropped.size()));
+            log.warn("Executor rejected event! All queued events for key {} will be ignored.", key, e);
+        }
+    }
+
+    private void next(long key) {
+        List<Supplier<? extends CompletionStage<?>>> next = new ArrayList<>(1);
+        queues.computeIfPresent(key, (k, queue) -> {
+            // the head is the task that just finished
+            queue.poll();
+            if (queue.isEmpty()) {
+                return null;
+            }
+            next.add(queue.peek());
+            return queue;
+        });
+        if (!next.isEmpty()) {
+            // resubmit instead of looping to not starve other keys
+            schedule(key, next.get(0));
+        }
+    }
+
+    private boolean reserve(Supplier<? extends CompletionStage<?>> task) {
+        if (pending.incrementAndGet() <= capacity) {
+            return true;
+        }
+        pending.decrementAndGet();
+        switch (rejectionPolicy) {
+            case CALLER_RUNS:
+                log.debug("Capacity of {} exceeded! Executing event on the calling thread", capacity);
+                run(task);
+                break;
+            case DISCARD:
+            default:
+                log.warn("Capacity of {} exceeded! The event will be ignored.", capacity);
+        }
+        return false;
+    }
+
+    private CompletionStage<?> run(Supplier<? extends CompletionStage<?>> task) {
+        CompletionStage<?> stage;
+        try {
+            stage = task.get();
+        } catch (Throwable t) {
+            log.error("Event execution failed!", t);
+            return DONE;
+        }
+        if (stage == null) {
+            return DONE;
+        }
+        return stage.whenComplete((ignored, throwable) -> {
+            if (throwable != null) {
+                log.error("Event execution failed!", throwable);
+            }
+        });
+    }
+
+    /**
+     * Shuts down the underlying {@link Executor} if it was created by this class. Already submitted events will still
+     * be executed.
+     */
+    public void shutdown() {
+        if (isOwner && executor instanceof ExecutorService) {
+            ((ExecutorService) executor).shutdown();
+        }
+    }
+
+    /**
+     * Gets the number of events that are waiting for or currently in execution.
+     *
+     * @return the number of pending events
+     */
+    public int getPending() {
+        return pending.get();
+    }
+
+    /**
+     * Gets the underlying {@link Executor}.
+     *
+     * @return the underlying {@link Executor}
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Gets the {@link Ordering}.
+     *
+     * @return the {@link Ordering}
+     */
+    public Ordering getOrdering() {
+        return ordering;
+    }
+
+    /**
+     * Sets the {@link Ordering}. Default value is {@link Ordering#NONE}.
+     *
+     * @param ordering the new {@link Ordering}
+     * @return this instance
+     */
+    public DispatchExecutor setOrdering(@NotNull Ordering ordering) {
+        this.ordering = ordering;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of pending events.
+     *
+     * @return the maximum number of pending events
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Sets the maximum number of pending events. Default value is {@link Integer#MAX_VALUE}.
+     *
+     * @param capacity the maximum number of pending events
+     * @return this instance
+     * @throws IllegalArgumentException if the capacity is less than one
+     */
+    public DispatchExecutor setCapacity(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1!");
+        }
+        this.capacity = capacity;
+        return this;
+    }
+
+    /**
+     * Gets the {@link RejectionPolicy}.
+     *
+     * @return the {@link RejectionPolicy}
+     */
+    public RejectionPolicy getRejectionPolicy() {
+        return rejectionPolicy;
+    }
+
+    /**
+     * Sets the {@link RejectionPolicy}. Default value is {@link RejectionPolicy#DISCARD}.
+     *
+     * @param rejectionPolicy the new {@link RejectionPolicy}
+     * @return this instance
+     */
+    public DispatchExecutor setRejectionPolicy(@NotNull RejectionPolicy rejectionPolicy) {
+        this.rejectionPolicy = rejectionPolicy;
+        return this;
+    }
+
+    /**
+     * Enum describing the execution order of events.
+     *
+     * @author Kaktushose
+     * @version 3.0.0
+     * @since 3.0.0
+     */
+    public enum Ordering {
+
+        /**
+         * Events are executed in any order.
+         */
+        NONE {
+            @Override
+            long getKey(GenericEvent event) {
+                return UNORDERED;
+            }
+        },
+
+        /**
+         * Events of the same guild are executed in the order they were received. Events from direct messages are
+         * ordered per channel.
+         */
+        GUILD {
+            @Override
+            long getKey(GenericEvent event) {
+                if (event instanceof GenericMessageEvent) {
+                    GenericMessageEvent messageEvent = (GenericMessageEvent) event;
+                    return messageEvent.isFromGuild() ? messageEvent.getGuild().getIdLong() : messageEvent.getChannel().getIdLong();
+                }
+                if (event instanceof GenericGuildEvent) {
+                    return ((GenericGuildEvent) event).getGuild().getIdLong();
+                }
+                return UNORDERED;
+            }
+        },
+
+        /**
+         * Events of the same channel are executed in the order they were received.
+         */
+        CHANNEL {
+            @Override
+            long getKey(GenericEvent event) {
+                if (event instanceof GenericMessageEvent) {
+                    return ((GenericMessageEvent) event).getChannel().getIdLong();
+                }
+                return UNORDERED;
+            }
+        };
+
+        private static final long UNORDERED = -1;
+
+        abstract long getKey(GenericEvent event);
+    }
+
+    /**
+     * Enum describing how events are handled that exceed the capacity.
+     *
+     * @author Kaktushose
+     * @version 3.0.0
+     * @since 3.0.0
+     */
+    public enum RejectionPolicy {
+
+        /**
+         * The event will be ignored.
+         */
+        DISCARD,
+
+        /**
+         * The event will be executed on the calling thread, usually the JDA event thread. This slows down the event
+         * intake until the executor caught up, but doesn't respect the {@link Ordering}.
+         */
+        CALLER_RUNS
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.kaktushose.jda.commands.dispatching.adapter;
+
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import net.dv8tion.jda.api.exceptions.ErrorResponseException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * A {@link TypeAdapter} that doesn't block while parsing, e.g. because it has to make a request to Discord. The
+ * {@link TypeAdapterRegistry} resolves all async adapters of a command concurrently and continues dispatching once
+ * all of them are completed.
+ *
+ * @param <T> the type the adapter parses
+ * @author Kaktushose
+ * @version 3.0.0
+ * @see TypeAdapterRegistry#adaptAsync(CommandContext)
+ * @since 3.0.0
+ */
+public interface AsyncTypeAdapter<T> extends TypeAdapter<T> {
+
+    /**
+     * Attempts to parse a String to the given type without blocking.
+     *
+     * @param raw     the String to parse
+     * @param context the {@link CommandContext}
+     * @return a {@link CompletableFuture} completing with the parsed type or an empty Optional if the parsing fails
+     */
+    CompletableFuture<Optional<T>> parseAsync(@NotNull String raw, @NotNull CommandContext context);
+
+    /**
+     * Attempts to parse a String to the given type. This blocks until {@link #parseAsync(String, CommandContext)}
+     * is completed, thus it shouldn't be called from a JDA callback thread.
+     *
+     * @param raw     the String to parse
+     * @param context the {@link CommandContext}
+     * @return the parsed type or an empty Optional if the parsing fails
+     */
+    @Override
+    default Optional<T> parse(@NotNull String raw, @NotNull CommandContext context) {
+        return parseAsync(raw, context).join();
+    }
+
+    /**
+     * Maps a failed request to an empty Optional if Discord responded with an error, e.g. because the entity doesn't
+     * exist. Any other failure is passed on.
+     *
+     * @param throwable the cause of the failure
+     * @return an empty Optional
+     * @throws CompletionException if the failure wasn't caused by an {@link ErrorResponseException}
+     */
+    default Optional<T> emptyOnErrorResponse(@NotNull Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+        if (cause instanceof ErrorResponseException) {
+            return Optional.empty();
+        }
+        throw throwable instanceof CompletionException ? (CompletionException) throwable : new CompletionException(throwable);
+    }
+}
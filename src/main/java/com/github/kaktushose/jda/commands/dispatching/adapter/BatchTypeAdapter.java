@@ -0,0 +1,33 @@
+package com.github.kaktushose.jda.commands.dispatching.adapter;
+
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An {@link AsyncTypeAdapter} that can parse multiple arguments at once, e.g. to retrieve several entities with a
+ * single request. If a command has more than one parameter handled by the same adapter, the
+ * {@link TypeAdapterRegistry} passes all of them to {@link #parseAll(List, CommandContext)} instead of parsing each
+ * argument on its own.
+ *
+ * @param <T> the type the adapter parses
+ * @author Kaktushose
+ * @version 3.0.0
+ * @see TypeAdapterRegistry#adaptAsync(CommandContext)
+ * @since 3.0.0
+ */
+public interface BatchTypeAdapter<T> extends AsyncTypeAdapter<T> {
+
+    /**
+     * Attempts to parse multiple Strings to the given type without blocking.
+     *
+     * @param raws    the Strings to parse
+     * @param context the {@link CommandContext}
+     * @return a {@link CompletableFuture} completing with a list holding one result for each String in the same
+     * order. A result is an empty Optional if the parsing fails
+     */
+    CompletableFuture<List<Optional<T>>> parseAll(@NotNull List<String> raws, @NotNull CommandContext context);
+}
@@ -0,0 +1,63 @@
+package com.github.kaktushose.jda.commands.dispatching.adapter;
+
+import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
+
+/**
+ * The compiled argument binding of a {@link CommandDefinition}. The {@link TypeAdapter TypeAdapters} of all
+ * parameters are resolved once and constant default values are adapted in advance, thus type adapting the input of a
+ * command doesn't need any lookups.
+ *
+ * <p>A plan belongs to the {@link TypeAdapterRegistry} that compiled it and becomes stale as soon as an adapter gets
+ * registered or unregistered. Stale plans are compiled again on the next use.
+ *
+ * @author Kaktushose
+ * @version 3.0.0
+ * @see TypeAdapterRegistry#compile(java.util.List)
+ * @since 3.0.0
+ */
+public class BindingPlan {
+
+    final TypeAdapterRegistry registry;
+    final long version;
+    final TypeAdapter<?>[] adapters;
+    final Object[] defaults;
+    final boolean[] hasDefault;
+    final int arrayIndex;
+    final int concatIndex;
+
+    BindingPlan(TypeAdapterRegistry registry,
+                long version,
+                TypeAdapter<?>[] adapters,
+                Object[] defaults,
+                boolean[] hasDefault,
+                int arrayIndex,
+                int concatIndex) {
+        this.registry = registry;
+        this.version = version;
+        this.adapters = adapters;
+        this.defaults = defaults;
+        this.hasDefault = hasDefault;
+        this.arrayIndex = arrayIndex;
+        this.concatIndex = concatIndex;
+    }
+
+    /**
+     * Gets the amount of arguments, including the {@link com.github.kaktushose.jda.commands.dispatching.CommandEvent
+     * CommandEvent}.
+     *
+     * @return the amount of arguments
+     */
+    public int size() {
+        return adapters.length;
+    }
+
+    /**
+     * Whether this plan was compiled by the given {@link TypeAdapterRegistry} and is still up to date.
+     *
+     * @param registry the {@link TypeAdapterRegistry} to check
+     * @return {@code true} if this plan can be used by the given {@link TypeAdapterRegistry}
+     */
+    public boolean isValid(TypeAdapterRegistry registry) {
+        return this.registry == registry && version == registry.getVersion();
+    }
+}
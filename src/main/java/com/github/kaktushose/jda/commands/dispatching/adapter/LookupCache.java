@@ -0,0 +1,351 @@
+package com.github.kaktushose.jda.commands.dispatching.adapter;
+
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.reflect.ImplementationRegistry;
+import com.github.kaktushose.jda.commands.util.LruEviction;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.events.guild.GuildLeaveEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberJoinEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberRemoveEvent;
+import net.dv8tion.jda.api.events.guild.member.update.GenericGuildMemberUpdateEvent;
+import net.dv8tion.jda.api.events.user.GenericUserEvent;
+import net.dv8tion.jda.api.events.user.update.GenericUserPresenceEvent;
+import net.dv8tion.jda.api.events.user.update.GenericUserUpdateEvent;
+import net.dv8tion.jda.api.hooks.ListenerAdapter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A cache for {@link Member Members} and {@link User Users} that the built-in {@link TypeAdapter TypeAdapters} had to
+ * retrieve from Discord by their id. This avoids repeating the same request for every command and saves rate limits.
+ *
+ * <p>Ids that don't exist are cached as well, but for a shorter duration, so that invalid ids aren't retried on every
+ * attempt. Concurrent lookups of the same id share one request. Once the cache exceeds its maximum size, the least
+ * recently used entries get evicted.
+ *
+ * <p>Cached entities are invalidated by JDA events, e.g. if a member leaves or updates, thus this cache must be
+ * registered as an event listener:
+ * <pre>
+ *     LookupCache cache = new LookupCache(10_000, 10, 1, TimeUnit.MINUTES);
+ *     jdaCommands.getAdapterRegistry().setLookupCache(cache);
+ *     jda.addEventListener(cache);
+ * </pre>
+ *
+ * @author Kaktushose
+ * @version 3.0.0
+ * @see TypeAdapterRegistry#setLookupCache(LookupCache)
+ * @since 3.0.0
+ */
+public class LookupCache extends ListenerAdapter {
+
+    private static final Logger log = LoggerFactory.getLogger(LookupCache.class);
+    private static final long NO_GUILD = 0;
+    private final Map<Key, Entry> cache;
+    private final LruEviction eviction;
+    private final long expireAfter;
+    private final long expireMissingAfter;
+    private final LongAdder hits;
+    private final LongAdder negativeHits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    /**
+     * Constructs a new LookupCache.
+     *
+     * @param maximumSize        the maximum amount of cached entries
+     * @param expireAfter        the duration after which a found entity gets retrieved again
+     * @param expireMissingAfter the duration after which an id that wasn't found gets retrieved again
+     * @param unit               the {@link TimeUnit} of the durations
+     * @throws IllegalArgumentException if the maximum size or a duration is less than one
+     */
+    public LookupCache(long maximumSize, long expireAfter, long expireMissingAfter, @NotNull TimeUnit unit) {
+        if (maximumSize < 1 || expireAfter < 1 || expireMissingAfter < 1) {
+            throw new IllegalArgumentException("Maximum size and durations must be at least 1!");
+        }
+        this.expireAfter = unit.toNanos(expireAfter);
+        this.expireMissingAfter = unit.toNanos(expireMissingAfter);
+        cache = new ConcurrentHashMap<>();
+        eviction = new LruEviction(maximumSize);
+        hits = new LongAdder();
+        negativeHits = new LongAdder();
+        misses = new LongAdder();
+        evictions = new LongAdder();
+    }
+
+    /**
+     * Gets the LookupCache used by the {@link TypeAdapterRegistry} of the given {@link CommandContext}.
+     *
+     * @param context the {@link CommandContext}
+     * @return the LookupCache or {@code null} if no cache is used
+     */
+    @Nullable
+    public static LookupCache of(@NotNull CommandContext context) {
+        ImplementationRegistry registry = context.getImplementationRegistry();
+        if (registry == null || registry.getTypeAdapterRegistry() == null) {
+            return null;
+        }
+        return registry.getTypeAdapterRegistry().getLookupCache();
+    }
+
+    /**
+     * Gets a {@link Member} from the cache or retrieves it using the given request.
+     *
+     * @param guildId the id of the guild
+     * @param userId  the id of the member
+     * @param request the request retrieving the {@link Member}, completing with an empty Optional if the member
+     *                doesn't exist
+     * @return a {@link CompletableFuture} completing with the {@link Member} or an empty Optional
+     */
+    public CompletableFuture<Optional<Member>> getMember(long guildId,
+                                                         long userId,
+                                                         @NotNull Supplier<CompletableFuture<Optional<Member>>> request) {
+        return get(new Key(guildId, userId), request);
+    }
+
+    /**
+     * Gets a {@link User} from the cache or retrieves it using the given request.
+     *
+     * @param userId  the id of the user
+     * @param request the request retrieving the {@link User}, completing with an empty Optional if the user doesn't
+     *                exist
+     * @return a {@link CompletableFuture} completing with the {@link User} or an empty Optional
+     */
+    public CompletableFuture<Optional<User>> getUser(long userId,
+                                                     @NotNull Supplier<CompletableFuture<Optional<User>>> request) {
+        return get(new Key(NO_GUILD, userId), request);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<Optional<T>> get(Key key, Supplier<CompletableFuture<Optional<T>>> request) {
+        long now = System.nanoTime();
+        Entry entry = cache.get(key);
+        if (entry != null && entry.isValid(now)) {
+            entry.accessedAt = now;
+            if (entry.isMissing) {
+                negativeHits.increment();
+            } else {
+                hits.increment();
+            }
+            return (CompletableFuture<Optional<T>>) entry.result;
+        }
+        misses.increment();
+
+        // concurrent lookups of the same id share the pending request
+        CompletableFuture<Optional<T>> placeholder = new CompletableFuture<>();
+        Entry created = new Entry(placeholder, now);
+        entry = cache.compute(key, (ignored, current) -> {
+            if (current != null && current.isValid(now)) {
+                return current;
+            }
+            return created;
+        });
+        if (entry != created) {
+            return (CompletableFuture<Optional<T>>) entry.result;
+        }
+        placeholder.whenComplete((optional, throwable) -> {
+            if (throwable != null) {
+                // failures other than unknown ids aren't cached
+                cache.remove(key, created);
+                return;
+            }
+            created.isMissing = !optional.isPresent();
+            created.expiresAt = System.nanoTime() + (created.isMissing ? expireMissingAfter : expireAfter);
+            created.isCompleted = true;
+        });
+        evict();
+        // the request is started outside of compute(), which must not run long or recursive operations
+        try {
+            request.get().whenComplete((optional, throwable) -> {
+                if (throwable != null) {
+                    placeholder.completeExceptionally(throwable);
+                } else {
+                    placeholder.complete(optional);
+                }
+            });
+        } catch (RuntimeException e) {
+            placeholder.completeExceptionally(e);
+        }
+        return placeholder;
+    }
+
+    private void evict() {
+        int evicted = eviction.evict(cache, entry -> entry.accessedAt);
+        if (evicted > 0) {
+            evictions.add(evicted);
+            log.debug("Evicted {} cached lookups", evicted);
+        }
+    }
+
+    /**
+     * Removes the cached {@link Member} of the given guild.
+     *
+     * @param guildId the id of the guild
+     * @param userId  the id of the member
+     */
+    public void invalidateMember(long guildId, long userId) {
+        cache.remove(new Key(guildId, userId));
+    }
+
+    /**
+     * Removes the cached {@link User} and all cached {@link Member Members} of this user.
+     *
+     * @param userId the id of the user
+     */
+    public void invalidateUser(long userId) {
+        cache.keySet().removeIf(key -> key.id == userId);
+    }
+
+    /**
+     * Removes all cached {@link Member Members} of the given guild.
+     *
+     * @param guildId the id of the guild
+     */
+    public void invalidateGuild(long guildId) {
+        cache.keySet().removeIf(key -> key.guildId == guildId);
+    }
+
+    /**
+     * Removes all cached entries.
+     */
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    /**
+     * Gets the amount of cached entries, including ids that weren't found.
+     *
+     * @return the amount of cached entries
+     */
+    public long size() {
+        return cache.size();
+    }
+
+    /**
+     * Gets the amount of lookups that were served from the cache with an existing entity.
+     *
+     * @return the amount of cache hits
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the amount of lookups that were served from the cache with an id that doesn't exist.
+     *
+     * @return the amount of negative cache hits
+     */
+    public long getNegativeHitCount() {
+        return negativeHits.sum();
+    }
+
+    /**
+     * Gets the amount of lookups that had to make a request.
+     *
+     * @return the amount of cache misses
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the ratio of lookups that were served from the cache, including ids that weren't found.
+     *
+     * @return the hit rate between {@code 0} and {@code 1}, or {@code 1} if there weren't any lookups yet
+     */
+    public double getHitRate() {
+        long hits = getHitCount() + getNegativeHitCount();
+        long total = hits + getMissCount();
+        return total == 0 ? 1 : (double) hits / total;
+    }
+
+    /**
+     * Gets the amount of entries that were evicted due to the size limit.
+     *
+     * @return the amount of evictions
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public void onGuildLeave(@NotNull GuildLeaveEvent event) {
+        invalidateGuild(event.getGuild().getIdLong());
+    }
+
+    @Override
+    public void onGuildMemberJoin(@NotNull GuildMemberJoinEvent event) {
+        // the member might be cached as missing
+        invalidateMember(event.getGuild().getIdLong(), event.getUser().getIdLong());
+    }
+
+    @Override
+    public void onGuildMemberRemove(@NotNull GuildMemberRemoveEvent event) {
+        invalidateMember(event.getGuild().getIdLong(), event.getUser().getIdLong());
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void onGenericGuildMemberUpdate(@NotNull GenericGuildMemberUpdateEvent event) {
+        invalidateMember(event.getGuild().getIdLong(), event.getUser().getIdLong());
+    }
+
+    @Override
+    public void onGenericUser(@NotNull GenericUserEvent event) {
+        // presence updates are frequent and don't change the cached entities
+        if (event instanceof GenericUserUpdateEvent && !(event instanceof GenericUserPresenceEvent)) {
+            invalidateUser(event.getUser().getIdLong());
+        }
+    }
+
+    private static class Key {
+        private final long guildId;
+        private final long id;
+
+        private Key(long guildId, long id) {
+            this.guildId = guildId;
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return guildId == key.guildId && id == key.id;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(guildId * 31 + id);
+        }
+    }
+
+    private static class Entry {
+        private final CompletableFuture<? extends Optional<?>> result;
+        private volatile long accessedAt;
+        private volatile long expiresAt;
+        private volatile boolean isMissing;
+        private volatile boolean isCompleted;
+
+        private Entry(CompletableFuture<? extends Optional<?>> result, long now) {
+            this.result = result;
+            accessedAt = now;
+        }
+
+        private boolean isValid(long now) {
+            // pending requests are always valid
+            return !isCompleted || now - expiresAt < 0;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.github.kaktushose.jda.commands.dispatching.adapter;
+
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Mentions;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.Role;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.entities.channel.middleman.GuildChannel;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The entities mentioned inside a {@link Message}, indexed by their id. Discord already resolves mentions when sending
+ * a message, thus {@link TypeAdapter TypeAdapters} can look up mention arguments here instead of querying the cache
+ * or making a request.
+ *
+ * <p>A mention is recognized by scanning its characters, e.g. {@code <@!393843637437464588>}, without using regular
+ * expressions. The lookups respect the kind of the mention, thus a role mention never resolves to a user.
+ *
+ * @author Kaktushose
+ * @version 3.0.0
+ * @see com.github.kaktushose.jda.commands.dispatching.CommandContext#getMentions()
+ * @since 3.0.0
+ */
+public class MentionTable {
+
+    private static final MentionTable EMPTY = new MentionTable(
+            Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap()
+    );
+    private static final int MIN_ID_LENGTH = 4;
+    private static final int MAX_ID_LENGTH = 19;
+    private final Map<Long, User> users;
+    private final Map<Long, Member> members;
+    private final Map<Long, Role> roles;
+    private final Map<Long, GuildChannel> channels;
+
+    private MentionTable(Map<Long, User> users,
+                         Map<Long, Member> members,
+                         Map<Long, Role> roles,
+                         Map<Long, GuildChannel> channels) {
+        this.users = users;
+        this.members = members;
+        this.roles = roles;
+        this.channels = channels;
+    }
+
+    /**
+     * Builds the MentionTable of a {@link Message}.
+     *
+     * @param message the {@link Message} to build the table of
+     * @return the MentionTable of the message
+     */
+    public static MentionTable of(@Nullable Message message) {
+        if (message == null) {
+            return EMPTY;
+        }
+        Mentions mentions = message.getMentions();
+        // skip the lookup of the mentioned entities if the content can't contain any mention
+        if (mentions == null || message.getContentRaw().indexOf('<') < 0) {
+            return EMPTY;
+        }
+        Map<Long, User> users = new HashMap<>();
+        mentions.getUsers().forEach(user -> users.put(user.getIdLong(), user));
+        Map<Long, Member> members = new HashMap<>();
+        mentions.getMembers().forEach(member -> members.put(member.getIdLong(), member));
+        Map<Long, Role> roles = new HashMap<>();
+        mentions.getRoles().forEach(role -> roles.put(role.getIdLong(), role));
+        Map<Long, GuildChannel> channels = new HashMap<>();
+        mentions.getChannels().forEach(channel -> channels.put(channel.getIdLong(), channel));
+        return new MentionTable(users, members, roles, channels);
+    }
+
+    /**
+     * Gets the position of the id inside a raw mention. A raw mention has the format {@code <[@#][&!]?id>}, where the
+     * id consists of at least four digits.
+     *
+     * @param raw the String to check
+     * @return the index of the first digit of the id or {@code -1} if the String isn't a raw mention
+     */
+    public static int indexOfId(@NotNull String raw) {
+        int length = raw.length();
+        if (length < MIN_ID_LENGTH + 3 || raw.charAt(0) != '<' || raw.charAt(length - 1) != '>') {
+            return -1;
+        }
+        char type = raw.charAt(1);
+        if (type != '@' && type != '#') {
+            return -1;
+        }
+        int start = 2;
+        char flag = raw.charAt(2);
+        if (flag == '&' || flag == '!') {
+            start++;
+        }
+        if (length - 1 - start < MIN_ID_LENGTH) {
+            return -1;
+        }
+        for (int i = start; i < length - 1; i++) {
+            char c = raw.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+        }
+        return start;
+    }
+
+    /**
+     * Gets the mentioned {@link User}.
+     *
+     * @param raw the raw mention, e.g. {@code <@393843637437464588>}
+     * @return the mentioned {@link User} or {@code null} if the String doesn't mention a user of this message
+     */
+    @Nullable
+    public User getUser(@NotNull String raw) {
+        return lookup(users, raw, '@', false);
+    }
+
+    /**
+     * Gets the mentioned {@link Member}.
+     *
+     * @param raw the raw mention, e.g. {@code <@!393843637437464588>}
+     * @return the mentioned {@link Member} or {@code null} if the String doesn't mention a member of this message
+     */
+    @Nullable
+    public Member getMember(@NotNull String raw) {
+        return lookup(members, raw, '@', false);
+    }
+
+    /**
+     * Gets the mentioned {@link Role}.
+     *
+     * @param raw the raw mention, e.g. {@code <@&393843637437464588>}
+     * @return the mentioned {@link Role} or {@code null} if the String doesn't mention a role of this message
+     */
+    @Nullable
+    public Role getRole(@NotNull String raw) {
+        return lookup(roles, raw, '@', true);
+    }
+
+    /**
+     * Gets the mentioned {@link GuildChannel}.
+     *
+     * @param raw  the raw mention, e.g. {@code <#393843637437464588>}
+     * @param type the type of the channel
+     * @param <T>  the type of the channel
+     * @return the mentioned channel or {@code null} if the String doesn't mention a channel of the given type of this
+     * message
+     */
+    @Nullable
+    public <T extends GuildChannel> T getChannel(@NotNull String raw, @NotNull Class<T> type) {
+        GuildChannel channel = lookup(channels, raw, '#', false);
+        return type.isInstance(channel) ? type.cast(channel) : null;
+    }
+
+    /**
+     * Whether the message doesn't mention any entity.
+     *
+     * @return {@code true} if the message doesn't mention any entity
+     */
+    public boolean isEmpty() {
+        return users.isEmpty() && members.isEmpty() && roles.isEmpty() && channels.isEmpty();
+    }
+
+    private static <T> T lookup(Map<Long, T> entities, String raw, char type, boolean isRole) {
+        if (entities.isEmpty()) {
+            return null;
+        }
+        int start = indexOfId(raw);
+        if (start < 0 || raw.charAt(1) != type || (raw.charAt(2) == '&') != isRole) {
+            return null;
+        }
+        int end = raw.length() - 1;
+        if (end - start > MAX_ID_LENGTH) {
+            return null;
+        }
+        long id = 0;
+        for (int i = start; i < end; i++) {
+            id = id * 10 + (raw.charAt(i) - '0');
+            // overflow, the id can't be a snowflake
+            if (id < 0) {
+                return null;
+            }
+        }
+        return entities.get(id);
+    }
+
+    @Override
+    public String toString() {
+        return "{" +
+                "users=" + users.keySet() +
+                ", members=" + members.keySet() +
+                ", roles=" + roles.keySet() +
+                ", channels=" + channels.keySet() +
+                '}';
+    }
+}
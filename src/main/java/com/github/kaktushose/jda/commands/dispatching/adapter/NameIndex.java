@@ -0,0 +1,484 @@
+package com.github.kaktushose.jda.commands.dispatching.adapter;
+
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.reflect.ImplementationRegistry;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Role;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.entities.channel.Channel;
+import net.dv8tion.jda.api.entities.channel.concrete.ThreadChannel;
+import net.dv8tion.jda.api.entities.channel.middleman.GuildChannel;
+import net.dv8tion.jda.api.events.channel.ChannelCreateEvent;
+import net.dv8tion.jda.api.events.channel.ChannelDeleteEvent;
+import net.dv8tion.jda.api.events.channel.update.ChannelUpdateNameEvent;
+import net.dv8tion.jda.api.events.guild.GuildLeaveEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberJoinEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberRemoveEvent;
+import net.dv8tion.jda.api.events.guild.member.update.GuildMemberUpdateNicknameEvent;
+import net.dv8tion.jda.api.events.role.RoleCreateEvent;
+import net.dv8tion.jda.api.events.role.RoleDeleteEvent;
+import net.dv8tion.jda.api.events.role.update.RoleUpdateNameEvent;
+import net.dv8tion.jda.api.events.user.update.UserUpdateNameEvent;
+import net.dv8tion.jda.api.hooks.ListenerAdapter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * A per-guild index of member, role and channel names. The built-in {@link TypeAdapter TypeAdapters} consult this
+ * index before scanning the whole cache of a guild, which turns a name lookup into a single map access.
+ *
+ * <p>Names are case-folded, thus lookups ignore the case just like the linear scans do. Names shared by several
+ * entities are left to the linear scans, so that the same entity is found with and without the index. A guild gets
+ * indexed from the cache on its first lookup and is kept up to date by JDA events afterwards, thus this index must be
+ * registered as an event listener. The name of a found entity is checked against the cache, thus a name that got
+ * changed while an event was missed is never reported as a match. The index is bounded by the total amount of
+ * entries. Guilds that would exceed this bound aren't indexed and are looked up the usual way.
+ *
+ * <p>Enable the index by calling {@link TypeAdapterRegistry#setNameIndex(NameIndex)} and adding it to the
+ * {@link net.dv8tion.jda.api.JDA JDA} instance:
+ * <pre>
+ *     NameIndex index = new NameIndex(1_000_000);
+ *     jdaCommands.getAdapterRegistry().setNameIndex(index);
+ *     jda.addEventListener(index);
+ * </pre>
+ *
+ * @author Kaktushose
+ * @version 3.0.0
+ * @see TypeAdapterRegistry#setNameIndex(NameIndex)
+ * @since 3.0.0
+ */
+public class NameIndex extends ListenerAdapter {
+
+    private static final Logger log = LoggerFactory.getLogger(NameIndex.class);
+    private final Map<Long, GuildIndex> guilds;
+    private final Set<Long> skipped;
+    private final long maximumSize;
+    private final AtomicLong size;
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    /**
+     * Constructs a new NameIndex.
+     *
+     * @param maximumSize the maximum amount of indexed names across all guilds
+     * @throws IllegalArgumentException if the maximum size is less than one
+     */
+    public NameIndex(long maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be at least 1!");
+        }
+        this.maximumSize = maximumSize;
+        guilds = new ConcurrentHashMap<>();
+        skipped = ConcurrentHashMap.newKeySet();
+        size = new AtomicLong();
+        hits = new LongAdder();
+        misses = new LongAdder();
+    }
+
+    /**
+     * Gets the NameIndex used by the {@link TypeAdapterRegistry} of the given {@link CommandContext}.
+     *
+     * @param context the {@link CommandContext}
+     * @return the NameIndex or {@code null} if no index is used
+     */
+    @Nullable
+    public static NameIndex of(@NotNull CommandContext context) {
+        ImplementationRegistry registry = context.getImplementationRegistry();
+        if (registry == null || registry.getTypeAdapterRegistry() == null) {
+            return null;
+        }
+        return registry.getTypeAdapterRegistry().getNameIndex();
+    }
+
+    /**
+     * Finds a {@link Member} by its effective name.
+     *
+     * @param guild the {@link Guild} to search in
+     * @param name  the name to search for, case-insensitive
+     * @return a {@link Member} with the given name or {@code null} if the name isn't indexed
+     */
+    @Nullable
+    public Member findMember(@NotNull Guild guild, @NotNull String name) {
+        GuildIndex index = getIndex(guild);
+        return index == null ? null : count(index.members.find(name, guild::getMemberById, Member::getEffectiveName));
+    }
+
+    /**
+     * Finds a {@link Role} by its name.
+     *
+     * @param guild the {@link Guild} to search in
+     * @param name  the name to search for, case-insensitive
+     * @return a {@link Role} with the given name or {@code null} if the name isn't indexed
+     */
+    @Nullable
+    public Role findRole(@NotNull Guild guild, @NotNull String name) {
+        GuildIndex index = getIndex(guild);
+        return index == null ? null : count(index.roles.find(name, guild::getRoleById, Role::getName));
+    }
+
+    /**
+     * Finds a channel by its name.
+     *
+     * @param guild the {@link Guild} to search in
+     * @param name  the name to search for, case-insensitive
+     * @param type  the type of the channel
+     * @param <T>   the type of the channel
+     * @return a channel of the given type with the given name or {@code null} if the name isn't indexed
+     */
+    @Nullable
+    public <T extends GuildChannel> T findChannel(@NotNull Guild guild, @NotNull String name, @NotNull Class<T> type) {
+        GuildIndex index = getIndex(guild);
+        if (index == null) {
+            return null;
+        }
+        // threads are kept apart, since only the thread adapter looks them up
+        NameTable table = ThreadChannel.class.isAssignableFrom(type) ? index.threads : index.channels;
+        GuildChannel channel = table.find(name, id -> {
+            GuildChannel candidate = guild.getGuildChannelById(id);
+            return type.isInstance(candidate) ? candidate : null;
+        }, GuildChannel::getName);
+        return count(type.isInstance(channel) ? type.cast(channel) : null);
+    }
+
+    private <T> T count(T result) {
+        if (result == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return result;
+    }
+
+    private GuildIndex getIndex(Guild guild) {
+        long guildId = guild.getIdLong();
+        GuildIndex index = guilds.get(guildId);
+        if (index != null || skipped.contains(guildId)) {
+            return index;
+        }
+        long entries = guild.getMemberCache().size() + guild.getRoleCache().size() + guild.getChannels().size()
+                + guild.getThreadChannelCache().size();
+        // the entries are reserved up front, so that guilds indexed concurrently can't exceed the bound together
+        if (!reserve(entries)) {
+            log.debug("Guild {} has too many entries to be indexed", guildId);
+            skipped.add(guildId);
+            return null;
+        }
+        long[] indexed = new long[1];
+        try {
+            return guilds.computeIfAbsent(guildId, key -> {
+                GuildIndex built = build(guild);
+                // counted before the index gets visible to events, which count their changes themselves
+                indexed[0] = built.size();
+                return built;
+            });
+        } finally {
+            // the reservation is replaced by the amount of names that were actually indexed
+            size.addAndGet(indexed[0] - entries);
+        }
+    }
+
+    private boolean reserve(long entries) {
+        while (true) {
+            long current = size.get();
+            if (current + entries > maximumSize) {
+                return false;
+            }
+            if (size.compareAndSet(current, current + entries)) {
+                return true;
+            }
+        }
+    }
+
+    private GuildIndex build(Guild guild) {
+        GuildIndex index = new GuildIndex();
+        // the names are covered by the reservation, thus they are neither counted nor checked against the bound
+        guild.getMemberCache().forEach(member -> index.members.load(member.getIdLong(), member.getEffectiveName()));
+        guild.getRoleCache().forEach(role -> index.roles.load(role.getIdLong(), role.getName()));
+        guild.getChannels().forEach(channel -> index.channels.load(channel.getIdLong(), channel.getName()));
+        guild.getThreadChannelCache().forEach(channel -> index.threads.load(channel.getIdLong(), channel.getName()));
+        log.debug("Indexed names of guild {}", guild.getIdLong());
+        return index;
+    }
+
+    /**
+     * Removes the index of a guild. The guild gets indexed again on its next lookup.
+     *
+     * @param guildId the id of the guild
+     */
+    public void invalidate(long guildId) {
+        GuildIndex index = guilds.remove(guildId);
+        if (index != null) {
+            index.clear();
+        }
+        skipped.remove(guildId);
+    }
+
+    /**
+     * Removes the indexes of all guilds.
+     */
+    public void invalidateAll() {
+        guilds.keySet().forEach(this::invalidate);
+        skipped.clear();
+    }
+
+    /**
+     * Gets the amount of indexed names across all guilds.
+     *
+     * @return the amount of indexed names
+     */
+    public long size() {
+        return size.get();
+    }
+
+    /**
+     * Gets the maximum amount of indexed names across all guilds.
+     *
+     * @return the maximum amount of indexed names
+     */
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Gets the amount of indexed guilds.
+     *
+     * @return the amount of indexed guilds
+     */
+    public int getGuildCount() {
+        return guilds.size();
+    }
+
+    /**
+     * Gets the amount of guilds that weren't indexed because they would have exceeded the maximum size.
+     *
+     * @return the amount of skipped guilds
+     */
+    public int getSkippedGuildCount() {
+        return skipped.size();
+    }
+
+    /**
+     * Gets the amount of lookups that were answered by the index.
+     *
+     * @return the amount of hits
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the amount of lookups of indexed guilds that didn't find a name.
+     *
+     * @return the amount of misses
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public void onGuildLeave(@NotNull GuildLeaveEvent event) {
+        invalidate(event.getGuild().getIdLong());
+    }
+
+    @Override
+    public void onGuildMemberJoin(@NotNull GuildMemberJoinEvent event) {
+        GuildIndex index = guilds.get(event.getGuild().getIdLong());
+        if (index != null) {
+            index.members.put(event.getMember().getIdLong(), event.getMember().getEffectiveName());
+        }
+    }
+
+    @Override
+    public void onGuildMemberRemove(@NotNull GuildMemberRemoveEvent event) {
+        GuildIndex index = guilds.get(event.getGuild().getIdLong());
+        if (index != null) {
+            index.members.remove(event.getUser().getIdLong());
+        }
+    }
+
+    @Override
+    public void onGuildMemberUpdateNickname(@NotNull GuildMemberUpdateNicknameEvent event) {
+        GuildIndex index = guilds.get(event.getGuild().getIdLong());
+        if (index != null) {
+            index.members.put(event.getMember().getIdLong(), event.getMember().getEffectiveName());
+        }
+    }
+
+    @Override
+    public void onUserUpdateName(@NotNull UserUpdateNameEvent event) {
+        User user = event.getUser();
+        for (Guild guild : user.getMutualGuilds()) {
+            GuildIndex index = guilds.get(guild.getIdLong());
+            Member member = guild.getMember(user);
+            if (index != null && member != null) {
+                index.members.put(user.getIdLong(), member.getEffectiveName());
+            }
+        }
+    }
+
+    @Override
+    public void onRoleCreate(@NotNull RoleCreateEvent event) {
+        GuildIndex index = guilds.get(event.getGuild().getIdLong());
+        if (index != null) {
+            index.roles.put(event.getRole().getIdLong(), event.getRole().getName());
+        }
+    }
+
+    @Override
+    public void onRoleDelete(@NotNull RoleDeleteEvent event) {
+        GuildIndex index = guilds.get(event.getGuild().getIdLong());
+        if (index != null) {
+            index.roles.remove(event.getRole().getIdLong());
+        }
+    }
+
+    @Override
+    public void onRoleUpdateName(@NotNull RoleUpdateNameEvent event) {
+        GuildIndex index = guilds.get(event.getGuild().getIdLong());
+        if (index != null) {
+            index.roles.put(event.getRole().getIdLong(), event.getNewName());
+        }
+    }
+
+    @Override
+    public void onChannelCreate(@NotNull ChannelCreateEvent event) {
+        GuildIndex index = getChannelIndex(event.isFromGuild() ? event.getGuild() : null);
+        if (index != null) {
+            Channel channel = event.getChannel();
+            index.channels(channel).put(channel.getIdLong(), channel.getName());
+        }
+    }
+
+    @Override
+    public void onChannelDelete(@NotNull ChannelDeleteEvent event) {
+        GuildIndex index = getChannelIndex(event.isFromGuild() ? event.getGuild() : null);
+        if (index != null) {
+            index.channels(event.getChannel()).remove(event.getChannel().getIdLong());
+        }
+    }
+
+    @Override
+    public void onChannelUpdateName(@NotNull ChannelUpdateNameEvent event) {
+        GuildIndex index = getChannelIndex(event.isFromGuild() ? event.getGuild() : null);
+        if (index != null) {
+            index.channels(event.getChannel()).put(event.getChannel().getIdLong(), event.getNewValue());
+        }
+    }
+
+    private GuildIndex getChannelIndex(@Nullable Guild guild) {
+        return guild == null ? null : guilds.get(guild.getIdLong());
+    }
+
+    private class GuildIndex {
+        private final NameTable members = new NameTable();
+        private final NameTable roles = new NameTable();
+        private final NameTable channels = new NameTable();
+        private final NameTable threads = new NameTable();
+
+        private long size() {
+            return members.byId.size() + roles.byId.size() + channels.byId.size() + threads.byId.size();
+        }
+
+        private NameTable channels(Channel channel) {
+            return channel.getType().isThread() ? threads : channels;
+        }
+
+        private void clear() {
+            members.clear();
+            roles.clear();
+            channels.clear();
+            threads.clear();
+        }
+    }
+
+    private class NameTable {
+        private final Map<String, Set<Long>> byName = new ConcurrentHashMap<>();
+        private final Map<Long, String> byId = new ConcurrentHashMap<>();
+
+        private synchronized void put(long id, String name) {
+            String folded = name.toLowerCase(Locale.ROOT);
+            // new entries beyond the bound are dropped, lookups of these names fall back to the cache
+            if (!byId.containsKey(id) && size.get() >= maximumSize) {
+                return;
+            }
+            String old = byId.put(id, folded);
+            if (old == null) {
+                size.incrementAndGet();
+            } else {
+                unlink(old, id);
+            }
+            byName.computeIfAbsent(folded, key -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+
+        private synchronized void load(long id, String name) {
+            String folded = name.toLowerCase(Locale.ROOT);
+            byId.put(id, folded);
+            byName.computeIfAbsent(folded, key -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+
+        private synchronized void remove(long id) {
+            String old = byId.remove(id);
+            if (old != null) {
+                size.decrementAndGet();
+                unlink(old, id);
+            }
+        }
+
+        private synchronized void clear() {
+            size.addAndGet(-byId.size());
+            byId.clear();
+            byName.clear();
+        }
+
+        private void unlink(String name, long id) {
+            Set<Long> ids = byName.get(name);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    byName.remove(name);
+                }
+            }
+        }
+
+        private <T> T find(String name, LongFunction<T> resolver, Function<T, String> naming) {
+            String folded = name.toLowerCase(Locale.ROOT);
+            Set<Long> ids = byName.get(folded);
+            if (ids == null) {
+                return null;
+            }
+            Iterator<Long> iterator = ids.iterator();
+            if (!iterator.hasNext()) {
+                return null;
+            }
+            long id = iterator.next();
+            // duplicate names are left to the scan of the cache, which picks the first entity in position order
+            if (iterator.hasNext()) {
+                return null;
+            }
+            T entity = resolver.apply(id);
+            if (entity == null) {
+                return null;
+            }
+            // the mapping is stale if an event got lost while the guild was indexed, thus it gets corrected instead
+            String actual = naming.apply(entity);
+            if (!actual.toLowerCase(Locale.ROOT).equals(folded)) {
+                put(id, actual);
+                return null;
+            }
+            return entity;
+        }
+    }
+}
@@ -32,9 +32,10 @@ public interface TypeAdapter<T> {
      * @return the sanitized String
      */
     default String sanitizeMention(@NotNull String mention) {
-        if (mention.matches("<[@#][&!]?([0-9]{4,})>")) {
-            return mention.replaceAll("<[@#][&!]?", "").replace(">", "");
+        int start = MentionTable.indexOfId(mention);
+        if (start < 0) {
+            return mention;
         }
-        return mention;
+        return mention.substring(start, mention.length() - 1);
     }
 }
@@ -3,6 +3,7 @@ package com.github.kaktushose.jda.commands.dispatching.adapter;
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
 import com.github.kaktushose.jda.commands.dispatching.CommandEvent;
 import com.github.kaktushose.jda.commands.dispatching.adapter.impl.*;
+import com.github.kaktushose.jda.commands.dispatching.parser.MessageTokens;
 import com.github.kaktushose.jda.commands.embeds.error.ErrorMessageFactory;
 import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
 import com.github.kaktushose.jda.commands.reflect.ParameterDefinition;
@@ -20,6 +21,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Central registry for all type adapters.
@@ -33,6 +35,10 @@ public class TypeAdapterRegistry {
 
     private static final Logger log = LoggerFactory.getLogger(TypeAdapterRegistry.class);
     private final Map<Class<?>, TypeAdapter<?>> parameterAdapters;
+    private final Set<TypeAdapter<?>> constantAdapters;
+    private volatile long version;
+    private volatile NameIndex nameIndex;
+    private volatile LookupCache lookupCache;
 
     /**
      * Constructs a new TypeAdapterRegistry. This will register default type adapters for:
@@ -48,17 +54,18 @@ public class TypeAdapterRegistry {
      */
     public TypeAdapterRegistry() {
         parameterAdapters = new HashMap<>();
+        constantAdapters = Collections.newSetFromMap(new IdentityHashMap<>());
 
-        // default types
-        register(Byte.class, new ByteAdapter());
-        register(Short.class, new ShortAdapter());
-        register(Integer.class, new IntegerAdapter());
-        register(Long.class, new LongAdapter());
-        register(Float.class, new FloatAdapter());
-        register(Double.class, new DoubleAdapter());
-        register(Character.class, new CharacterAdapter());
-        register(Boolean.class, new BooleanAdapter());
-        register(String.class, (TypeAdapter<String>) (raw, guild) -> Optional.of(raw));
+        // default types, these don't depend on the context and can adapt default values in advance
+        registerConstant(Byte.class, new ByteAdapter());
+        registerConstant(Short.class, new ShortAdapter());
+        registerConstant(Integer.class, new IntegerAdapter());
+        registerConstant(Long.class, new LongAdapter());
+        registerConstant(Float.class, new FloatAdapter());
+        registerConstant(Double.class, new DoubleAdapter());
+        registerConstant(Character.class, new CharacterAdapter());
+        registerConstant(Boolean.class, new BooleanAdapter());
+        registerConstant(String.class, (TypeAdapter<String>) (raw, guild) -> Optional.of(raw));
         register(String[].class, (TypeAdapter<String>) (raw, guild) -> Optional.of(raw));
 
         // jda specific
@@ -75,6 +82,11 @@ public class TypeAdapterRegistry {
         register(Role.class, new RoleAdapter());
     }
 
+    private void registerConstant(Class<?> type, TypeAdapter<?> adapter) {
+        register(type, adapter);
+        constantAdapters.add(adapter);
+    }
+
     /**
      * Registers a new type adapter.
      *
@@ -83,6 +95,7 @@ public class TypeAdapterRegistry {
      */
     public void register(@NotNull Class<?> type, @NotNull TypeAdapter<?> adapter) {
         parameterAdapters.put(type, adapter);
+        version++;
         log.debug("Registered adapter {} for type {}", adapter.getClass().getName(), type.getName());
     }
 
@@ -93,6 +106,7 @@ public class TypeAdapterRegistry {
      */
     public void unregister(@NotNull Class<?> type) {
         parameterAdapters.remove(type);
+        version++;
         log.debug("Unregistered adapter for type {}", type.getName());
     }
 
@@ -116,35 +130,172 @@ public class TypeAdapterRegistry {
         return Optional.ofNullable(parameterAdapters.get(type));
     }
 
+    /**
+     * Gets the {@link NameIndex} consulted by the built-in type adapters.
+     *
+     * @return the {@link NameIndex} or {@code null} if no index is used
+     */
+    @Nullable
+    public NameIndex getNameIndex() {
+        return nameIndex;
+    }
+
+    /**
+     * Sets the {@link NameIndex} consulted by the built-in type adapters when looking up members, roles and channels
+     * by name. The index must also be registered as an event listener to stay up to date.
+     *
+     * @param nameIndex the {@link NameIndex} to use or {@code null} to always scan the cache
+     */
+    public void setNameIndex(@Nullable NameIndex nameIndex) {
+        this.nameIndex = nameIndex;
+    }
+
+    /**
+     * Gets the {@link LookupCache} used by the built-in type adapters.
+     *
+     * @return the {@link LookupCache} or {@code null} if no cache is used
+     */
+    @Nullable
+    public LookupCache getLookupCache() {
+        return lookupCache;
+    }
+
+    /**
+     * Sets the {@link LookupCache} used by the built-in type adapters when retrieving members and users by their id.
+     * The cache must also be registered as an event listener to invalidate changed entities.
+     *
+     * @param lookupCache the {@link LookupCache} to use or {@code null} to always make a request
+     */
+    public void setLookupCache(@Nullable LookupCache lookupCache) {
+        this.lookupCache = lookupCache;
+    }
+
+    /**
+     * Gets the version of this registry. The version changes every time a type adapter gets registered or
+     * unregistered.
+     *
+     * @return the version of this registry
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Compiles the {@link BindingPlan} for the given parameters. This resolves the type adapter of every parameter and
+     * adapts default values of primitive and String parameters in advance.
+     *
+     * @param parameters the {@link ParameterDefinition ParameterDefinitions} of a command, starting with the
+     *                   {@link CommandEvent}
+     * @return the compiled {@link BindingPlan}
+     * @throws IllegalArgumentException if no type adapter exists for a parameter or if a default value can't be
+     *                                  adapted
+     */
+    public BindingPlan compile(@NotNull List<ParameterDefinition> parameters) {
+        long version = this.version;
+        int size = parameters.size();
+        TypeAdapter<?>[] adapters = new TypeAdapter<?>[size];
+        Object[] defaults = new Object[size];
+        boolean[] hasDefault = new boolean[size];
+        int arrayIndex = -1;
+        int concatIndex = -1;
+        // start with index 1 so we skip the CommandEvent
+        for (int i = 1; i < size; i++) {
+            ParameterDefinition parameter = parameters.get(i);
+            Class<?> type = parameter.getType();
+
+            // arrays aren't adapted at all
+            if (String[].class.isAssignableFrom(type)) {
+                arrayIndex = i;
+                break;
+            }
+
+            TypeAdapter<?> adapter = parameterAdapters.get(type);
+            if (adapter == null) {
+                throw new IllegalArgumentException(String.format("No type adapter for type %s found!", type.getName()));
+            }
+            adapters[i] = adapter;
+
+            if (i == size - 1 && parameter.isConcat()) {
+                concatIndex = i;
+            }
+
+            String defaultValue = parameter.getDefaultValue();
+            if (!parameter.isOptional() || defaultValue == null) {
+                continue;
+            }
+            // only adapters that ignore the context can be used without a CommandContext
+            if (!constantAdapters.contains(adapter) && concatIndex != i) {
+                continue;
+            }
+            Optional<?> parsed = concatIndex == i ? Optional.of(defaultValue) : adapter.parse(defaultValue, null);
+            if (!parsed.isPresent()) {
+                throw new IllegalArgumentException(String.format("Default value \"%s\" can't be adapted to type %s!",
+                        defaultValue, type.getName()));
+            }
+            defaults[i] = parsed.get();
+            hasDefault[i] = true;
+        }
+        return new BindingPlan(this, version, adapters, defaults, hasDefault, arrayIndex, concatIndex);
+    }
+
     /**
      * Takes a {@link CommandContext} and attempts to type adapt the command input to the type specified by the
-     * {@link CommandDefinition}. Cancels the {@link CommandContext} if the type adapting fails.
+     * {@link CommandDefinition}. Cancels the {@link CommandContext} if the type adapting fails. This blocks until all
+     * {@link AsyncTypeAdapter AsyncTypeAdapters} are completed.
      *
      * @param context the {@link CommandContext} to type adapt
+     * @throws IllegalArgumentException if no type adapter exists for a parameter
+     * @see #adaptAsync(CommandContext)
      */
     public void adapt(@NotNull CommandContext context) {
+        adaptAsync(context).join();
+    }
+
+    /**
+     * Takes a {@link CommandContext} and attempts to type adapt the command input to the type specified by the
+     * {@link CommandDefinition}. Cancels the {@link CommandContext} if the type adapting fails.
+     *
+     * <p>All {@link AsyncTypeAdapter AsyncTypeAdapters} are resolved concurrently. The returned
+     * {@link CompletableFuture} completes once the arguments are set, which happens immediately if no
+     * {@link AsyncTypeAdapter} is involved.
+     *
+     * @param context the {@link CommandContext} to type adapt
+     * @return a {@link CompletableFuture} completing once the arguments are set
+     * @throws IllegalArgumentException if no type adapter exists for a parameter
+     */
+    public CompletableFuture<Void> adaptAsync(@NotNull CommandContext context) {
         CommandDefinition command = context.getCommand();
-        List<Object> arguments = new ArrayList<>();
+        BindingPlan plan = command.getBindingPlan();
+        if (plan == null || !plan.isValid(this)) {
+            log.debug("Binding plan is stale. Compiling it again");
+            plan = compile(command.getParameters());
+            command.setBindingPlan(plan);
+        }
+        List<ParameterDefinition> parameters = command.getParameters();
+        Object[] arguments = new Object[plan.size()];
+        CompletableFuture<?>[] pending = new CompletableFuture<?>[arguments.length];
+        List<CompletableFuture<?>> requests = new ArrayList<>();
+        Map<BatchTypeAdapter<?>, List<Integer>> batches = null;
+        String[] raws = new String[arguments.length];
         String[] input = context.getInput();
         ErrorMessageFactory messageFactory = context.getImplementationRegistry().getErrorMessageFactory();
 
         log.debug("Type adapting arguments...");
         MessageReceivedEvent event = context.getEvent();
-        arguments.add(new CommandEvent(event.getJDA(), event.getResponseNumber(), event.getMessage(), command, context));
+        arguments[0] = new CommandEvent(event.getJDA(), event.getResponseNumber(), event.getMessage(), command, context);
         // start with index 1 so we skip the CommandEvent
-        for (int i = 1; i < command.getParameters().size(); i++) {
-            ParameterDefinition parameter = command.getParameters().get(i);
-
+        for (int i = 1; i < arguments.length; i++) {
             // if parameter is array don't parse
-            if (String[].class.isAssignableFrom(parameter.getType())) {
+            if (i == plan.arrayIndex) {
                 log.debug("First parameter is String array. Not adapting arguments");
-                arguments.add(input);
+                arguments[i] = input;
                 break;
             }
 
             String raw;
             // current parameter index > total amount of input, check if it's optional else cancel context
             if (i > input.length) {
+                ParameterDefinition parameter = parameters.get(i);
                 if (!parameter.isOptional()) {
                     log.debug("Syntax error! Cancelled event.");
                     context.setCancelled(true);
@@ -152,36 +303,44 @@ public class TypeAdapterRegistry {
                     break;
                 }
 
-                // if the default value is an empty String (thus not present) add a null value to the argument list
-                // else try to type adapt the default value
-                if (parameter.getDefaultValue() == null) {
-                    arguments.add(null);
+                // use the default value if it was already adapted, if it isn't present the argument stays null
+                if (plan.hasDefault[i]) {
+                    arguments[i] = plan.defaults[i];
+                    continue;
+                }
+                raw = parameter.getDefaultValue();
+                if (raw == null) {
                     continue;
-                } else {
-                    raw = parameter.getDefaultValue();
                 }
             } else {
                 // - 1 because we start with index 1
                 raw = input[i - 1];
             }
 
-            if (i == command.getParameters().size() - 1 && parameter.isConcat()) {
-                StringBuilder sb = new StringBuilder();
-                for (String s : Arrays.copyOfRange(input, i - 1, input.length)) {
-                    sb.append(s).append(" ");
-                }
-                arguments.add(sb.toString().trim());
+            if (i == plan.concatIndex) {
+                arguments[i] = concat(context, input, i - 1);
                 break;
             }
 
-            log.debug("Trying to adapt input \"{}\" to type {}", raw, parameter.getType().getName());
+            log.debug("Trying to adapt input \"{}\" to type {}", raw, parameters.get(i).getType().getName());
 
-            Optional<TypeAdapter<?>> adapter = get(parameter.getType());
-            if (!adapter.isPresent()) {
-                throw new IllegalArgumentException("No type adapter found!");
+            TypeAdapter<?> adapter = plan.adapters[i];
+            if (adapter instanceof BatchTypeAdapter) {
+                // started once all arguments of the adapter are known
+                if (batches == null) {
+                    batches = new LinkedHashMap<>();
+                }
+                batches.computeIfAbsent((BatchTypeAdapter<?>) adapter, key -> new ArrayList<>()).add(i);
+                raws[i] = raw;
+                continue;
+            }
+            if (adapter instanceof AsyncTypeAdapter) {
+                pending[i] = ((AsyncTypeAdapter<?>) adapter).parseAsync(raw, context);
+                requests.add(pending[i]);
+                continue;
             }
 
-            Optional<?> parsed = adapter.get().parse(raw, context);
+            Optional<?> parsed = adapter.parse(raw, context);
             if (!parsed.isPresent()) {
                 log.debug("Type adapting failed!");
                 context.setCancelled(true);
@@ -189,9 +348,68 @@ public class TypeAdapterRegistry {
                 break;
             }
 
-            arguments.add(parsed.get());
+            arguments[i] = parsed.get();
             log.debug("Added {} to the argument list", parsed.get());
         }
-        context.setArguments(arguments);
+
+        if (batches != null && !context.isCancelled()) {
+            batches.forEach((adapter, indexes) -> parseAll(adapter, indexes, raws, pending, requests, context));
+        }
+
+        if (requests.isEmpty() || context.isCancelled()) {
+            context.setArguments(Arrays.asList(arguments));
+            return CompletableFuture.completedFuture(null);
+        }
+
+        log.debug("Waiting for {} asynchronous type adapters", requests.size());
+        return CompletableFuture.allOf(requests.toArray(new CompletableFuture<?>[0])).thenRun(() -> {
+            for (int i = 1; i < pending.length; i++) {
+                if (pending[i] == null) {
+                    continue;
+                }
+                Optional<?> parsed = (Optional<?>) pending[i].join();
+                if (!parsed.isPresent()) {
+                    log.debug("Type adapting failed!");
+                    context.setCancelled(true);
+                    context.setErrorMessage(messageFactory.getSyntaxErrorMessage(context));
+                    break;
+                }
+                arguments[i] = parsed.get();
+                log.debug("Added {} to the argument list", parsed.get());
+            }
+            context.setArguments(Arrays.asList(arguments));
+        });
+    }
+
+    private void parseAll(BatchTypeAdapter<?> adapter,
+                          List<Integer> indexes,
+                          String[] raws,
+                          CompletableFuture<?>[] pending,
+                          List<CompletableFuture<?>> requests,
+                          CommandContext context) {
+        if (indexes.size() == 1) {
+            int index = indexes.get(0);
+            pending[index] = adapter.parseAsync(raws[index], context);
+            requests.add(pending[index]);
+            return;
+        }
+        List<String> input = new ArrayList<>(indexes.size());
+        indexes.forEach(index -> input.add(raws[index]));
+        log.debug("Adapting {} arguments at once using {}", input.size(), adapter.getClass().getName());
+        CompletableFuture<? extends List<? extends Optional<?>>> results = adapter.parseAll(input, context);
+        for (int i = 0; i < indexes.size(); i++) {
+            int position = i;
+            pending[indexes.get(i)] = results.thenApply(list -> list.get(position));
+        }
+        requests.add(results);
+    }
+
+    private String concat(CommandContext context, String[] input, int from) {
+        MessageTokens tokens = context.getTokens();
+        // slice the original text if the input still matches the tokens, e.g. wasn't altered by a filter
+        if (tokens != null && tokens.isSuffix(input)) {
+            return tokens.slice(tokens.size() - input.length + from);
+        }
+        return String.join(" ", Arrays.asList(input).subList(from, input.length)).trim();
     }
 }
@@ -1,6 +1,7 @@
 package com.github.kaktushose.jda.commands.dispatching.adapter.impl;
 
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.adapter.NameIndex;
 import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapter;
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.channel.ChannelType;
@@ -32,6 +33,12 @@ public class GuildMessageChannelAdapter implements TypeAdapter<GuildMessageChann
             return Optional.empty();
         }
 
+        // mentions are already resolved by Discord
+        GuildMessageChannel mentioned = context.getMentions().getChannel(raw, GuildMessageChannel.class);
+        if (mentioned != null) {
+            return Optional.of(mentioned);
+        }
+
         GuildChannel guildChannel;
         raw = sanitizeMention(raw);
 
@@ -39,9 +46,14 @@ public class GuildMessageChannelAdapter implements TypeAdapter<GuildMessageChann
         if (raw.matches("\\d+")) {
             guildChannel = guild.getGuildChannelById(raw);
         } else {
-            String finalRaw = raw;
-            guildChannel = guild.getChannels().stream().filter(channel -> channel.getName().equalsIgnoreCase(finalRaw))
-                    .findFirst().orElse(null);
+            NameIndex index = NameIndex.of(context);
+            guildChannel = index == null ? null : index.findChannel(guild, raw, GuildMessageChannel.class);
+            if (guildChannel == null) {
+                String finalRaw = raw;
+                guildChannel = guild.getChannels().stream()
+                        .filter(channel -> channel.getName().equalsIgnoreCase(finalRaw))
+                        .findFirst().orElse(null);
+            }
         }
         if (guildChannel == null) {
             return Optional.empty();
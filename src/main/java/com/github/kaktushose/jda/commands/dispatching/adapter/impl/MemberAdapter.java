@@ -1,14 +1,24 @@
 package com.github.kaktushose.jda.commands.dispatching.adapter.impl;
 
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
-import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapter;
+import com.github.kaktushose.jda.commands.dispatching.adapter.BatchTypeAdapter;
+import com.github.kaktushose.jda.commands.dispatching.adapter.LookupCache;
+import com.github.kaktushose.jda.commands.dispatching.adapter.NameIndex;
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.Member;
 import net.dv8tion.jda.api.entities.channel.ChannelType;
-import net.dv8tion.jda.api.exceptions.ErrorResponseException;
+import net.dv8tion.jda.api.utils.MiscUtil;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * Type adapter for JDAs {@link Member}.
@@ -17,38 +27,135 @@ import java.util.Optional;
  * @version 2.0.0
  * @since 2.0.0
  */
-public class MemberAdapter implements TypeAdapter<Member> {
+public class MemberAdapter implements BatchTypeAdapter<Member> {
+
+    private static final int MAX_CHUNK_SIZE = 100;
 
     /**
-     * Attempts to parse a String to a {@link Member}. Accepts both the member id and name.
+     * Attempts to parse a String to a {@link Member}. Accepts both the member id and name. Members that aren't cached
+     * are retrieved without blocking.
      *
      * @param raw     the String to parse
      * @param context the {@link CommandContext}
-     * @return the parsed {@link Member} or an empty Optional if the parsing fails
+     * @return a {@link CompletableFuture} completing with the parsed {@link Member} or an empty Optional if the
+     * parsing fails
      */
     @Override
-    public Optional<Member> parse(@NotNull String raw, @NotNull CommandContext context) {
+    public CompletableFuture<Optional<Member>> parseAsync(@NotNull String raw, @NotNull CommandContext context) {
         if (!context.getEvent().isFromType(ChannelType.TEXT)) {
-            return Optional.empty();
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+
+        // mentions are already resolved by Discord
+        Member mentioned = context.getMentions().getMember(raw);
+        if (mentioned != null) {
+            return CompletableFuture.completedFuture(Optional.of(mentioned));
         }
 
-        Member member;
         raw = sanitizeMention(raw);
 
         Guild guild = context.getEvent().getGuild();
         if (raw.matches("\\d+")) {
+            String id = raw;
+            Supplier<CompletableFuture<Optional<Member>>> request = () -> guild.retrieveMemberById(id).submit()
+                    .thenApply(Optional::of)
+                    .exceptionally(this::emptyOnErrorResponse);
+            LookupCache cache = LookupCache.of(context);
+            if (cache == null) {
+                return request.get();
+            }
+            return cache.getMember(guild.getIdLong(), MiscUtil.parseSnowflake(id), request);
+        }
+        NameIndex index = NameIndex.of(context);
+        Member indexed = index == null ? null : index.findMember(guild, raw);
+        if (indexed != null) {
+            return CompletableFuture.completedFuture(Optional.of(indexed));
+        }
+        return CompletableFuture.completedFuture(guild.getMembersByEffectiveName(raw, true).stream().findFirst());
+    }
+
+    /**
+     * Attempts to parse multiple Strings to {@link Member Members}. Members that aren't cached are retrieved with a
+     * single {@link Guild#retrieveMembersByIds(long...) member chunk request} instead of one request per member.
+     *
+     * @param raws    the Strings to parse
+     * @param context the {@link CommandContext}
+     * @return a {@link CompletableFuture} completing with the parsed {@link Member Members}, holding an empty Optional
+     * for each String that couldn't be parsed
+     */
+    @Override
+    public CompletableFuture<List<Optional<Member>>> parseAll(@NotNull List<String> raws,
+                                                              @NotNull CommandContext context) {
+        if (!context.getEvent().isFromType(ChannelType.TEXT)) {
+            return CompletableFuture.completedFuture(Collections.nCopies(raws.size(), Optional.empty()));
+        }
+
+        Guild guild = context.getEvent().getGuild();
+        LookupCache cache = LookupCache.of(context);
+        Map<Long, CompletableFuture<Optional<Member>>> missing = new LinkedHashMap<>();
+        List<CompletableFuture<Optional<Member>>> results = new ArrayList<>(raws.size());
+        for (String raw : raws) {
+            String id = sanitizeMention(raw);
+            if (context.getMentions().getMember(raw) != null || !id.matches("\\d+")) {
+                results.add(parseAsync(raw, context));
+                continue;
+            }
+            long snowflake;
             try {
-                member = guild.retrieveMemberById(raw).complete();
-            } catch (ErrorResponseException ignored) {
-                member = null;
+                snowflake = MiscUtil.parseSnowflake(id);
+            } catch (NumberFormatException ignored) {
+                results.add(CompletableFuture.completedFuture(Optional.empty()));
+                continue;
+            }
+            Member cached = guild.getMemberById(snowflake);
+            if (cached != null) {
+                results.add(CompletableFuture.completedFuture(Optional.of(cached)));
+                continue;
             }
-        } else {
-            member = guild.getMembersByEffectiveName(raw, true).stream().findFirst().orElse(null);
+            // duplicate ids share the same future, the cache only asks for ids it doesn't know yet
+            Supplier<CompletableFuture<Optional<Member>>> request = () ->
+                    missing.computeIfAbsent(snowflake, key -> new CompletableFuture<>());
+            results.add(cache == null ? request.get() : cache.getMember(guild.getIdLong(), snowflake, request));
         }
-        if (member == null) {
-            return Optional.empty();
+        if (!missing.isEmpty()) {
+            retrieve(guild, missing);
+        }
+
+        return CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).thenApply(ignored ->
+                results.stream().map(CompletableFuture::join).collect(Collectors.toList())
+        );
+    }
+
+    private void retrieve(Guild guild, Map<Long, CompletableFuture<Optional<Member>>> missing) {
+        if (missing.size() > 1 && missing.size() <= MAX_CHUNK_SIZE) {
+            long[] ids = missing.keySet().stream().mapToLong(Long::longValue).toArray();
+            try {
+                guild.retrieveMembersByIds(ids).onSuccess(members -> {
+                    members.forEach(member -> {
+                        CompletableFuture<Optional<Member>> future = missing.get(member.getIdLong());
+                        if (future != null) {
+                            future.complete(Optional.of(member));
+                        }
+                    });
+                    // ids that aren't part of the chunk don't belong to a member
+                    missing.values().forEach(future -> future.complete(Optional.empty()));
+                }).onError(throwable -> missing.values().forEach(future -> future.completeExceptionally(throwable)));
+                return;
+            } catch (IllegalArgumentException | IllegalStateException ignored) {
+                // chunking isn't available, e.g. because of missing intents, fall back to single requests
+            }
         }
-        return Optional.of(member);
+        missing.forEach((id, future) -> guild.retrieveMemberById(id).submit()
+                .thenApply(Optional::of)
+                .exceptionally(this::emptyOnErrorResponse)
+                .whenComplete((member, throwable) -> {
+                    if (throwable != null) {
+                        future.completeExceptionally(throwable);
+                    } else {
+                        future.complete(member);
+                    }
+                })
+        );
     }
 
 }
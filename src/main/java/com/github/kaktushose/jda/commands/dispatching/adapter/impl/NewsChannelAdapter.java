@@ -1,6 +1,7 @@
 package com.github.kaktushose.jda.commands.dispatching.adapter.impl;
 
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.adapter.NameIndex;
 import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapter;
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.channel.ChannelType;
@@ -31,6 +32,12 @@ public class NewsChannelAdapter implements TypeAdapter<NewsChannel> {
             return Optional.empty();
         }
 
+        // mentions are already resolved by Discord
+        NewsChannel mentioned = context.getMentions().getChannel(raw, NewsChannel.class);
+        if (mentioned != null) {
+            return Optional.of(mentioned);
+        }
+
         NewsChannel newsChannel;
         raw = sanitizeMention(raw);
 
@@ -38,7 +45,11 @@ public class NewsChannelAdapter implements TypeAdapter<NewsChannel> {
         if (raw.matches("\\d+")) {
             newsChannel = guild.getNewsChannelById(raw);
         } else {
-            newsChannel = guild.getNewsChannelsByName(raw, true).stream().findFirst().orElse(null);
+            NameIndex index = NameIndex.of(context);
+            newsChannel = index == null ? null : index.findChannel(guild, raw, NewsChannel.class);
+            if (newsChannel == null) {
+                newsChannel = guild.getNewsChannelsByName(raw, true).stream().findFirst().orElse(null);
+            }
         }
         if (newsChannel == null) {
             return Optional.empty();
@@ -1,6 +1,7 @@
 package com.github.kaktushose.jda.commands.dispatching.adapter.impl;
 
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.adapter.NameIndex;
 import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapter;
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.Role;
@@ -31,6 +32,12 @@ public class RoleAdapter implements TypeAdapter<Role> {
             return Optional.empty();
         }
 
+        // mentions are already resolved by Discord
+        Role mentioned = context.getMentions().getRole(raw);
+        if (mentioned != null) {
+            return Optional.of(mentioned);
+        }
+
         Role role;
         raw = sanitizeMention(raw);
 
@@ -38,7 +45,11 @@ public class RoleAdapter implements TypeAdapter<Role> {
         if (raw.matches("\\d+")) {
             role = guild.getRoleById(raw);
         } else {
-            role = guild.getRolesByName(raw, true).stream().findFirst().orElse(null);
+            NameIndex index = NameIndex.of(context);
+            role = index == null ? null : index.findRole(guild, raw);
+            if (role == null) {
+                role = guild.getRolesByName(raw, true).stream().findFirst().orElse(null);
+            }
         }
         if (role == null) {
             return Optional.empty();
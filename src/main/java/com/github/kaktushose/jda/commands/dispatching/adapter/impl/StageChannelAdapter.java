@@ -1,6 +1,7 @@
 package com.github.kaktushose.jda.commands.dispatching.adapter.impl;
 
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.adapter.NameIndex;
 import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapter;
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.channel.ChannelType;
@@ -31,6 +32,12 @@ public class StageChannelAdapter implements TypeAdapter<StageChannel> {
             return Optional.empty();
         }
 
+        // mentions are already resolved by Discord
+        StageChannel mentioned = context.getMentions().getChannel(raw, StageChannel.class);
+        if (mentioned != null) {
+            return Optional.of(mentioned);
+        }
+
         StageChannel stageChannel;
         raw = sanitizeMention(raw);
 
@@ -38,7 +45,11 @@ public class StageChannelAdapter implements TypeAdapter<StageChannel> {
         if (raw.matches("\\d+")) {
             stageChannel = guild.getStageChannelById(raw);
         } else {
-            stageChannel = guild.getStageChannelsByName(raw, true).stream().findFirst().orElse(null);
+            NameIndex index = NameIndex.of(context);
+            stageChannel = index == null ? null : index.findChannel(guild, raw, StageChannel.class);
+            if (stageChannel == null) {
+                stageChannel = guild.getStageChannelsByName(raw, true).stream().findFirst().orElse(null);
+            }
         }
         if (stageChannel == null) {
             return Optional.empty();
@@ -1,6 +1,7 @@
 package com.github.kaktushose.jda.commands.dispatching.adapter.impl;
 
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.adapter.NameIndex;
 import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapter;
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.channel.ChannelType;
@@ -31,6 +32,12 @@ public class TextChannelAdapter implements TypeAdapter<TextChannel> {
             return Optional.empty();
         }
 
+        // mentions are already resolved by Discord
+        TextChannel mentioned = context.getMentions().getChannel(raw, TextChannel.class);
+        if (mentioned != null) {
+            return Optional.of(mentioned);
+        }
+
         TextChannel textChannel;
         raw = sanitizeMention(raw);
 
@@ -38,7 +45,11 @@ public class TextChannelAdapter implements TypeAdapter<TextChannel> {
         if (raw.matches("\\d+")) {
             textChannel = guild.getTextChannelById(raw);
         } else {
-            textChannel = guild.getTextChannelsByName(raw, true).stream().findFirst().orElse(null);
+            NameIndex index = NameIndex.of(context);
+            textChannel = index == null ? null : index.findChannel(guild, raw, TextChannel.class);
+            if (textChannel == null) {
+                textChannel = guild.getTextChannelsByName(raw, true).stream().findFirst().orElse(null);
+            }
         }
         if (textChannel == null) {
             return Optional.empty();
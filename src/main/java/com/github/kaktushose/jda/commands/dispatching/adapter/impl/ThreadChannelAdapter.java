@@ -1,6 +1,7 @@
 package com.github.kaktushose.jda.commands.dispatching.adapter.impl;
 
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.adapter.NameIndex;
 import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapter;
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.channel.ChannelType;
@@ -31,6 +32,12 @@ public class ThreadChannelAdapter implements TypeAdapter<ThreadChannel> {
             return Optional.empty();
         }
 
+        // mentions are already resolved by Discord
+        ThreadChannel mentioned = context.getMentions().getChannel(raw, ThreadChannel.class);
+        if (mentioned != null) {
+            return Optional.of(mentioned);
+        }
+
         ThreadChannel threadChannel;
         raw = sanitizeMention(raw);
 
@@ -38,7 +45,11 @@ public class ThreadChannelAdapter implements TypeAdapter<ThreadChannel> {
         if (raw.matches("\\d+")) {
             threadChannel = guild.getThreadChannelById(raw);
         } else {
-            threadChannel = guild.getThreadChannelsByName(raw, true).stream().findFirst().orElse(null);
+            NameIndex index = NameIndex.of(context);
+            threadChannel = index == null ? null : index.findChannel(guild, raw, ThreadChannel.class);
+            if (threadChannel == null) {
+                threadChannel = guild.getThreadChannelsByName(raw, true).stream().findFirst().orElse(null);
+            }
         }
         if (threadChannel == null) {
             return Optional.empty();
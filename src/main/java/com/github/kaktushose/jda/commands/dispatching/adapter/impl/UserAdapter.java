@@ -1,13 +1,16 @@
 package com.github.kaktushose.jda.commands.dispatching.adapter.impl;
 
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
-import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapter;
+import com.github.kaktushose.jda.commands.dispatching.adapter.AsyncTypeAdapter;
+import com.github.kaktushose.jda.commands.dispatching.adapter.LookupCache;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.User;
-import net.dv8tion.jda.api.exceptions.ErrorResponseException;
+import net.dv8tion.jda.api.utils.MiscUtil;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 /**
  * Type adapter for JDAs {@link User}.
@@ -16,32 +19,38 @@ import java.util.Optional;
  * @version 2.0.0
  * @since 2.0.0
  */
-public class UserAdapter implements TypeAdapter<User> {
+public class UserAdapter implements AsyncTypeAdapter<User> {
 
     /**
-     * Attempts to parse a String to a {@link User}. Accepts both the user id and name.
+     * Attempts to parse a String to a {@link User}. Accepts both the user id and name. Users that aren't cached are
+     * retrieved without blocking.
      *
      * @param raw     the String to parse
      * @param context the {@link CommandContext}
-     * @return the parsed {@link User} or an empty Optional if the parsing fails
+     * @return a {@link CompletableFuture} completing with the parsed {@link User} or an empty Optional if the parsing
+     * fails
      */
     @Override
-    public Optional<User> parse(@NotNull String raw, @NotNull CommandContext context) {
-        User user;
+    public CompletableFuture<Optional<User>> parseAsync(@NotNull String raw, @NotNull CommandContext context) {
+        // mentions are already resolved by Discord
+        User mentioned = context.getMentions().getUser(raw);
+        if (mentioned != null) {
+            return CompletableFuture.completedFuture(Optional.of(mentioned));
+        }
+
         raw = sanitizeMention(raw);
         JDA jda = context.getEvent().getJDA();
         if (raw.matches("\\d+")) {
-            try {
-                user = jda.retrieveUserById(raw).complete();
-            } catch (ErrorResponseException ignored) {
-                user = null;
+            String id = raw;
+            Supplier<CompletableFuture<Optional<User>>> request = () -> jda.retrieveUserById(id).submit()
+                    .thenApply(Optional::of)
+                    .exceptionally(this::emptyOnErrorResponse);
+            LookupCache cache = LookupCache.of(context);
+            if (cache == null) {
+                return request.get();
             }
-        } else {
-            user = jda.getUsersByName(raw, true).stream().findFirst().orElse(null);
-        }
-        if (user == null) {
-            return Optional.empty();
+            return cache.getUser(MiscUtil.parseSnowflake(id), request);
         }
-        return Optional.of(user);
+        return CompletableFuture.completedFuture(jda.getUsersByName(raw, true).stream().findFirst());
     }
 }
@@ -1,6 +1,7 @@
 package com.github.kaktushose.jda.commands.dispatching.adapter.impl;
 
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.adapter.NameIndex;
 import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapter;
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.channel.ChannelType;
@@ -31,6 +32,12 @@ public class VoiceChannelAdapter implements TypeAdapter<VoiceChannel> {
             return Optional.empty();
         }
 
+        // mentions are already resolved by Discord
+        VoiceChannel mentioned = context.getMentions().getChannel(raw, VoiceChannel.class);
+        if (mentioned != null) {
+            return Optional.of(mentioned);
+        }
+
         VoiceChannel voiceChannel;
         raw = sanitizeMention(raw);
 
@@ -38,7 +45,11 @@ public class VoiceChannelAdapter implements TypeAdapter<VoiceChannel> {
         if (raw.matches("\\d+")) {
             voiceChannel = guild.getVoiceChannelById(raw);
         } else {
-            voiceChannel = guild.getVoiceChannelsByName(raw, true).stream().findFirst().orElse(null);
+            NameIndex index = NameIndex.of(context);
+            voiceChannel = index == null ? null : index.findChannel(guild, raw, VoiceChannel.class);
+            if (voiceChannel == null) {
+                voiceChannel = guild.getVoiceChannelsByName(raw, true).stream().findFirst().orElse(null);
+            }
         }
         if (voiceChannel == null) {
             return Optional.empty();
@@ -0,0 +1,38 @@
+package com.github.kaktushose.jda.commands.dispatching.filter;
+
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.util.Futures;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A {@link Filter} that doesn't block the dispatching thread, e.g. because it has to wait for a database. The
+ * {@link com.github.kaktushose.jda.commands.dispatching.CommandDispatcher CommandDispatcher} applies the remaining
+ * filters once the returned future completes.
+ *
+ * @author Kaktushose
+ * @version 3.0.0
+ * @since 3.0.0
+ */
+public interface AsyncFilter extends Filter {
+
+    /**
+     * Performs the filtering on a {@link CommandContext} object without blocking. Use
+     * {@link CommandContext#setCancelled(boolean)} to indicate that the {@link CommandContext} didn't pass the filter.
+     *
+     * @param context the {@link CommandContext} to filter
+     * @return a {@link CompletableFuture} completing once the filtering is done
+     */
+    CompletableFuture<Void> applyAsync(@NotNull CommandContext context);
+
+    /**
+     * Performs the filtering on a {@link CommandContext} object and blocks until it is done.
+     *
+     * @param context the {@link CommandContext} to filter
+     */
+    @Override
+    default void apply(@NotNull CommandContext context) {
+        Futures.join(applyAsync(context));
+    }
+}
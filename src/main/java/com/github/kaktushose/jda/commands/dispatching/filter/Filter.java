@@ -1,6 +1,7 @@
 package com.github.kaktushose.jda.commands.dispatching.filter;
 
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -21,4 +22,18 @@ public interface Filter {
      */
     void apply(@NotNull CommandContext context);
 
+    /**
+     * Whether this filter can have an effect on the given {@link CommandDefinition}. Filters that aren't applicable
+     * are left out of the {@link FilterChain} of the command. This is only used for the
+     * {@link FilterRegistry.FilterPosition#BEFORE_ADAPTING BEFORE_ADAPTING} and
+     * {@link FilterRegistry.FilterPosition#BEFORE_EXECUTION BEFORE_EXECUTION} positions, since the command isn't known
+     * before routing.
+     *
+     * @param command the {@link CommandDefinition} to check
+     * @return {@code true} if this filter must be applied to the command. Defaults to {@code true}
+     */
+    default boolean isApplicable(@NotNull CommandDefinition command) {
+        return true;
+    }
+
 }
@@ -0,0 +1,64 @@
+package com.github.kaktushose.jda.commands.dispatching.filter;
+
+import com.github.kaktushose.jda.commands.dispatching.filter.FilterRegistry.FilterPosition;
+import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The {@link Filter Filters} of a {@link FilterRegistry} that are {@link Filter#isApplicable(CommandDefinition)
+ * applicable} to a specific {@link CommandDefinition}. A chain is computed once per command and gets replaced by
+ * {@link FilterRegistry#getChain(CommandDefinition)} if filters are registered or unregistered.
+ *
+ * @author Kaktushose
+ * @version 3.0.0
+ * @see FilterRegistry#getChain(CommandDefinition)
+ * @since 3.0.0
+ */
+public class FilterChain {
+
+    private final FilterRegistry registry;
+    private final long version;
+    private final List<List<Filter>> positions;
+
+    FilterChain(FilterRegistry registry, long version, List<List<Filter>> filters, CommandDefinition command) {
+        this.registry = registry;
+        this.version = version;
+        List<List<Filter>> positions = new ArrayList<>(filters.size());
+        for (FilterPosition position : FilterPosition.values()) {
+            List<Filter> all = filters.get(position.ordinal());
+            // the command isn't known before routing, so these filters always apply
+            if (position == FilterPosition.BEFORE_ROUTING) {
+                positions.add(all);
+                continue;
+            }
+            Filter[] applicable = all.stream().filter(filter -> filter.isApplicable(command)).toArray(Filter[]::new);
+            positions.add(applicable.length == all.size() ? all : Collections.unmodifiableList(Arrays.asList(applicable)));
+        }
+        this.positions = positions;
+    }
+
+    /**
+     * Gets the {@link Filter Filters} of this chain for the given {@link FilterPosition}.
+     *
+     * @param position the {@link FilterPosition} to retrieve the {@link Filter Filters} for
+     * @return an unmodifiable List of the applicable {@link Filter Filters} in registration order
+     */
+    public List<Filter> getAll(@NotNull FilterPosition position) {
+        return positions.get(position.ordinal());
+    }
+
+    /**
+     * Whether this chain reflects the current state of the given {@link FilterRegistry}.
+     *
+     * @param registry the {@link FilterRegistry} to check against
+     * @return {@code true} if this chain was computed by the registry and no filters changed since
+     */
+    public boolean isValid(@NotNull FilterRegistry registry) {
+        return this.registry == registry && version == registry.getVersion();
+    }
+}
@@ -1,17 +1,20 @@
 package com.github.kaktushose.jda.commands.dispatching.filter;
 
 import com.github.kaktushose.jda.commands.dispatching.filter.impl.*;
+import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
 /**
- * Central registry for all {@link Filter Filters}.
+ * Central registry for all {@link Filter Filters}. The filters of each {@link FilterPosition} are published as
+ * immutable snapshots that get replaced on every change, thus reading them doesn't need any synchronization.
  *
  * @author Kaktushose
  * @version 2.0.0
@@ -22,6 +25,8 @@ public class FilterRegistry {
 
     private static final Logger log = LoggerFactory.getLogger(FilterRegistry.class);
     private final List<FilterEntry> filters;
+    private volatile List<List<Filter>> positions;
+    private volatile long version;
 
     /**
      * Constructs a new FilterRegistry. This will register the following {@link Filter Filters} by default:
@@ -50,8 +55,9 @@ public class FilterRegistry {
      * @param filter   the {@link Filter} to register
      * @param position the {@link FilterPosition FilterPosition} at which the {@link Filter} gets registered
      */
-    public void register(@NotNull Filter filter, @NotNull FilterPosition position) {
+    public synchronized void register(@NotNull Filter filter, @NotNull FilterPosition position) {
         filters.add(new FilterEntry(filter, position));
+        update();
         log.debug("Registered filter {} for position {}", filter.getClass().getName(), position);
     }
 
@@ -60,8 +66,9 @@ public class FilterRegistry {
      *
      * @param filter the {@link Filter} to unregister
      */
-    public void unregister(@NotNull Class<? extends Filter> filter) {
-        filters.removeIf(entry -> filter.isAssignableFrom(filter));
+    public synchronized void unregister(@NotNull Class<? extends Filter> filter) {
+        filters.removeIf(entry -> filter.isAssignableFrom(entry.filter.getClass()));
+        update();
         log.debug("Unregistered filter(s) {}", filter.getName());
     }
 
@@ -71,7 +78,7 @@ public class FilterRegistry {
      *
      * @return all registered {@link Filter Filters}
      */
-    public List<Filter> getAll() {
+    public synchronized List<Filter> getAll() {
         return Collections.unmodifiableList(filters.stream().map(entry -> entry.filter).collect(Collectors.toList()));
     }
 
@@ -82,10 +89,51 @@ public class FilterRegistry {
      * @return all registered {@link Filter Filters}
      */
     public List<Filter> getAll(@NotNull FilterPosition position) {
-        return Collections.unmodifiableList(filters.stream()
-                .filter(entry -> entry.position.equals(position))
-                .map(entry -> entry.filter)
-                .collect(Collectors.toList()));
+        return positions.get(position.ordinal());
+    }
+
+    /**
+     * Gets the {@link FilterChain} of the given {@link CommandDefinition}, containing only the {@link Filter Filters}
+     * that are {@link Filter#isApplicable(CommandDefinition) applicable} to the command. The chain is computed on the
+     * first call and computed again if filters got registered or unregistered since.
+     *
+     * @param command the {@link CommandDefinition} to get the {@link FilterChain} for
+     * @return the {@link FilterChain} of the command
+     */
+    public FilterChain getChain(@NotNull CommandDefinition command) {
+        FilterChain chain = command.getFilterChain();
+        if (chain != null && chain.isValid(this)) {
+            return chain;
+        }
+        // read the version first, a concurrent change then only makes the chain stale, never incomplete
+        long version = this.version;
+        chain = new FilterChain(this, version, positions, command);
+        command.setFilterChain(chain);
+        log.debug("Computed filter chain for command {}", command.getMethod().getName());
+        return chain;
+    }
+
+    /**
+     * Gets the version of this registry, which is incremented whenever a {@link Filter} gets registered or
+     * unregistered.
+     *
+     * @return the version of this registry
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    private void update() {
+        List<List<Filter>> positions = new ArrayList<>();
+        for (FilterPosition position : FilterPosition.values()) {
+            Filter[] snapshot = filters.stream()
+                    .filter(entry -> entry.position == position)
+                    .map(entry -> entry.filter)
+                    .toArray(Filter[]::new);
+            positions.add(Collections.unmodifiableList(Arrays.asList(snapshot)));
+        }
+        this.positions = positions;
+        version++;
     }
 
     /**
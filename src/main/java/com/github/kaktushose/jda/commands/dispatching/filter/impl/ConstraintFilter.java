@@ -2,6 +2,7 @@ package com.github.kaktushose.jda.commands.dispatching.filter.impl;
 
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
 import com.github.kaktushose.jda.commands.dispatching.filter.Filter;
+import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
 import com.github.kaktushose.jda.commands.reflect.ConstraintDefinition;
 import com.github.kaktushose.jda.commands.reflect.ParameterDefinition;
 import org.jetbrains.annotations.NotNull;
@@ -11,8 +12,7 @@ import org.slf4j.LoggerFactory;
 import java.util.List;
 
 /**
- * A {@link Filter} implementation that will check the parameter constraints a
- * {@link com.github.kaktushose.jda.commands.reflect.CommandDefinition} might have.
+ * A {@link Filter} implementation that will check the parameter constraints a {@link CommandDefinition} might have.
  *
  * @author Kaktushose
  * @version 2.0.0
@@ -41,7 +41,7 @@ public class ConstraintFilter implements Filter {
             for (ConstraintDefinition constraint : parameter.getConstraints()) {
                 log.debug("Found constraint {} for parameter {}", constraint, parameter.getType().getName());
 
-                boolean validated = constraint.getValidator().validate(argument, constraint.getAnnotation(), context);
+                boolean validated = constraint.getValidator().validate(argument, constraint, context);
 
                 if (!validated) {
                     context.setCancelled(true);
@@ -57,4 +57,15 @@ public class ConstraintFilter implements Filter {
         }
         log.debug("All constraints passed");
     }
+
+    /**
+     * Whether any parameter of the given {@link CommandDefinition} has a constraint.
+     *
+     * @param command the {@link CommandDefinition} to check
+     * @return {@code true} if at least one parameter has a constraint
+     */
+    @Override
+    public boolean isApplicable(@NotNull CommandDefinition command) {
+        return command.getParameters().stream().anyMatch(parameter -> !parameter.getConstraints().isEmpty());
+    }
 }
@@ -8,7 +8,10 @@ import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.*;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A {@link Filter} implementation that contains the business logic behind command cooldowns.
@@ -16,6 +19,9 @@ import java.util.*;
  * formally if the {@link CommandDefinition} doesn't hold a {@link CooldownDefinition} or the delay of the
  * {@link CooldownDefinition} amounts to {@code 0} this filter has no effect.
  *
+ * <p>This filter is thread-safe. Cooldowns are measured with {@link System#nanoTime()} and expired cooldowns get
+ * removed periodically, thus the memory footprint is bound to the amount of active cooldowns.
+ *
  * @author Kaktushose
  * @version 2.0.0
  * @see com.github.kaktushose.jda.commands.annotations.Cooldown
@@ -24,10 +30,15 @@ import java.util.*;
 public class CooldownFilter implements Filter {
 
     private static final Logger log = LoggerFactory.getLogger(CooldownFilter.class);
-    private final Map<Long, Set<CooldownEntry>> activeCooldowns;
+    private static final long SWEEP_INTERVAL = TimeUnit.MINUTES.toNanos(1);
+    private static final long UNSCHEDULED = Long.MIN_VALUE;
+    private final Map<CooldownKey, Long> activeCooldowns;
+    private final AtomicLong nextSweep;
 
     public CooldownFilter() {
-        activeCooldowns = new HashMap<>();
+        activeCooldowns = new ConcurrentHashMap<>();
+        // scheduled on the first invocation, since nanoTime() must not be called before subclasses are initialized
+        nextSweep = new AtomicLong(UNSCHEDULED);
     }
 
     /**
@@ -44,53 +55,102 @@ public class CooldownFilter implements Filter {
             return;
         }
 
-        long id = context.getEvent().getAuthor().getIdLong();
+        long now = nanoTime();
+        sweep(now);
 
-        activeCooldowns.putIfAbsent(id, new HashSet<>());
+        CooldownKey key = new CooldownKey(context.getEvent().getAuthor().getIdLong(), command);
+        CooldownDefinition cooldown = command.getCooldown();
+        long duration = cooldown.getTimeUnit().toNanos(cooldown.getDelay());
+
+        // check and renew atomically, so concurrent invocations can't both pass
+        long[] remaining = new long[1];
+        activeCooldowns.compute(key, (k, deadline) -> {
+            if (deadline != null && deadline - now > 0) {
+                remaining[0] = deadline - now;
+                return deadline;
+            }
+            return now + duration;
+        });
+
+        if (remaining[0] > 0) {
+            // round up so that a cooldown that is just about to expire isn't reported as 0 ms
+            long millis = TimeUnit.NANOSECONDS.toMillis(remaining[0] + TimeUnit.MILLISECONDS.toNanos(1) - 1);
+            context.setCancelled(true);
+            context.setErrorMessage(context.getImplementationRegistry().getErrorMessageFactory().getCooldownMessage(context, millis));
+            log.debug("Command has a remaining cooldown of {} ms!", millis);
+            return;
+        }
+        log.debug("Added new cooldown entry for this user");
+    }
 
-        Optional<CooldownEntry> optional = activeCooldowns.get(id).stream().filter(entry -> entry.command.equals(command)).findFirst();
+    /**
+     * Whether the given {@link CommandDefinition} has a cooldown.
+     *
+     * @param command the {@link CommandDefinition} to check
+     * @return {@code true} if the command has a cooldown
+     */
+    @Override
+    public boolean isApplicable(@NotNull CommandDefinition command) {
+        return command.hasCooldown();
+    }
 
-        if (optional.isPresent()) {
-            CooldownEntry entry = optional.get();
-            long remaining = entry.duration - (System.currentTimeMillis() - entry.startTime);
-            if (remaining <= 0) {
-                activeCooldowns.get(id).remove(entry);
-            } else {
-                context.setCancelled(true);
-                context.setErrorMessage(context.getImplementationRegistry().getErrorMessageFactory().getCooldownMessage(context, remaining));
-                log.debug("Command has a remaining cooldown of {} ms!", remaining);
-                return;
-            }
+    /**
+     * Gets the current time cooldowns are measured with. Defaults to {@link System#nanoTime()}.
+     *
+     * @return the current time in nanoseconds
+     */
+    protected long nanoTime() {
+        return System.nanoTime();
+    }
+
+    private void sweep(long now) {
+        long next = nextSweep.get();
+        if (next == UNSCHEDULED) {
+            nextSweep.compareAndSet(UNSCHEDULED, now + SWEEP_INTERVAL);
+            return;
+        }
+        // only the thread winning the race performs the sweep
+        if (now - next < 0 || !nextSweep.compareAndSet(next, now + SWEEP_INTERVAL)) {
+            return;
         }
+        activeCooldowns.values().removeIf(deadline -> deadline - now <= 0);
+        log.debug("Removed expired cooldowns, {} cooldown(s) remaining", activeCooldowns.size());
+    }
 
-        CooldownDefinition cooldown = command.getCooldown();
-        long startTime = System.currentTimeMillis();
-        long duration = cooldown.getTimeUnit().toMillis(cooldown.getDelay());
-        activeCooldowns.get(id).add(new CooldownEntry(command, startTime, duration));
-        log.debug("Added new cooldown entry for this user");
+    /**
+     * Gets the number of cooldowns currently held by this filter. This may include expired cooldowns that haven't
+     * been removed yet.
+     *
+     * @return the number of cooldowns
+     */
+    public int size() {
+        return activeCooldowns.size();
     }
 
-    private static class CooldownEntry {
+    private static class CooldownKey {
+        private final long userId;
         private final CommandDefinition command;
-        private final long startTime;
-        private final long duration;
 
-        public CooldownEntry(CommandDefinition command, long startTime, long duration) {
+        private CooldownKey(long userId, CommandDefinition command) {
+            this.userId = userId;
             this.command = command;
-            this.startTime = startTime;
-            this.duration = duration;
         }
 
-        public CommandDefinition getCommand() {
-            return command;
-        }
-
-        public long getStartTime() {
-            return startTime;
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CooldownKey)) {
+                return false;
+            }
+            CooldownKey other = (CooldownKey) o;
+            return userId == other.userId && command == other.command;
         }
 
-        public long getDuration() {
-            return duration;
+        @Override
+        public int hashCode() {
+            return 31 * Long.hashCode(userId) + System.identityHashCode(command);
         }
     }
 }
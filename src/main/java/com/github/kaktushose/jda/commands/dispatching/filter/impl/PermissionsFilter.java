@@ -1,7 +1,9 @@
 package com.github.kaktushose.jda.commands.dispatching.filter.impl;
 
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.filter.AsyncFilter;
 import com.github.kaktushose.jda.commands.dispatching.filter.Filter;
+import com.github.kaktushose.jda.commands.permissions.AsyncPermissionsProvider;
 import com.github.kaktushose.jda.commands.permissions.PermissionsProvider;
 import net.dv8tion.jda.api.entities.Member;
 import net.dv8tion.jda.api.entities.User;
@@ -11,14 +13,16 @@ import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * A {@link Filter} implementation that will check permissions.
  * The default implementation can only handle discord permissions. However, the {@link PermissionsProvider} can be
  * used for own implementations.
- * This filter will first check against {@link PermissionsProvider#hasPermission(User, CommandContext)} with a
- * {@link User} object. This can be used for global permissions. Afterwards
+ * This filter will check against {@link PermissionsProvider#hasPermission(User, CommandContext)} with a
+ * {@link User} object. This can be used for global permissions. In parallel
  * {@link PermissionsProvider#hasPermission(Member, CommandContext)} will be called. Since the {@link Member} is
- * available this might be used for guild related permissions.
+ * available this might be used for guild related permissions. Both checks must pass.
  *
  * @author Kaktushose
  * @version 2.0.0
@@ -26,40 +30,44 @@ import org.slf4j.LoggerFactory;
  * @see PermissionsProvider
  * @since 2.0.0
  */
-public class PermissionsFilter implements Filter {
+public class PermissionsFilter implements AsyncFilter {
 
     private static final Logger log = LoggerFactory.getLogger(PermissionsFilter.class);
 
     /**
-     * Checks if the {@link User} and respectively the {@link Member} has the permission to execute the command.
+     * Checks if the {@link User} and respectively the {@link Member} has the permission to execute the command. Both
+     * checks are performed by the {@link AsyncPermissionsProvider} in parallel.
      *
      * @param context the {@link CommandContext} to filter
+     * @return a {@link CompletableFuture} completing once all checks are done
      */
     @Override
-    public void apply(@NotNull CommandContext context) {
+    public CompletableFuture<Void> applyAsync(@NotNull CommandContext context) {
         log.debug("Checking permissions...");
-        PermissionsProvider provider = context.getImplementationRegistry().getPermissionsProvider();
+        AsyncPermissionsProvider provider = context.getImplementationRegistry().getAsyncPermissionsProvider();
 
         MessageReceivedEvent event = context.getEvent();
 
-        boolean isCancelled = !provider.hasPermission(event.getAuthor(), context);
+        CompletableFuture<Boolean> userCheck = provider.hasPermission(event.getAuthor(), context);
 
         // we only have member information in a guild channel
-        if (!isCancelled && event.isFromType(ChannelType.TEXT)) {
-            isCancelled = !provider.hasPermission(event.getMember(), context);
-        }
+        CompletableFuture<Boolean> memberCheck = event.isFromType(ChannelType.TEXT)
+                ? provider.hasPermission(event.getMember(), context)
+                : CompletableFuture.completedFuture(true);
 
-        if (isCancelled) {
-            context.setCancelled(true);
-            context.setErrorMessage(context
-                    .getImplementationRegistry()
-                    .getErrorMessageFactory()
-                    .getInsufficientPermissionsMessage(context)
-            );
-            log.debug("Insufficient permissions!");
-            return;
-        }
+        return userCheck.thenCombine(memberCheck, (user, member) -> user && member).thenAccept(hasPermission -> {
+            if (!hasPermission) {
+                context.setCancelled(true);
+                context.setErrorMessage(context
+                        .getImplementationRegistry()
+                        .getErrorMessageFactory()
+                        .getInsufficientPermissionsMessage(context)
+                );
+                log.debug("Insufficient permissions!");
+                return;
+            }
 
-        log.debug("All permission checks passed");
+            log.debug("All permission checks passed");
+        });
     }
 }
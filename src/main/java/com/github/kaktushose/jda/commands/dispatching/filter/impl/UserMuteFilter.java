@@ -1,13 +1,17 @@
 package com.github.kaktushose.jda.commands.dispatching.filter.impl;
 
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.filter.AsyncFilter;
 import com.github.kaktushose.jda.commands.dispatching.filter.Filter;
+import com.github.kaktushose.jda.commands.permissions.AsyncPermissionsProvider;
 import com.github.kaktushose.jda.commands.permissions.PermissionsProvider;
 import net.dv8tion.jda.api.entities.User;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * A {@link Filter} implementation that will check permissions similar to the {@link PermissionsFilter}.
  * The difference is that this filter gets executed at
@@ -20,31 +24,35 @@ import org.slf4j.LoggerFactory;
  * @see PermissionsProvider#isMuted(User, CommandContext)
  * @since 2.0.0
  */
-public class UserMuteFilter implements Filter {
+public class UserMuteFilter implements AsyncFilter {
 
     private static final Logger log = LoggerFactory.getLogger(UserMuteFilter.class);
 
     /**
-     * Checks if a {@link User} is muted and will cancel the {@link CommandContext} if he is.
+     * Checks if a {@link User} is muted and will cancel the {@link CommandContext} if he is. The check is performed
+     * by the {@link AsyncPermissionsProvider}.
      *
      * @param context the {@link CommandContext} to filter
+     * @return a {@link CompletableFuture} completing once the check is done
      */
     @Override
-    public void apply(@NotNull CommandContext context) {
+    public CompletableFuture<Void> applyAsync(@NotNull CommandContext context) {
         log.debug("Checking mutes...");
-        PermissionsProvider provider = context.getImplementationRegistry().getPermissionsProvider();
+        AsyncPermissionsProvider provider = context.getImplementationRegistry().getAsyncPermissionsProvider();
 
-        if (provider.isMuted(context.getEvent().getAuthor(), context)) {
-            context.setCancelled(true);
-            context.setErrorMessage(context
-                    .getImplementationRegistry()
-                    .getErrorMessageFactory()
-                    .getUserMutedMessage(context)
-            );
-            log.debug("Insufficient permissions - User is muted!");
-            return;
-        }
+        return provider.isMuted(context.getEvent().getAuthor(), context).thenAccept(isMuted -> {
+            if (isMuted) {
+                context.setCancelled(true);
+                context.setErrorMessage(context
+                        .getImplementationRegistry()
+                        .getErrorMessageFactory()
+                        .getUserMutedMessage(context)
+                );
+                log.debug("Insufficient permissions - User is muted!");
+                return;
+            }
 
-        log.debug("All mute checks passed");
+            log.debug("All mute checks passed");
+        });
     }
 }
@@ -0,0 +1,176 @@
+package com.github.kaktushose.jda.commands.dispatching.parser;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * The tokens of a message, produced by a single linear scan over the raw content. Tokens are separated by spaces,
+ * leading and trailing whitespace is ignored. Each token remembers its position inside the raw content, which allows
+ * slicing the original text verbatim, e.g. for {@link com.github.kaktushose.jda.commands.annotations.Concat Concat}
+ * parameters.
+ *
+ * <p>If quotes are parsed, spaces inside single or double quotes don't separate tokens and the quotation marks are
+ * removed from the token. E.g. {@code Hello "Foo Bar" World -> [Hello, Foo Bar, World]}
+ *
+ * @author Kaktushose
+ * @version 3.0.0
+ * @see com.github.kaktushose.jda.commands.dispatching.parser.impl.DefaultMessageParser
+ * @since 3.0.0
+ */
+public class MessageTokens {
+
+    private final String content;
+    private final String[] tokens;
+    private final int[] starts;
+    private final int end;
+
+    private MessageTokens(String content, String[] tokens, int[] starts, int end) {
+        this.content = content;
+        this.tokens = tokens;
+        this.starts = starts;
+        this.end = end;
+    }
+
+    /**
+     * Tokenizes the given content.
+     *
+     * @param content     the raw content to tokenize
+     * @param from        the index to start at, e.g. the length of the prefix
+     * @param parseQuotes whether quotes should be parsed
+     * @return the {@link MessageTokens} of the content
+     */
+    public static MessageTokens tokenize(@NotNull String content, int from, boolean parseQuotes) {
+        int start = from;
+        int end = content.length();
+        // same semantics as String#trim
+        while (start < end && content.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && content.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        String[] tokens = new String[8];
+        int[] starts = new int[8];
+        int count = 0;
+        int i = start;
+        while (i < end) {
+            if (content.charAt(i) == ' ') {
+                i++;
+                continue;
+            }
+            int tokenStart = i;
+            boolean isQuote = false;
+            boolean hasQuotes = false;
+            for (; i < end; i++) {
+                char c = content.charAt(i);
+                if (parseQuotes && (c == '"' || c == '\'')) {
+                    isQuote = !isQuote;
+                    hasQuotes = true;
+                } else if (c == ' ' && !isQuote) {
+                    break;
+                }
+            }
+
+            if (count == tokens.length) {
+                tokens = Arrays.copyOf(tokens, count * 2);
+                starts = Arrays.copyOf(starts, count * 2);
+            }
+            tokens[count] = hasQuotes ? unquote(content, tokenStart, i) : content.substring(tokenStart, i);
+            starts[count] = tokenStart;
+            count++;
+        }
+        return new MessageTokens(content, Arrays.copyOf(tokens, count), Arrays.copyOf(starts, count), end);
+    }
+
+    private static String unquote(String content, int start, int end) {
+        StringBuilder builder = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            char c = content.charAt(i);
+            if (c != '"' && c != '\'') {
+                builder.append(c);
+            }
+        }
+        return builder.toString().trim();
+    }
+
+    /**
+     * Gets the raw content.
+     *
+     * @return the raw content
+     */
+    public String getContent() {
+        return content;
+    }
+
+    /**
+     * Gets the amount of tokens.
+     *
+     * @return the amount of tokens
+     */
+    public int size() {
+        return tokens.length;
+    }
+
+    /**
+     * Gets the token at the given index.
+     *
+     * @param index the index of the token
+     * @return the token
+     */
+    public String get(int index) {
+        return tokens[index];
+    }
+
+    /**
+     * Gets the position of the token inside the raw content. If the token starts with a quotation mark, this is the
+     * position of the quotation mark.
+     *
+     * @param index the index of the token
+     * @return the position of the token
+     */
+    public int getStart(int index) {
+        return starts[index];
+    }
+
+    /**
+     * Gets the raw content from the start of the given token to the end of the last token. Spacing and quotes are kept
+     * as they were sent.
+     *
+     * @param index the index of the first token
+     * @return the raw content starting at the given token
+     */
+    public String slice(int index) {
+        return content.substring(starts[index], end);
+    }
+
+    /**
+     * Gets a copy of all tokens. The elements of the array are the same instances as returned by {@link #get(int)}.
+     *
+     * @return all tokens
+     */
+    public String[] toArray() {
+        return tokens.clone();
+    }
+
+    /**
+     * Whether the given input consists of the last tokens of this message. The elements are compared by identity, thus
+     * this only returns {@code true} if the input was derived from {@link #toArray()} by removing leading tokens.
+     *
+     * @param input the input to check
+     * @return {@code true} if the input is a suffix of the tokens
+     */
+    public boolean isSuffix(@NotNull String[] input) {
+        int offset = tokens.length - input.length;
+        if (offset < 0) {
+            return false;
+        }
+        for (int i = 0; i < input.length; i++) {
+            if (input[i] != tokens[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -5,6 +5,8 @@ import com.github.kaktushose.jda.commands.dispatching.CommandDispatcher;
 import net.dv8tion.jda.api.events.GenericEvent;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Abstract toplevel class for defining event parsers.
  *
@@ -19,6 +21,11 @@ public abstract class Parser<T extends GenericEvent> {
         return parse((T) event, dispatcher);
     }
 
+    @SuppressWarnings("unchecked")
+    CompletableFuture<CommandContext> parseAsyncInternal(GenericEvent event, CommandDispatcher dispatcher) {
+        return parseAsync((T) event, dispatcher);
+    }
+
     /**
      * Takes a subtype of {@link GenericEvent}, parses and transpiles it into a {@link CommandContext}.
      *
@@ -28,4 +35,17 @@ public abstract class Parser<T extends GenericEvent> {
      */
     public abstract CommandContext parse(@NotNull T event, @NotNull CommandDispatcher dispatcher);
 
+    /**
+     * Takes a subtype of {@link GenericEvent}, parses and transpiles it into a {@link CommandContext} without
+     * blocking. Override this if parsing has to wait for something, e.g. for the settings of a guild. The default
+     * implementation calls {@link #parse(GenericEvent, CommandDispatcher)}.
+     *
+     * @param event      the subtype of {@link GenericEvent}
+     * @param dispatcher the calling {@link CommandDispatcher}
+     * @return a {@link CompletableFuture} completing with a new {@link CommandContext}
+     */
+    public CompletableFuture<CommandContext> parseAsync(@NotNull T event, @NotNull CommandDispatcher dispatcher) {
+        return CompletableFuture.completedFuture(parse(event, dispatcher));
+    }
+
 }
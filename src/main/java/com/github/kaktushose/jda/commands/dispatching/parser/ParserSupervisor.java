@@ -2,17 +2,28 @@ package com.github.kaktushose.jda.commands.dispatching.parser;
 
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
 import com.github.kaktushose.jda.commands.dispatching.CommandDispatcher;
+import com.github.kaktushose.jda.commands.dispatching.DispatchExecutor;
 import com.github.kaktushose.jda.commands.dispatching.parser.impl.DefaultMessageParser;
 import com.github.kaktushose.jda.commands.dispatching.sender.MessageSender;
+import com.github.kaktushose.jda.commands.embeds.error.ErrorMessageFactory;
+import com.github.kaktushose.jda.commands.reflect.ImplementationRegistry;
+import com.github.kaktushose.jda.commands.settings.DefaultSettingsProvider;
+import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import com.github.kaktushose.jda.commands.settings.SettingsProvider;
+import com.github.kaktushose.jda.commands.util.Futures;
 import net.dv8tion.jda.api.events.GenericEvent;
 import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
+import net.dv8tion.jda.api.utils.messages.MessageCreateData;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 /**
  * Registry for {@link Parser Parsers}. This is also the event listener that will call the corresponding parser.
@@ -27,6 +38,9 @@ public class ParserSupervisor extends ListenerAdapter {
     private static final Logger log = LoggerFactory.getLogger(ParserSupervisor.class);
     private final CommandDispatcher dispatcher;
     private final Map<Class<? extends GenericEvent>, Parser<? extends GenericEvent>> listeners;
+    private final PrefixIndex prefixIndex;
+    private volatile DispatchExecutor executor;
+    private volatile boolean isFastReject;
 
     /**
      * Constructs a new ParserSupervisor.
@@ -36,6 +50,8 @@ public class ParserSupervisor extends ListenerAdapter {
     public ParserSupervisor(@NotNull CommandDispatcher dispatcher) {
         listeners = new HashMap<>();
         this.dispatcher = dispatcher;
+        prefixIndex = new PrefixIndex();
+        isFastReject = true;
         register(MessageReceivedEvent.class, new DefaultMessageParser());
     }
 
@@ -60,36 +76,161 @@ public class ParserSupervisor extends ListenerAdapter {
         log.debug("Unregistered parser binding for event {}", listener.getSimpleName());
     }
 
+    /**
+     * Gets the {@link DispatchExecutor}.
+     *
+     * @return the {@link DispatchExecutor} or {@code null} if events are dispatched on the JDA event thread
+     */
+    @Nullable
+    public DispatchExecutor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets the {@link DispatchExecutor} to use for parsing and dispatching events. Pass {@code null} to dispatch events
+     * on the JDA event thread again, which is the default behaviour.
+     *
+     * @param executor the {@link DispatchExecutor} to use
+     */
+    public void setExecutor(@Nullable DispatchExecutor executor) {
+        this.executor = executor;
+        log.debug("Using {} for dispatching", executor == null ? "event thread" : executor.getExecutor().getClass().getName());
+    }
+
+    /**
+     * Gets the {@link PrefixIndex} used to discard messages that can't be commands. If a custom
+     * {@link SettingsProvider} is used, its prefixes must be added here to enable the early discarding.
+     *
+     * @return the {@link PrefixIndex}
+     */
+    public PrefixIndex getPrefixIndex() {
+        return prefixIndex;
+    }
+
+    /**
+     * Whether messages that don't start with a known prefix are discarded before parsing.
+     *
+     * @return {@code true} if messages that don't start with a known prefix are discarded
+     */
+    public boolean isFastReject() {
+        return isFastReject;
+    }
+
+    /**
+     * Sets whether messages that don't start with a known prefix are discarded before parsing. Default value is
+     * {@code true}. Disable this if a custom {@link Parser} for {@link MessageReceivedEvent MessageReceivedEvents}
+     * accepts messages without a prefix.
+     *
+     * @param fastReject whether to discard messages that don't start with a known prefix
+     */
+    public void setFastReject(boolean fastReject) {
+        isFastReject = fastReject;
+    }
+
     /**
      * Distributes {@link GenericEvent GenericEvents} to the corresponding parser. If the parsing didn't fail, will call
-     * {@link CommandDispatcher#onEvent(CommandContext)}
+     * {@link CommandDispatcher#onEvent(CommandContext)}. If a {@link DispatchExecutor} is set, this will happen
+     * asynchronously. Messages that don't start with a known prefix are discarded beforehand, see
+     * {@link #getPrefixIndex()}.
      *
      * @param event the {@link GenericEvent GenericEvents} to distribute
      */
     @Override
     public void onGenericEvent(@NotNull GenericEvent event) {
+        if (event instanceof MessageReceivedEvent && isRejected((MessageReceivedEvent) event)) {
+            return;
+        }
         if (!listeners.containsKey(event.getClass())) {
             return;
         }
         log.debug("Received {}", event.getClass().getSimpleName());
         Parser<?> parser = listeners.get(event.getClass());
+
+        DispatchExecutor executor = this.executor;
+        if (executor == null) {
+            dispatch(event, parser);
+        } else {
+            executor.executeAsync(event, () -> dispatch(event, parser));
+        }
+    }
+
+    private boolean isRejected(MessageReceivedEvent event) {
+        if (!isFastReject) {
+            return false;
+        }
+        SettingsProvider provider = dispatcher.getImplementationRegistry().getSettingsProvider();
+        boolean isDefault = provider instanceof DefaultSettingsProvider;
+        // without any known prefix every message might be a command
+        if (!isDefault && prefixIndex.isEmpty()) {
+            return false;
+        }
+        String content = event.getMessage().getContentRaw();
+        if (isDefault && content.startsWith(provider.getSettings(null).getPrefix())) {
+            return false;
+        }
+        return !prefixIndex.matches(content);
+    }
+
+    private CompletableFuture<Void> dispatch(GenericEvent event, Parser<?> parser) {
         log.debug("Calling {}", parser.getClass().getName());
-        CommandContext context = parser.parseInternal(event, dispatcher);
+        CompletableFuture<CommandContext> parsing;
+        try {
+            parsing = parser.parseAsyncInternal(event, dispatcher);
+        } catch (RuntimeException e) {
+            parsing = new CompletableFuture<>();
+            parsing.completeExceptionally(e);
+        }
+        // continues on the calling thread if the parsing is already done, otherwise e.g. once the settings are loaded
+        return parsing.handle((context, throwable) -> {
+            if (throwable != null) {
+                onParsingFailed(event, Futures.unwrap(throwable));
+                return CompletableFuture.<Void>completedFuture(null);
+            }
+            return dispatch(context);
+        }).thenCompose(Function.identity());
+    }
+
+    private void onParsingFailed(GenericEvent event, Throwable cause) {
+        log.error("Parsing failed!", cause);
+        if (!(event instanceof MessageReceivedEvent) || !(cause instanceof Exception)) {
+            return;
+        }
+        MessageReceivedEvent messageEvent = (MessageReceivedEvent) event;
+        GuildSettings settings = new GuildSettings();
+        String content = messageEvent.getMessage().getContentRaw();
+        // without the actual settings, only messages with a known prefix are assumed to be commands
+        if (!content.startsWith(settings.getPrefix()) && !prefixIndex.matches(content)) {
+            return;
+        }
+        ImplementationRegistry registry = dispatcher.getImplementationRegistry();
+        CommandContext context = new CommandContext()
+                .setEvent(messageEvent)
+                .setSettings(settings)
+                .setJdaCommands(dispatcher.getJdaCommands())
+                .setImplementationRegistry(registry);
+        MessageCreateData message = registry.getErrorMessageFactory()
+                .getCommandExecutionFailedMessage(context, (Exception) cause);
+        registry.getMessageSender().sendErrorMessage(context, message);
+    }
 
+    private CompletableFuture<Void> dispatch(CommandContext context) {
         MessageSender sender = context.getImplementationRegistry().getMessageSender();
 
         if (context.isCancelled()) {
             if (context.getErrorMessage() != null) {
                 sender.sendErrorMessage(context, context.getErrorMessage());
             }
-            return;
+            return CompletableFuture.completedFuture(null);
         }
 
-        try {
-            dispatcher.onEvent(context);
-        } catch (Exception e) {
-            sender.sendErrorMessage(context, context.getImplementationRegistry().getErrorMessageFactory().getCommandExecutionFailedMessage(context, e));
-            log.error("Command execution failed!", e);
-        }
+        return dispatcher.onEvent(context).exceptionally(throwable -> {
+            Throwable cause = Futures.unwrap(throwable);
+            log.error("Command execution failed!", cause);
+            if (cause instanceof Exception) {
+                ErrorMessageFactory factory = context.getImplementationRegistry().getErrorMessageFactory();
+                sender.sendErrorMessage(context, factory.getCommandExecutionFailedMessage(context, (Exception) cause));
+            }
+            return null;
+        });
     }
 }
@@ -0,0 +1,159 @@
+package com.github.kaktushose.jda.commands.dispatching.parser;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * A compact set of command prefixes used by the {@link ParserSupervisor} to discard messages that can't be commands
+ * before any parsing happens. Checking a message doesn't allocate: the first character of the message is looked up in
+ * a bitset and only the prefixes sharing this first character are compared.
+ *
+ * <p>The {@link ParserSupervisor} already knows the global prefix of the
+ * {@link com.github.kaktushose.jda.commands.settings.DefaultSettingsProvider DefaultSettingsProvider}. If a custom
+ * {@link com.github.kaktushose.jda.commands.settings.SettingsProvider SettingsProvider} is used, all prefixes it can
+ * return must be added here, else no messages are discarded at all.
+ *
+ * <p>This class is thread-safe. Modifications are copy-on-write, thus they should happen rarely, e.g. when a guild
+ * changes its prefix.
+ *
+ * @author Kaktushose
+ * @version 3.0.0
+ * @see ParserSupervisor#getPrefixIndex()
+ * @since 3.0.0
+ */
+public class PrefixIndex {
+
+    private final Set<String> prefixes;
+    private volatile Snapshot snapshot;
+
+    /**
+     * Constructs a new empty PrefixIndex.
+     */
+    public PrefixIndex() {
+        prefixes = new HashSet<>();
+        snapshot = new Snapshot(prefixes);
+    }
+
+    /**
+     * Adds a prefix.
+     *
+     * @param prefix the prefix to add
+     */
+    public synchronized void add(@NotNull String prefix) {
+        if (prefixes.add(prefix)) {
+            snapshot = new Snapshot(prefixes);
+        }
+    }
+
+    /**
+     * Adds multiple prefixes.
+     *
+     * @param prefixes the prefixes to add
+     */
+    public synchronized void addAll(@NotNull Collection<String> prefixes) {
+        if (this.prefixes.addAll(prefixes)) {
+            snapshot = new Snapshot(this.prefixes);
+        }
+    }
+
+    /**
+     * Removes a prefix.
+     *
+     * @param prefix the prefix to remove
+     */
+    public synchronized void remove(@NotNull String prefix) {
+        if (prefixes.remove(prefix)) {
+            snapshot = new Snapshot(prefixes);
+        }
+    }
+
+    /**
+     * Removes all prefixes.
+     */
+    public synchronized void clear() {
+        prefixes.clear();
+        snapshot = new Snapshot(prefixes);
+    }
+
+    /**
+     * Whether no prefixes have been added.
+     *
+     * @return {@code true} if no prefixes have been added
+     */
+    public boolean isEmpty() {
+        return snapshot.isEmpty;
+    }
+
+    /**
+     * Gets an unmodifiable copy of all prefixes.
+     *
+     * @return all prefixes
+     */
+    public synchronized Set<String> getPrefixes() {
+        return Collections.unmodifiableSet(new HashSet<>(prefixes));
+    }
+
+    /**
+     * Whether the content starts with any of the prefixes.
+     *
+     * @param content the content to check
+     * @return {@code true} if the content starts with any of the prefixes
+     */
+    public boolean matches(@NotNull String content) {
+        return snapshot.matches(content);
+    }
+
+    private static class Snapshot {
+
+        private final long[] firstChars;
+        private final char[] keys;
+        private final String[][] groups;
+        private final boolean matchesAll;
+        private final boolean isEmpty;
+
+        private Snapshot(Set<String> prefixes) {
+            firstChars = new long[(Character.MAX_VALUE + 1) >>> 6];
+            TreeMap<Character, List<String>> grouped = new TreeMap<>();
+            boolean matchesAll = false;
+            for (String prefix : prefixes) {
+                if (prefix.isEmpty()) {
+                    matchesAll = true;
+                    continue;
+                }
+                char first = prefix.charAt(0);
+                firstChars[first >>> 6] |= 1L << first;
+                grouped.computeIfAbsent(first, key -> new ArrayList<>()).add(prefix);
+            }
+            keys = new char[grouped.size()];
+            groups = new String[grouped.size()][];
+            int i = 0;
+            for (Map.Entry<Character, List<String>> entry : grouped.entrySet()) {
+                keys[i] = entry.getKey();
+                groups[i] = entry.getValue().toArray(new String[0]);
+                i++;
+            }
+            this.matchesAll = matchesAll;
+            isEmpty = prefixes.isEmpty();
+        }
+
+        private boolean matches(String content) {
+            if (matchesAll) {
+                return true;
+            }
+            if (content.isEmpty()) {
+                return false;
+            }
+            char first = content.charAt(0);
+            if ((firstChars[first >>> 6] & (1L << first)) == 0) {
+                return false;
+            }
+            for (String prefix : groups[Arrays.binarySearch(keys, first)]) {
+                if (content.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
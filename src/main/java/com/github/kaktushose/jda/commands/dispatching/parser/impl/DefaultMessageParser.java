@@ -2,19 +2,22 @@ package com.github.kaktushose.jda.commands.dispatching.parser.impl;
 
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
 import com.github.kaktushose.jda.commands.dispatching.CommandDispatcher;
+import com.github.kaktushose.jda.commands.dispatching.parser.MessageTokens;
 import com.github.kaktushose.jda.commands.dispatching.parser.Parser;
 import com.github.kaktushose.jda.commands.embeds.error.ErrorMessageFactory;
 import com.github.kaktushose.jda.commands.reflect.ImplementationRegistry;
+import com.github.kaktushose.jda.commands.settings.AsyncSettingsProvider;
 import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import com.github.kaktushose.jda.commands.settings.SettingsProvider;
+import com.github.kaktushose.jda.commands.util.LevenshteinDistance;
+import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.channel.ChannelType;
 import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
-import java.util.List;
-import java.util.regex.Pattern;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * An implementation of {@link Parser} that can parse {@link MessageReceivedEvent MessageReceivedEvents}.
@@ -26,9 +29,6 @@ import java.util.regex.Pattern;
  */
 public class DefaultMessageParser extends Parser<MessageReceivedEvent> {
 
-    private static final Collection<Character> QUOTATION_MARKS = Arrays.asList('\'', '\"');
-    private static final Character SPACE = ' ';
-
     /**
      * Takes a {@link MessageReceivedEvent}, parses and transpiles it into a {@link CommandContext}.
      *
@@ -38,9 +38,32 @@ public class DefaultMessageParser extends Parser<MessageReceivedEvent> {
      */
     @Override
     public CommandContext parse(@NotNull MessageReceivedEvent event, @NotNull CommandDispatcher dispatcher) {
+        SettingsProvider provider = dispatcher.getImplementationRegistry().getSettingsProvider();
+        return parse(event, dispatcher, provider.getSettings(getGuild(event)));
+    }
+
+    /**
+     * Takes a {@link MessageReceivedEvent}, parses and transpiles it into a {@link CommandContext} once the
+     * {@link GuildSettings} are loaded by the {@link AsyncSettingsProvider}.
+     *
+     * @param event      the {@link MessageReceivedEvent} to parse
+     * @param dispatcher the calling {@link CommandDispatcher}
+     * @return a {@link CompletableFuture} completing with a new {@link CommandContext}
+     */
+    @Override
+    public CompletableFuture<CommandContext> parseAsync(@NotNull MessageReceivedEvent event,
+                                                        @NotNull CommandDispatcher dispatcher) {
+        AsyncSettingsProvider provider = dispatcher.getImplementationRegistry().getAsyncSettingsProvider();
+        return provider.getSettings(getGuild(event)).thenApply(settings -> parse(event, dispatcher, settings));
+    }
+
+    private Guild getGuild(MessageReceivedEvent event) {
+        return event.isFromType(ChannelType.TEXT) ? event.getGuild() : null;
+    }
+
+    private CommandContext parse(MessageReceivedEvent event, CommandDispatcher dispatcher, GuildSettings settings) {
         CommandContext context = new CommandContext();
         ImplementationRegistry registry = dispatcher.getImplementationRegistry();
-        GuildSettings settings = registry.getSettingsProvider().getSettings(event.isFromType(ChannelType.TEXT) ? event.getGuild() : null);
         ErrorMessageFactory errorMessageFactory = registry.getErrorMessageFactory();
 
         context.setEvent(event)
@@ -64,51 +87,13 @@ public class DefaultMessageParser extends Parser<MessageReceivedEvent> {
 
         String contentRaw = event.getMessage().getContentRaw();
 
-        while (contentRaw.contains("  ")) {
-            contentRaw = contentRaw.replaceAll(" {2}", " ");
-        }
-
         if (!contentRaw.startsWith(settings.getPrefix())) {
             return context.setCancelled(true);
         }
 
-        contentRaw = contentRaw.replaceFirst(Pattern.quote(settings.getPrefix()), "").trim();
-        String[] input = contentRaw.split(" ");
-
-        /*
-         * Splits the raw content at every space but will also concatenate the Strings inside a quote.
-         * E.g. Hello "Foo Bar" World -> [Hello, Foo Bar, World]
-         *
-         * @author stijnb1234
-         */
-        if (settings.isParseQuotes()) {
-            StringBuilder builder = new StringBuilder();
-            boolean isQuote = false;
-            char[] chars = contentRaw.toCharArray();
-            List<String> arguments = new ArrayList<>();
-
-            for (int i = 0; i < chars.length; i++) {
-                if (QUOTATION_MARKS.contains(chars[i])) {
-                    isQuote = !isQuote;
-                    continue;
-                }
-
-                builder.append(chars[i]);
-
-                if (isQuote) {
-                    if (i == chars.length - 1) {
-                        arguments.add(builder.toString().trim());
-                        builder.setLength(0);
-                    }
-                } else {
-                    if (SPACE.equals(chars[i]) || i == chars.length - 1) {
-                        arguments.add(builder.toString().trim());
-                        builder.setLength(0);
-                    }
-                }
-            }
-            input = arguments.toArray(new String[0]);
-        }
+        MessageTokens tokens = MessageTokens.tokenize(contentRaw, settings.getPrefix().length(), settings.isParseQuotes());
+        context.setTokens(tokens);
+        String[] input = tokens.size() == 0 ? new String[]{""} : tokens.toArray();
 
         if (isHelpLabel(context, input[0])) {
             context.setInput(Arrays.copyOfRange(input, 1, input.length));
@@ -121,49 +106,19 @@ public class DefaultMessageParser extends Parser<MessageReceivedEvent> {
     }
 
     private boolean isHelpLabel(CommandContext context, String input) {
-        for (int i = 0; i < context.getSettings().getMaxDistance(); i++) {
-            if (findHelpLabel(context, input, i)) {
-                return true;
-            }
+        int maxDistance = context.getSettings().getMaxDistance();
+        if (maxDistance < 1) {
+            return false;
         }
-        return false;
-    }
-
-    private boolean findHelpLabel(CommandContext context, String input, int maxDistance) {
-        if (maxDistance == 0) {
-            return context.getSettings().getHelpLabels().stream().anyMatch(label -> label.startsWith(input));
+        Set<String> helpLabels = context.getSettings().getHelpLabels();
+        if (helpLabels.stream().anyMatch(label -> label.startsWith(input))) {
+            return true;
         }
-        return context.getSettings().getHelpLabels().stream().anyMatch(
-                label -> calculateLevenshteinDistance(label, input) <= maxDistance
+        // all remaining distances are covered by a single bounded pass
+        int threshold = maxDistance - 1;
+        return threshold > 0 && helpLabels.stream().anyMatch(
+                label -> LevenshteinDistance.calculate(label, input, threshold) <= threshold
         );
     }
 
-    private int calculateLevenshteinDistance(String first, String second) {
-        int[][] dp = new int[first.length() + 1][second.length() + 1];
-        for (int i = 0; i <= first.length(); i++) {
-            for (int j = 0; j <= second.length(); j++) {
-                if (i == 0) {
-                    dp[i][j] = j;
-                } else if (j == 0) {
-                    dp[i][j] = i;
-                } else {
-                    dp[i][j] = min(
-                            dp[i - 1][j - 1] + costOfSubstitution(first.charAt(i - 1), second.charAt(j - 1)),
-                            dp[i - 1][j] + 1,
-                            dp[i][j - 1] + 1
-                    );
-                }
-            }
-        }
-        return dp[first.length()][second.length()];
-    }
-
-    private int costOfSubstitution(char a, char b) {
-        return a == b ? 0 : 1;
-    }
-
-    private int min(int... numbers) {
-        return Arrays.stream(numbers).min().orElse(Integer.MAX_VALUE);
-    }
-
 }
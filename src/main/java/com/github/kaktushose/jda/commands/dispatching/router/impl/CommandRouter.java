@@ -5,14 +5,11 @@ import com.github.kaktushose.jda.commands.dispatching.router.Router;
 import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
+import java.util.*;
 
 /**
- * An implementation of {@link Router} that works for message based input.
+ * An implementation of {@link Router} that works for message based input. The labels of all commands are indexed in a
+ * {@link LabelTrie} once, which is then reused for every routing attempt.
  *
  * @author Kaktushose
  * @version 2.0.0
@@ -21,10 +18,25 @@ import java.util.stream.Collectors;
  */
 public class CommandRouter implements Router {
 
+    private volatile Index index;
+
     @Override
     public void findCommands(@NotNull CommandContext context, @NotNull Collection<CommandDefinition> commands) {
-        for (int i = 0; i < context.getSettings().getMaxDistance(); i++) {
-            if (findCommand(context, commands, i)) {
+        LabelTrie trie = getTrie(commands, context.getSettings().isIgnoreCase());
+        int maxDistance = context.getSettings().getMaxDistance();
+        List<Map<CommandDefinition, Integer>> similar = null;
+        for (int i = 0; i < maxDistance; i++) {
+            List<Set<CommandDefinition>> matches;
+            if (i == 0) {
+                matches = trie.findByPrefix(context.getInput());
+            } else {
+                // fuzzy search is only performed on a miss, resolving all remaining distances at once
+                if (similar == null) {
+                    similar = trie.findSimilar(context.getInput(), maxDistance - 1);
+                }
+                matches = filterByDistance(similar, i);
+            }
+            if (findCommand(context, matches)) {
                 return;
             }
         }
@@ -37,99 +49,91 @@ public class CommandRouter implements Router {
         }
     }
 
-    private boolean findCommand(CommandContext context, Collection<CommandDefinition> commands, int maxDistance) {
-        CommandDefinition command = null;
-        boolean success = false;
+    private boolean findCommand(CommandContext context, List<Set<CommandDefinition>> matches) {
         String[] input = context.getInput();
-        AtomicInteger matchingLength = new AtomicInteger(0);
-        for (int i = input.length - 1; i > -1; i--) {
 
-            StringBuilder sb = new StringBuilder();
-            for (int j = 0; j < i + 1; j++) {
-                sb.append(input[j]).append(" ");
+        // prefer the longest matching label, e.g. "foo bar" over "foo"
+        for (int i = matches.size() - 1; i > -1; i--) {
+            Set<CommandDefinition> possibleCommands = matches.get(i);
+            if (possibleCommands.isEmpty()) {
+                continue;
             }
-            String generatedLabel = sb.toString().trim();
-            List<CommandDefinition> possibleCommands = commands.stream().filter(cmd -> cmd.getLabels().stream().anyMatch(label -> {
-                        String[] expectedLabels = label.split(" ");
-                        String[] actualLabels = generatedLabel.split(" ");
-
-                        if (expectedLabels.length != actualLabels.length) {
-                            return false;
-                        }
-
-                        boolean matches = true;
-                        for (int k = 0; k < expectedLabels.length; k++) {
-                            if (!matches) {
-                                return false;
-                            }
-
-                            boolean ignoreCase = context.getSettings().isIgnoreCase();
-                            String expected = ignoreCase ? expectedLabels[k].toUpperCase() : expectedLabels[k];
-                            String actual = ignoreCase ? actualLabels[k].toUpperCase() : actualLabels[k];
-                            if (maxDistance == 0) {
-                                matches = expected.startsWith(actual);
-                            } else {
-                                matches = calculateLevenshteinDistance(expected, actual) <= maxDistance;
-                            }
-
-                            if (matches) {
-                                matchingLength.set(actualLabels.length);
-                            }
-                        }
-                        return matches;
-                    })
-            ).collect(Collectors.toList());
 
+            CommandDefinition command = null;
             if (possibleCommands.size() == 1) {
-                command = possibleCommands.get(0);
-                success = true;
-                break;
-            }
-            if (possibleCommands.size() > 1) {
+                command = possibleCommands.iterator().next();
+            } else {
+                String generatedLabel = String.join(" ", Arrays.copyOfRange(input, 0, i + 1));
                 for (CommandDefinition possible : possibleCommands) {
                     if (possible.getLabels().contains(generatedLabel)) {
                         command = possible;
-                        success = true;
                         break;
                     }
                 }
-                if (!success) {
-                    context.setPossibleCommands(possibleCommands);
+                if (command == null) {
+                    context.setPossibleCommands(new ArrayList<>(possibleCommands));
                     context.setCancelled(true);
-                    break;
+                    return false;
                 }
             }
+
+            context.setInput(Arrays.copyOfRange(input, i + 1, input.length));
+            context.setCommand(command);
+            return true;
         }
-        context.setInput(Arrays.copyOfRange(input, matchingLength.get(), input.length));
-        context.setCommand(command);
-        return success;
+        return false;
     }
 
-    private int calculateLevenshteinDistance(String first, String second) {
-        int[][] dp = new int[first.length() + 1][second.length() + 1];
-        for (int i = 0; i <= first.length(); i++) {
-            for (int j = 0; j <= second.length(); j++) {
-                if (i == 0) {
-                    dp[i][j] = j;
-                } else if (j == 0) {
-                    dp[i][j] = i;
-                } else {
-                    dp[i][j] = min(
-                            dp[i - 1][j - 1] + costOfSubstitution(first.charAt(i - 1), second.charAt(j - 1)),
-                            dp[i - 1][j] + 1,
-                            dp[i][j - 1] + 1
-                    );
+    private List<Set<CommandDefinition>> filterByDistance(List<Map<CommandDefinition, Integer>> similar, int distance) {
+        List<Set<CommandDefinition>> result = new ArrayList<>(similar.size());
+        for (Map<CommandDefinition, Integer> matches : similar) {
+            Set<CommandDefinition> filtered = new LinkedHashSet<>();
+            matches.forEach((command, value) -> {
+                if (value <= distance) {
+                    filtered.add(command);
                 }
-            }
+            });
+            result.add(filtered);
         }
-        return dp[first.length()][second.length()];
+        return result;
     }
 
-    private int costOfSubstitution(char a, char b) {
-        return a == b ? 0 : 1;
+    private LabelTrie getTrie(Collection<CommandDefinition> commands, boolean ignoreCase) {
+        Index current = index;
+        if (current == null || current.source != commands || current.size != commands.size()) {
+            current = new Index(commands);
+            index = current;
+        }
+        return current.get(ignoreCase);
     }
 
-    private int min(int... numbers) {
-        return Arrays.stream(numbers).min().orElse(Integer.MAX_VALUE);
+    /**
+     * Lazily builds and holds the {@link LabelTrie LabelTries} for one collection of commands. The tries get rebuilt
+     * as soon as the router is called with a different collection or the size of the collection has changed.
+     */
+    private static class Index {
+
+        private final Collection<CommandDefinition> source;
+        private final int size;
+        private volatile LabelTrie exact;
+        private volatile LabelTrie folded;
+
+        private Index(Collection<CommandDefinition> source) {
+            this.source = source;
+            this.size = source.size();
+        }
+
+        private LabelTrie get(boolean ignoreCase) {
+            if (ignoreCase) {
+                if (folded == null) {
+                    folded = LabelTrie.build(source, true);
+                }
+                return folded;
+            }
+            if (exact == null) {
+                exact = LabelTrie.build(source, false);
+            }
+            return exact;
+        }
     }
 }
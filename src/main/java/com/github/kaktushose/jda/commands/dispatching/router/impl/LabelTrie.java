@@ -0,0 +1,168 @@
+package com.github.kaktushose.jda.commands.dispatching.router.impl;
+
+import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
+import com.github.kaktushose.jda.commands.util.BKTree;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * A token based prefix tree over the labels of {@link CommandDefinition CommandDefinitions}. Every node represents a
+ * single space separated token of a label, thus resolving a label takes as many steps as the input has tokens,
+ * regardless of the amount of registered commands. A LabelTrie is immutable once it has been built and can safely be
+ * shared between threads. Similar tokens are looked up using a {@link BKTree} per node.
+ *
+ * @author Kaktushose
+ * @version 3.0.0
+ * @see CommandRouter
+ * @since 3.0.0
+ */
+public class LabelTrie {
+
+    private final Node root;
+    private final boolean ignoreCase;
+    private final int depth;
+
+    private LabelTrie(Node root, boolean ignoreCase, int depth) {
+        this.root = root;
+        this.ignoreCase = ignoreCase;
+        this.depth = depth;
+    }
+
+    /**
+     * Builds a new LabelTrie.
+     *
+     * @param commands   the {@link CommandDefinition CommandDefinitions} to index
+     * @param ignoreCase whether the tokens should be stored case-folded
+     * @return a new LabelTrie
+     */
+    public static LabelTrie build(@NotNull Collection<CommandDefinition> commands, boolean ignoreCase) {
+        Node root = new Node();
+        int depth = 0;
+        for (CommandDefinition command : commands) {
+            for (String label : command.getLabels()) {
+                String[] tokens = label.split(" ");
+                Node node = root;
+                for (String token : tokens) {
+                    node = node.children.computeIfAbsent(ignoreCase ? token.toUpperCase() : token, key -> new Node());
+                }
+                node.commands.add(command);
+                depth = Math.max(depth, tokens.length);
+            }
+        }
+        root.index();
+        return new LabelTrie(root, ignoreCase, depth);
+    }
+
+    /**
+     * Finds all {@link CommandDefinition CommandDefinitions} whose labels start with the input. An input token matches a
+     * label token if the label token starts with it. The returned list holds one entry for each label length, where the
+     * element at index {@code i} contains the commands that have a label consisting of exactly {@code i + 1} tokens.
+     *
+     * @param input the user input split into tokens
+     * @return a possibly-empty list of matching {@link CommandDefinition CommandDefinitions} per label length
+     */
+    public List<Set<CommandDefinition>> findByPrefix(@NotNull String[] input) {
+        int length = Math.min(input.length, depth);
+        List<Set<CommandDefinition>> result = new ArrayList<>(length);
+        List<Node> frontier = Collections.singletonList(root);
+
+        for (int i = 0; i < length; i++) {
+            String token = normalize(input[i]);
+            List<Node> next = new ArrayList<>();
+            for (Node node : frontier) {
+                // all keys starting with the token form a contiguous range inside the sorted map
+                next.addAll(node.children.subMap(token, true, token + Character.MAX_VALUE, false).values());
+            }
+            if (next.isEmpty()) {
+                break;
+            }
+
+            Set<CommandDefinition> matches = new LinkedHashSet<>();
+            for (Node node : next) {
+                matches.addAll(node.commands);
+            }
+            result.add(matches);
+            frontier = next;
+        }
+        return result;
+    }
+
+    /**
+     * Finds all {@link CommandDefinition CommandDefinitions} whose labels are similar to the input. An input token
+     * matches a label token if the Levenshtein distance between both tokens doesn't exceed {@code maxDistance}. The
+     * returned list holds one entry for each label length, where the element at index {@code i} maps the commands that
+     * have a label consisting of exactly {@code i + 1} tokens to the distance of their closest label. The distance of a
+     * label is the largest distance of its tokens. All distances up to {@code maxDistance} are resolved in one pass.
+     *
+     * @param input       the user input split into tokens
+     * @param maxDistance the maximal Levenshtein distance per token
+     * @return a possibly-empty list of matching {@link CommandDefinition CommandDefinitions} per label length
+     */
+    public List<Map<CommandDefinition, Integer>> findSimilar(@NotNull String[] input, int maxDistance) {
+        int length = Math.min(input.length, depth);
+        List<Map<CommandDefinition, Integer>> result = new ArrayList<>(length);
+        List<Path> frontier = Collections.singletonList(new Path(root, 0));
+
+        for (int i = 0; i < length; i++) {
+            String token = normalize(input[i]);
+            List<Path> next = new ArrayList<>();
+            for (Path path : frontier) {
+                path.node.similar.search(token, maxDistance, (child, distance) ->
+                        next.add(new Path(child, Math.max(path.distance, distance)))
+                );
+            }
+            if (next.isEmpty()) {
+                break;
+            }
+
+            Map<CommandDefinition, Integer> matches = new LinkedHashMap<>();
+            for (Path path : next) {
+                for (CommandDefinition command : path.node.commands) {
+                    matches.merge(command, path.distance, Math::min);
+                }
+            }
+            result.add(matches);
+            frontier = next;
+        }
+        return result;
+    }
+
+    /**
+     * Whether the tokens of this LabelTrie are case-folded.
+     *
+     * @return {@code true} if the tokens of this LabelTrie are case-folded
+     */
+    public boolean isIgnoreCase() {
+        return ignoreCase;
+    }
+
+    private String normalize(String token) {
+        return ignoreCase ? token.toUpperCase() : token;
+    }
+
+    private static class Node {
+
+        private final NavigableMap<String, Node> children = new TreeMap<>();
+        private final Set<CommandDefinition> commands = new LinkedHashSet<>();
+        private final BKTree<Node> similar = new BKTree<>();
+
+        private void index() {
+            children.forEach((token, child) -> {
+                similar.add(token, child);
+                child.index();
+            });
+        }
+    }
+
+    private static class Path {
+
+        private final Node node;
+        private final int distance;
+
+        private Path(Node node, int distance) {
+            this.node = node;
+            this.distance = distance;
+        }
+    }
+}
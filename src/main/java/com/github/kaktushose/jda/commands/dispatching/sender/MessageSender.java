@@ -1,9 +1,14 @@
 package com.github.kaktushose.jda.commands.dispatching.sender;
 
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.CommandEvent;
 import com.github.kaktushose.jda.commands.dispatching.sender.impl.DefaultMessageSender;
+import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.utils.messages.MessageCreateData;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Consumer;
 
 /**
  * Generic interface for sending messages.
@@ -39,4 +44,18 @@ public interface MessageSender {
      */
     void sendErrorMessage(@NotNull CommandContext context, @NotNull MessageCreateData message);
 
+    /**
+     * Called when a command replies via one of the reply methods of the {@link CommandEvent}. The default
+     * implementation sends the message right away.
+     *
+     * @param context the corresponding {@link CommandContext}
+     * @param message the reply to send
+     * @param success the JDA RestAction success consumer, may be {@code null}
+     */
+    default void sendReply(@NotNull CommandContext context,
+                           @NotNull MessageCreateData message,
+                           @Nullable Consumer<Message> success) {
+        context.getEvent().getChannel().sendMessage(message).queue(success);
+    }
+
 }
@@ -0,0 +1,370 @@
+package com.github.kaktushose.jda.commands.dispatching.sender.impl;
+
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.sender.MessageSender;
+import com.github.kaktushose.jda.commands.reflect.ImplementationRegistry;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import net.dv8tion.jda.api.entities.channel.middleman.MessageChannel;
+import net.dv8tion.jda.api.utils.messages.MessageCreateData;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * A {@link MessageSender} that sends at most one message per channel at a time and queues the others. This keeps
+ * bursts of error messages, e.g. caused by spamming a mistyped command, from exhausting the rate limit of a channel
+ * and delaying the replies of actual commands.
+ *
+ * <ul>
+ *     <li>Replies of commands are always sent before queued help and error messages of the same channel.</li>
+ *     <li>An error message is dropped if the same error message was already sent to or queued for the channel within
+ *     the duplicate window.</li>
+ *     <li>Help and error messages are dropped if the queue of a channel is full. Replies have a separate, larger
+ *     queue, so that a burst of help and error messages never causes a reply to be dropped.</li>
+ * </ul>
+ *
+ * <p>Register it via {@link ImplementationRegistry#setMessageSender(MessageSender)}.
+ *
+ * @author Kaktushose
+ * @version 3.0.0
+ * @see MessageSender
+ * @since 3.0.0
+ */
+public class QueuedMessageSender implements MessageSender {
+
+    private static final Logger log = LoggerFactory.getLogger(QueuedMessageSender.class);
+    private final Map<Long, ChannelQueue> queues;
+    private final Map<Fingerprint, Long> recentErrors;
+    private final long duplicateWindow;
+    private final AtomicLong nextSweep;
+    private final int maximumQueued;
+    private final int maximumReplies;
+    private final LongAdder sent;
+    private final LongAdder coalesced;
+    private final LongAdder dropped;
+    private final LongAdder failed;
+
+    /**
+     * Constructs a new QueuedMessageSender that queues up to ten times as many replies as help and error messages.
+     *
+     * @param duplicateWindow the duration in which identical error messages of a channel are only sent once
+     * @param unit            the {@link TimeUnit} of the duration
+     * @param maximumQueued   the maximum amount of queued help and error messages per channel
+     * @throws IllegalArgumentException if the duration is negative or the maximum amount is less than one
+     */
+    public QueuedMessageSender(long duplicateWindow, @NotNull TimeUnit unit, int maximumQueued) {
+        this(duplicateWindow, unit, maximumQueued, (int) Math.min(Integer.MAX_VALUE, maximumQueued * 10L));
+    }
+
+    /**
+     * Constructs a new QueuedMessageSender.
+     *
+     * @param duplicateWindow the duration in which identical error messages of a channel are only sent once
+     * @param unit            the {@link TimeUnit} of the duration
+     * @param maximumQueued   the maximum amount of queued help and error messages per channel
+     * @param maximumReplies  the maximum amount of queued replies per channel
+     * @throws IllegalArgumentException if the duration is negative or a maximum amount is less than one
+     */
+    public QueuedMessageSender(long duplicateWindow, @NotNull TimeUnit unit, int maximumQueued, int maximumReplies) {
+        if (duplicateWindow < 0 || maximumQueued < 1 || maximumReplies < 1) {
+            throw new IllegalArgumentException("Duration must not be negative and maximum amount must be at least 1!");
+        }
+        this.duplicateWindow = unit.toNanos(duplicateWindow);
+        nextSweep = new AtomicLong(System.nanoTime() + this.duplicateWindow);
+        this.maximumQueued = maximumQueued;
+        this.maximumReplies = maximumReplies;
+        queues = new ConcurrentHashMap<>();
+        recentErrors = new ConcurrentHashMap<>();
+        sent = new LongAdder();
+        coalesced = new LongAdder();
+        dropped = new LongAdder();
+        failed = new LongAdder();
+    }
+
+    @Override
+    public void sendGenericHelpMessage(@NotNull CommandContext context, @NotNull MessageCreateData message) {
+        enqueue(context.getEvent().getChannel(), message, null, false);
+    }
+
+    @Override
+    public void sendSpecificHelpMessage(@NotNull CommandContext context, @NotNull MessageCreateData message) {
+        enqueue(context.getEvent().getChannel(), message, null, false);
+    }
+
+    @Override
+    public void sendErrorMessage(@NotNull CommandContext context, @NotNull MessageCreateData message) {
+        MessageChannel channel = context.getEvent().getChannel();
+        if (isDuplicate(new Fingerprint(channel.getIdLong(), message))) {
+            coalesced.increment();
+            log.debug("Dropped duplicate error message in channel {}", channel.getIdLong());
+            return;
+        }
+        enqueue(channel, message, null, false);
+    }
+
+    @Override
+    public void sendReply(@NotNull CommandContext context,
+                          @NotNull MessageCreateData message,
+                          @Nullable Consumer<Message> success) {
+        enqueue(context.getEvent().getChannel(), message, success, true);
+    }
+
+    private boolean isDuplicate(Fingerprint fingerprint) {
+        long now = System.nanoTime();
+        boolean[] isDuplicate = new boolean[1];
+        recentErrors.compute(fingerprint, (ignored, sentAt) -> {
+            if (sentAt != null && now - sentAt < duplicateWindow) {
+                isDuplicate[0] = true;
+                return sentAt;
+            }
+            return now;
+        });
+        sweep(now);
+        return isDuplicate[0];
+    }
+
+    private void sweep(long now) {
+        long next = nextSweep.get();
+        // expired fingerprints are removed once per window, only the thread winning the race performs the sweep
+        if (now - next < 0 || !nextSweep.compareAndSet(next, now + duplicateWindow)) {
+            return;
+        }
+        recentErrors.values().removeIf(sentAt -> now - sentAt >= duplicateWindow);
+    }
+
+    private void enqueue(MessageChannel channel,
+                         MessageCreateData message,
+                         Consumer<Message> success,
+                         boolean isReply) {
+        Entry entry = new Entry(channel, message, success);
+        while (true) {
+            ChannelQueue queue = queues.computeIfAbsent(channel.getIdLong(), ChannelQueue::new);
+            synchronized (queue) {
+                // the queue was drained and removed in the meantime
+                if (queue.isClosed) {
+                    continue;
+                }
+                if (!queue.isSending) {
+                    queue.isSending = true;
+                } else if (isReply && queue.replies.size() < maximumReplies) {
+                    queue.replies.add(entry);
+                    return;
+                } else if (!isReply && queue.others.size() < maximumQueued) {
+                    queue.others.add(entry);
+                    return;
+                } else {
+                    dropped.increment();
+                    log.debug("Dropped message in channel {}, queue is full", channel.getIdLong());
+                    return;
+                }
+            }
+            send(queue, entry);
+            return;
+        }
+    }
+
+    private void send(ChannelQueue queue, Entry entry) {
+        // synchronous failures continue with the next entry in a loop, recursing could overflow the stack
+        Entry next = entry;
+        while (next != null && !trySend(queue, next)) {
+            next = poll(queue);
+        }
+    }
+
+    private void sendNext(ChannelQueue queue) {
+        send(queue, poll(queue));
+    }
+
+    /**
+     * Queues the message of the entry.
+     *
+     * @return {@code false} if the message couldn't be queued
+     */
+    private boolean trySend(ChannelQueue queue, Entry entry) {
+        try {
+            entry.channel.sendMessage(entry.message).queue(message -> {
+                sent.increment();
+                try {
+                    if (entry.success != null) {
+                        entry.success.accept(message);
+                    }
+                } finally {
+                    sendNext(queue);
+                }
+            }, throwable -> {
+                failed.increment();
+                log.error("Sending message failed!", throwable);
+                sendNext(queue);
+            });
+            return true;
+        } catch (RuntimeException e) {
+            // e.g. missing permissions are thrown before the request is queued
+            failed.increment();
+            log.error("Sending message failed!", e);
+            return false;
+        }
+    }
+
+    private Entry poll(ChannelQueue queue) {
+        Entry next;
+        synchronized (queue) {
+            next = queue.replies.poll();
+            if (next == null) {
+                next = queue.others.poll();
+            }
+            if (next == null) {
+                queue.isSending = false;
+                queue.isClosed = true;
+                queues.remove(queue.channelId, queue);
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Gets the amount of queued messages of all channels, excluding the messages that are currently being sent.
+     *
+     * @return the amount of queued messages
+     */
+    public long getQueueDepth() {
+        long depth = 0;
+        for (ChannelQueue queue : queues.values()) {
+            synchronized (queue) {
+                depth += queue.replies.size() + queue.others.size();
+            }
+        }
+        return depth;
+    }
+
+    /**
+     * Gets the amount of queued messages of the given channel, excluding the message that is currently being sent.
+     *
+     * @param channelId the id of the channel
+     * @return the amount of queued messages
+     */
+    public int getQueueDepth(long channelId) {
+        ChannelQueue queue = queues.get(channelId);
+        if (queue == null) {
+            return 0;
+        }
+        synchronized (queue) {
+            return queue.replies.size() + queue.others.size();
+        }
+    }
+
+    /**
+     * Gets the amount of channels that are currently sending messages.
+     *
+     * @return the amount of active channels
+     */
+    public int getActiveChannelCount() {
+        return queues.size();
+    }
+
+    /**
+     * Gets the amount of messages that were sent successfully.
+     *
+     * @return the amount of sent messages
+     */
+    public long getSentCount() {
+        return sent.sum();
+    }
+
+    /**
+     * Gets the amount of error messages that were dropped because they were a duplicate.
+     *
+     * @return the amount of coalesced error messages
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Gets the amount of messages that were dropped because the queue of the channel was full.
+     *
+     * @return the amount of dropped messages
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Gets the amount of messages that couldn't be sent.
+     *
+     * @return the amount of failed messages
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    private static class ChannelQueue {
+        private final long channelId;
+        private final Queue<Entry> replies;
+        private final Queue<Entry> others;
+        private boolean isSending;
+        private boolean isClosed;
+
+        private ChannelQueue(long channelId) {
+            this.channelId = channelId;
+            replies = new ArrayDeque<>();
+            others = new ArrayDeque<>();
+        }
+    }
+
+    private static class Entry {
+        private final MessageChannel channel;
+        private final MessageCreateData message;
+        private final Consumer<Message> success;
+
+        private Entry(MessageChannel channel, MessageCreateData message, Consumer<Message> success) {
+            this.channel = channel;
+            this.message = message;
+            this.success = success;
+        }
+    }
+
+    private static class Fingerprint {
+        private final long channelId;
+        private final String content;
+        private final List<MessageEmbed> embeds;
+        private final int hash;
+
+        private Fingerprint(long channelId, MessageCreateData message) {
+            this.channelId = channelId;
+            content = message.getContent();
+            embeds = message.getEmbeds();
+            // MessageEmbed doesn't override hashCode, thus only the texts are hashed
+            int hash = Objects.hash(channelId, content);
+            for (MessageEmbed embed : embeds) {
+                hash = 31 * hash + Objects.hash(embed.getTitle(), embed.getDescription());
+            }
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Fingerprint that = (Fingerprint) o;
+            return channelId == that.channelId && Objects.equals(content, that.content) && embeds.equals(that.embeds);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
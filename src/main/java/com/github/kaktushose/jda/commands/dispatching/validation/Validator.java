@@ -1,7 +1,9 @@
 package com.github.kaktushose.jda.commands.dispatching.validation;
 
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.reflect.ConstraintDefinition;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Generic top level interface for validators. A validator checks if a command argument fulfills the given constraint.
@@ -23,4 +25,33 @@ public interface Validator {
      */
     boolean validate(@NotNull Object argument, @NotNull Object annotation, @NotNull CommandContext context);
 
+    /**
+     * Validates an argument against a {@link ConstraintDefinition}. Validators that {@link #compile(Object) compile}
+     * their annotation should override this method and use {@link ConstraintDefinition#getCompiled()}. Defaults to
+     * {@link #validate(Object, Object, CommandContext)}.
+     *
+     * @param argument   the argument to validate
+     * @param constraint the {@link ConstraintDefinition} holding the annotation and its compiled form
+     * @param context    the corresponding {@link CommandContext}
+     * @return {@code true} if the argument passes the constraints
+     */
+    default boolean validate(@NotNull Object argument,
+                             @NotNull ConstraintDefinition constraint,
+                             @NotNull CommandContext context) {
+        return validate(argument, constraint.getAnnotation(), context);
+    }
+
+    /**
+     * Compiles the annotation of a constraint into a form that is faster to check, e.g. by parsing ids or
+     * permissions. This is called once when the {@link ConstraintDefinition} gets created.
+     *
+     * @param annotation the annotation declaring the constraint
+     * @return the compiled form of the annotation or {@code null} if this validator doesn't compile annotations.
+     * Defaults to {@code null}
+     */
+    @Nullable
+    default Object compile(@NotNull Object annotation) {
+        return null;
+    }
+
 }
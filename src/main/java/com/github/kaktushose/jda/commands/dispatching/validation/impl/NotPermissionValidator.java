@@ -3,11 +3,14 @@ package com.github.kaktushose.jda.commands.dispatching.validation.impl;
 import com.github.kaktushose.jda.commands.annotations.constraints.NotPerm;
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
 import com.github.kaktushose.jda.commands.dispatching.validation.Validator;
+import com.github.kaktushose.jda.commands.reflect.ConstraintDefinition;
 import net.dv8tion.jda.api.Permission;
 import net.dv8tion.jda.api.entities.Member;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Set;
 
 /**
@@ -32,14 +35,50 @@ public class NotPermissionValidator implements Validator {
      */
     @Override
     public boolean validate(@NotNull Object argument, @NotNull Object annotation, @NotNull CommandContext context) {
-        Set<Permission> permissions = new HashSet<>();
-        NotPerm perm = (NotPerm) annotation;
+        return check(argument, compile(annotation));
+    }
 
+    /**
+     * Validates an argument using the permissions that were compiled by {@link #compile(Object)}. The argument must
+     * be a user or member that <b>doesn't</b> have the specified discord permission.
+     *
+     * @param argument   the argument to validate
+     * @param constraint the corresponding {@link ConstraintDefinition}
+     * @param context    the corresponding {@link CommandContext}
+     * @return {@code true} if the argument is a user or member that <b>doesn't</b> have the specified discord
+     * permission
+     */
+    @Override
+    public boolean validate(@NotNull Object argument,
+                            @NotNull ConstraintDefinition constraint,
+                            @NotNull CommandContext context) {
+        return check(argument, constraint.getCompiled());
+    }
+
+    /**
+     * Compiles the annotation by parsing the permission names.
+     *
+     * @param annotation the corresponding annotation
+     * @return an unmodifiable set of the {@link Permission Permissions} or {@code null} if a name isn't a valid
+     * {@link Permission}
+     */
+    @Nullable
+    @Override
+    public Object compile(@NotNull Object annotation) {
+        Set<Permission> permissions = EnumSet.noneOf(Permission.class);
         try {
-            for (String permission : perm.value()) {
+            for (String permission : ((NotPerm) annotation).value()) {
                 permissions.add(Permission.valueOf(permission));
             }
         } catch (IllegalArgumentException ignored) {
+            return null;
+        }
+        return Collections.unmodifiableSet(permissions);
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean check(Object argument, Object permissions) {
+        if (permissions == null) {
             return true;
         }
 
@@ -48,6 +87,6 @@ public class NotPermissionValidator implements Validator {
         }
 
         Member member = (Member) argument;
-        return !member.hasPermission(permissions);
+        return !member.hasPermission((Set<Permission>) permissions);
     }
 }
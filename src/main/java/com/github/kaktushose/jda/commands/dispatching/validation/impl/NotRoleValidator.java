@@ -2,14 +2,11 @@ package com.github.kaktushose.jda.commands.dispatching.validation.impl;
 
 import com.github.kaktushose.jda.commands.annotations.constraints.NotRole;
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
-import com.github.kaktushose.jda.commands.dispatching.adapter.impl.RoleAdapter;
 import com.github.kaktushose.jda.commands.dispatching.validation.Validator;
+import com.github.kaktushose.jda.commands.reflect.ConstraintDefinition;
 import net.dv8tion.jda.api.entities.Member;
-import net.dv8tion.jda.api.entities.Role;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Optional;
-
 /**
  * A {@link Validator} implementation that checks the {@link NotRole} constraint.
  *
@@ -30,11 +27,34 @@ public class NotRoleValidator implements Validator {
      */
     @Override
     public boolean validate(@NotNull Object argument, @NotNull Object annotation, @NotNull CommandContext context) {
-        NotRole roleAnnotation = (NotRole) annotation;
+        return !((RoleTarget) compile(annotation)).isHeldBy((Member) argument, context);
+    }
 
-        Optional<Role> optional = new RoleAdapter().parse(roleAnnotation.value(), context);
-        Member member = (Member) argument;
+    /**
+     * Validates an argument using the role that was compiled by {@link #compile(Object)}. The argument must be a user
+     * or member that <b>doesn't</b> have the specified guild role.
+     *
+     * @param argument   the argument to validate
+     * @param constraint the corresponding {@link ConstraintDefinition}
+     * @param context    the corresponding {@link CommandContext}
+     * @return {@code true} if the argument is a user or member that <b>doesn't</b> have the specified guild role
+     */
+    @Override
+    public boolean validate(@NotNull Object argument,
+                            @NotNull ConstraintDefinition constraint,
+                            @NotNull CommandContext context) {
+        return !((RoleTarget) constraint.getCompiled()).isHeldBy((Member) argument, context);
+    }
 
-        return !optional.filter(role -> member.getRoles().contains(role)).isPresent();
+    /**
+     * Compiles the annotation by parsing the role id. A role name gets resolved once for each guild and is resolved
+     * again if the role was renamed or deleted.
+     *
+     * @param annotation the corresponding annotation
+     * @return the compiled role
+     */
+    @Override
+    public Object compile(@NotNull Object annotation) {
+        return new RoleTarget(((NotRole) annotation).value());
     }
 }
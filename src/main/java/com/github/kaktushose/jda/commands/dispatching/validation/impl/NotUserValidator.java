@@ -4,6 +4,7 @@ import com.github.kaktushose.jda.commands.annotations.constraints.NotUser;
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
 import com.github.kaktushose.jda.commands.dispatching.adapter.impl.MemberAdapter;
 import com.github.kaktushose.jda.commands.dispatching.validation.Validator;
+import com.github.kaktushose.jda.commands.reflect.ConstraintDefinition;
 import net.dv8tion.jda.api.entities.Member;
 import org.jetbrains.annotations.NotNull;
 
@@ -34,4 +35,36 @@ public class NotUserValidator implements Validator {
         Optional<Member> optional = new MemberAdapter().parse(user.value(), context);
         return !optional.filter(member::equals).isPresent();
     }
+
+    /**
+     * Validates an argument using the id that was compiled by {@link #compile(Object)}. The argument
+     * must <b>not</b> be the specified user or member.
+     *
+     * @param argument   the argument to validate
+     * @param constraint the corresponding {@link ConstraintDefinition}
+     * @param context    the corresponding {@link CommandContext}
+     * @return {@code true} if the argument <b>isn't</b> the specified user or member
+     */
+    @Override
+    public boolean validate(@NotNull Object argument,
+                            @NotNull ConstraintDefinition constraint,
+                            @NotNull CommandContext context) {
+        long id = (Long) constraint.getCompiled();
+        // names must be resolved for each guild
+        if (id == 0) {
+            return validate(argument, constraint.getAnnotation(), context);
+        }
+        return ((Member) argument).getIdLong() != id;
+    }
+
+    /**
+     * Compiles the annotation by parsing the user id.
+     *
+     * @param annotation the corresponding annotation
+     * @return the user id or {@code 0} if the annotation holds a name
+     */
+    @Override
+    public Object compile(@NotNull Object annotation) {
+        return Snowflakes.parse(((NotUser) annotation).value());
+    }
 }
@@ -0,0 +1,87 @@
+package com.github.kaktushose.jda.commands.dispatching.validation.impl;
+
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.adapter.NameIndex;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Role;
+import net.dv8tion.jda.api.entities.channel.ChannelType;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The compiled form of a role constraint. Ids are parsed once, names are resolved once per guild and the resolved id
+ * is reused until the role gets renamed or deleted.
+ *
+ * @author Kaktushose
+ * @version 3.0.0
+ * @see RoleValidator
+ * @see NotRoleValidator
+ * @since 3.0.0
+ */
+final class RoleTarget {
+
+    private static final long NONE = 0;
+    private final long id;
+    private final String name;
+    private final Map<Long, Long> resolved;
+
+    /**
+     * Constructs a new RoleTarget.
+     *
+     * @param value the role id, mention or name of the constraint annotation
+     */
+    RoleTarget(@NotNull String value) {
+        id = Snowflakes.parse(value);
+        name = value;
+        resolved = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Whether the given {@link Member} has the role of this target.
+     *
+     * @param member  the {@link Member} to check
+     * @param context the corresponding {@link CommandContext}
+     * @return {@code true} if the member has the role. Always {@code false} outside of guilds or if the role doesn't
+     * exist
+     */
+    boolean isHeldBy(@NotNull Member member, @NotNull CommandContext context) {
+        if (!context.getEvent().isFromType(ChannelType.TEXT)) {
+            return false;
+        }
+        long roleId = id == NONE ? resolve(context.getEvent().getGuild(), context) : id;
+        if (roleId == NONE) {
+            return false;
+        }
+        for (Role role : member.getRoles()) {
+            if (role.getIdLong() == roleId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long resolve(Guild guild, CommandContext context) {
+        Long memo = resolved.get(guild.getIdLong());
+        if (memo != null) {
+            // the memo is stale once the role got renamed or deleted
+            Role role = guild.getRoleById(memo);
+            if (role != null && role.getName().equalsIgnoreCase(name)) {
+                return memo;
+            }
+        }
+        NameIndex index = NameIndex.of(context);
+        Role role = index == null ? null : index.findRole(guild, name);
+        if (role == null) {
+            role = guild.getRolesByName(name, true).stream().findFirst().orElse(null);
+        }
+        if (role == null) {
+            resolved.remove(guild.getIdLong());
+            return NONE;
+        }
+        resolved.put(guild.getIdLong(), role.getIdLong());
+        return role.getIdLong();
+    }
+}
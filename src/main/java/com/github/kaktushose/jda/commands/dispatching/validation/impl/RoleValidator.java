@@ -1,14 +1,11 @@
 package com.github.kaktushose.jda.commands.dispatching.validation.impl;
 
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
-import com.github.kaktushose.jda.commands.dispatching.adapter.impl.RoleAdapter;
 import com.github.kaktushose.jda.commands.dispatching.validation.Validator;
+import com.github.kaktushose.jda.commands.reflect.ConstraintDefinition;
 import net.dv8tion.jda.api.entities.Member;
-import net.dv8tion.jda.api.entities.Role;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Optional;
-
 /**
  * A {@link Validator} implementation that checks the
  * {@link com.github.kaktushose.jda.commands.annotations.constraints.Role Role} constraint.
@@ -30,12 +27,34 @@ public class RoleValidator implements Validator {
      */
     @Override
     public boolean validate(@NotNull Object argument, @NotNull Object annotation, @NotNull CommandContext context) {
-        com.github.kaktushose.jda.commands.annotations.constraints.Role roleAnnotation =
-                (com.github.kaktushose.jda.commands.annotations.constraints.Role) annotation;
+        return ((RoleTarget) compile(annotation)).isHeldBy((Member) argument, context);
+    }
 
-        Optional<Role> optional = new RoleAdapter().parse(roleAnnotation.value(), context);
-        Member member = (Member) argument;
+    /**
+     * Validates an argument using the role that was compiled by {@link #compile(Object)}. The argument must be a user
+     * or member that has the specified guild role.
+     *
+     * @param argument   the argument to validate
+     * @param constraint the corresponding {@link ConstraintDefinition}
+     * @param context    the corresponding {@link CommandContext}
+     * @return {@code true} if the argument is a user or member that has the specified guild role
+     */
+    @Override
+    public boolean validate(@NotNull Object argument,
+                            @NotNull ConstraintDefinition constraint,
+                            @NotNull CommandContext context) {
+        return ((RoleTarget) constraint.getCompiled()).isHeldBy((Member) argument, context);
+    }
 
-        return optional.filter(role -> member.getRoles().contains(role)).isPresent();
+    /**
+     * Compiles the annotation by parsing the role id. A role name gets resolved once for each guild and is resolved
+     * again if the role was renamed or deleted.
+     *
+     * @param annotation the corresponding annotation
+     * @return the compiled role
+     */
+    @Override
+    public Object compile(@NotNull Object annotation) {
+        return new RoleTarget(((com.github.kaktushose.jda.commands.annotations.constraints.Role) annotation).value());
     }
 }
@@ -0,0 +1,42 @@
+package com.github.kaktushose.jda.commands.dispatching.validation.impl;
+
+import com.github.kaktushose.jda.commands.dispatching.adapter.MentionTable;
+import net.dv8tion.jda.api.utils.MiscUtil;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Parses the ids that constraint annotations may hold, so that validators can compare them as primitives.
+ *
+ * @author Kaktushose
+ * @version 3.0.0
+ * @since 3.0.0
+ */
+final class Snowflakes {
+
+    private Snowflakes() {
+    }
+
+    /**
+     * Parses an id or a raw mention to a snowflake id.
+     *
+     * @param value the String to parse
+     * @return the snowflake id or {@code 0} if the String isn't an id, e.g. because it is a name
+     */
+    static long parse(@NotNull String value) {
+        int start = MentionTable.indexOfId(value);
+        String id = start < 0 ? value : value.substring(start, value.length() - 1);
+        if (id.isEmpty()) {
+            return 0;
+        }
+        for (int i = 0; i < id.length(); i++) {
+            if (!Character.isDigit(id.charAt(i))) {
+                return 0;
+            }
+        }
+        try {
+            return MiscUtil.parseSnowflake(id);
+        } catch (NumberFormatException ignored) {
+            return 0;
+        }
+    }
+}
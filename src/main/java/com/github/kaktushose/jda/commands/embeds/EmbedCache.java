@@ -31,6 +31,7 @@ public class EmbedCache {
     private final File file;
     private final InputStream stream;
     private Map<String, EmbedDTO> embedMap;
+    private volatile long version;
 
     /**
      * Constructs a new EmbedCache object.
@@ -84,6 +85,7 @@ public class EmbedCache {
             Type type = new TypeToken<Map<String, EmbedDTO>>() {
             }.getType();
             embedMap = gson.fromJson(jsonReader, type);
+            version++;
         } catch (FileNotFoundException | JsonIOException | JsonSyntaxException e) {
             log.error("An error has occurred while loading the file!", e);
         }
@@ -136,4 +138,12 @@ public class EmbedCache {
         return Collections.unmodifiableList(new ArrayList<>(embedMap.values()));
     }
 
+    /**
+     * Gets the version of this cache. The version changes every time the embeds get loaded.
+     *
+     * @return the version of this cache
+     */
+    public long getVersion() {
+        return version;
+    }
 }
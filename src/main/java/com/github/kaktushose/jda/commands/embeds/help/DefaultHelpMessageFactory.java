@@ -4,8 +4,10 @@ import com.github.kaktushose.jda.commands.data.CommandList;
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
 import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
 import com.github.kaktushose.jda.commands.reflect.CommandMetadata;
+import com.github.kaktushose.jda.commands.reflect.CommandRegistry;
 import com.github.kaktushose.jda.commands.reflect.ControllerDefinition;
 import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import com.github.kaktushose.jda.commands.util.LruEviction;
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.utils.messages.MessageCreateBuilder;
 import net.dv8tion.jda.api.utils.messages.MessageCreateData;
@@ -13,13 +15,23 @@ import org.jetbrains.annotations.NotNull;
 
 import java.awt.*;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.stream.Collectors;
 
 /**
  * Implementation of {@link HelpMessageFactory} with default embeds.
  *
+ * <p>Help messages are built once per command, prefix and help label and then served from a cache, since commands
+ * don't change after indexing. The cache is invalidated once the {@link CommandRegistry} indexes new controllers.
+ * Since every prefix gets its own messages, the cache is bounded and evicts the least recently used messages.
+ * Subclasses build their messages in {@link #buildSpecificHelp(CommandContext)} and
+ * {@link #buildGenericHelp(Set, CommandContext)} and can invalidate the cache through {@link #getCacheVersion()}.
+ *
  * @author Kaktushose
  * @version 2.0.0
  * @see JsonHelpMessageFactory
@@ -27,13 +39,114 @@ import java.util.stream.Collectors;
  */
 public class DefaultHelpMessageFactory implements HelpMessageFactory {
 
+    private static final long DEFAULT_MAXIMUM_CACHE_SIZE = 1_000;
     /**
      * The pattern that is used to insert prefixes. The default value is {@code {prefix}}.
      */
     protected String prefixPattern = "\\{prefix}";
+    private final Map<Key, CacheEntry> cache;
+    private final LruEviction eviction;
+    private volatile CommandRegistry cachedRegistry;
+    private volatile long cachedRegistryVersion;
+    private volatile long cachedVersion;
+
+    /**
+     * Constructs a new DefaultHelpMessageFactory that caches up to 1000 help messages.
+     */
+    public DefaultHelpMessageFactory() {
+        this(DEFAULT_MAXIMUM_CACHE_SIZE);
+    }
+
+    /**
+     * Constructs a new DefaultHelpMessageFactory.
+     *
+     * @param maximumCacheSize the maximum amount of cached help messages
+     * @throws IllegalArgumentException if the maximum size is less than one
+     */
+    public DefaultHelpMessageFactory(long maximumCacheSize) {
+        if (maximumCacheSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be at least 1!");
+        }
+        cache = new ConcurrentHashMap<>();
+        eviction = new LruEviction(maximumCacheSize);
+    }
 
     @Override
     public MessageCreateData getSpecificHelp(@NotNull CommandContext context) {
+        Key key = getKey(context, context.getCommand(), null, context.getSettings().getPrefix(), null);
+        return key == null ? buildSpecificHelp(context) : getCached(key, () -> buildSpecificHelp(context));
+    }
+
+    @Override
+    public MessageCreateData getGenericHelp(@NotNull Set<ControllerDefinition> controllers,
+                                            @NotNull CommandContext context) {
+        GuildSettings settings = context.getSettings();
+        String helpLabel = settings.getHelpLabels().stream().findFirst().orElse("help");
+        Key key = getKey(context, null, controllers, settings.getPrefix(), helpLabel);
+        return key == null
+                ? buildGenericHelp(controllers, context)
+                : getCached(key, () -> buildGenericHelp(controllers, context));
+    }
+
+    private MessageCreateData getCached(Key key, Supplier<MessageCreateData> builder) {
+        long now = System.nanoTime();
+        CacheEntry entry = cache.get(key);
+        if (entry == null) {
+            entry = cache.computeIfAbsent(key, k -> new CacheEntry(builder.get(), now));
+            eviction.evict(cache, cached -> cached.accessedAt);
+        }
+        entry.accessedAt = now;
+        return entry.message;
+    }
+
+    /**
+     * Removes all cached help messages.
+     */
+    public void invalidate() {
+        cache.clear();
+    }
+
+    /**
+     * Gets the version of the sources the help messages are built from, apart from the {@link CommandRegistry}.
+     * Cached help messages are discarded once the version changes. The default implementation returns {@code 0}.
+     *
+     * @return the version of the sources the help messages are built from
+     */
+    protected long getCacheVersion() {
+        return 0;
+    }
+
+    private Key getKey(CommandContext context,
+                       CommandDefinition command,
+                       Set<ControllerDefinition> controllers,
+                       String prefix,
+                       String helpLabel) {
+        // without a CommandRegistry there is no way to tell when commands change
+        if (context.getJdaCommands() == null) {
+            return null;
+        }
+        CommandRegistry registry = context.getJdaCommands().getCommandRegistry();
+        Key key = new Key(registry, registry.getVersion(), getCacheVersion(), command, controllers, prefix, helpLabel);
+        boolean isOutdated = cachedRegistry != registry
+                || cachedRegistryVersion != key.registryVersion
+                || cachedVersion != key.version;
+        if (isOutdated) {
+            // entries of older versions can't be hit anymore
+            cachedRegistry = registry;
+            cachedRegistryVersion = key.registryVersion;
+            cachedVersion = key.version;
+            cache.clear();
+        }
+        return key;
+    }
+
+    /**
+     * Builds a {@link MessageCreateData} to send to get information about a specific command.
+     *
+     * @param context the corresponding {@link CommandContext}
+     * @return a {@link MessageCreateData} to send to get information about a specific command
+     */
+    protected MessageCreateData buildSpecificHelp(@NotNull CommandContext context) {
         String prefix = Matcher.quoteReplacement(context.getSettings().getPrefix());
         EmbedBuilder builder = new EmbedBuilder();
         CommandDefinition command = context.getCommand();
@@ -75,8 +188,15 @@ public class DefaultHelpMessageFactory implements HelpMessageFactory {
         return new MessageCreateBuilder().setEmbeds(builder.build()).build();
     }
 
-    @Override
-    public MessageCreateData getGenericHelp(@NotNull Set<ControllerDefinition> controllers, @NotNull CommandContext context) {
+    /**
+     * Builds a {@link MessageCreateData} to send to get an overview over all available commands.
+     *
+     * @param controllers a {@link Set} of all available {@link ControllerDefinition ControllerDefinitions}
+     * @param context     the corresponding {@link CommandContext}
+     * @return a {@link MessageCreateData} to send to get an overview over all available commands
+     */
+    protected MessageCreateData buildGenericHelp(@NotNull Set<ControllerDefinition> controllers,
+                                                 @NotNull CommandContext context) {
         GuildSettings settings = context.getSettings();
         EmbedBuilder builder = new EmbedBuilder();
         CommandList superCommands = new CommandList();
@@ -96,4 +216,65 @@ public class DefaultHelpMessageFactory implements HelpMessageFactory {
 
         return new MessageCreateBuilder().setEmbeds(builder.build()).build();
     }
+
+    private static class CacheEntry {
+        private final MessageCreateData message;
+        private volatile long accessedAt;
+
+        private CacheEntry(MessageCreateData message, long accessedAt) {
+            this.message = message;
+            this.accessedAt = accessedAt;
+        }
+    }
+
+    private static class Key {
+        private final CommandRegistry registry;
+        private final long registryVersion;
+        private final long version;
+        private final CommandDefinition command;
+        private final Set<ControllerDefinition> controllers;
+        private final String prefix;
+        private final String helpLabel;
+
+        private Key(CommandRegistry registry,
+                    long registryVersion,
+                    long version,
+                    CommandDefinition command,
+                    Set<ControllerDefinition> controllers,
+                    String prefix,
+                    String helpLabel) {
+            this.registry = registry;
+            this.registryVersion = registryVersion;
+            this.version = version;
+            this.command = command;
+            this.controllers = controllers;
+            this.prefix = prefix;
+            this.helpLabel = helpLabel;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return registry == key.registry
+                    && registryVersion == key.registryVersion
+                    && version == key.version
+                    && command == key.command
+                    && controllers == key.controllers
+                    && prefix.equals(key.prefix)
+                    && Objects.equals(helpLabel, key.helpLabel);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(registry);
+            result = 31 * result + Long.hashCode(registryVersion);
+            result = 31 * result + Long.hashCode(version);
+            result = 31 * result + System.identityHashCode(command);
+            result = 31 * result + System.identityHashCode(controllers);
+            result = 31 * result + prefix.hashCode();
+            return 31 * result + Objects.hashCode(helpLabel);
+        }
+    }
 }
@@ -18,7 +18,8 @@ import java.util.regex.Matcher;
 import java.util.stream.Collectors;
 
 /**
- * Subtype of {@link DefaultHelpMessageFactory} that can load the embeds from an {@link EmbedCache}.
+ * Subtype of {@link DefaultHelpMessageFactory} that can load the embeds from an {@link EmbedCache}. Cached help
+ * messages are built again once the {@link EmbedCache} reloads its embeds.
  *
  * @author Kaktushose
  * @version 2.0.0
@@ -35,9 +36,14 @@ public class JsonHelpMessageFactory extends DefaultHelpMessageFactory {
     }
 
     @Override
-    public MessageCreateData getSpecificHelp(@NotNull CommandContext context) {
+    protected long getCacheVersion() {
+        return embedCache.getVersion();
+    }
+
+    @Override
+    protected MessageCreateData buildSpecificHelp(@NotNull CommandContext context) {
         if (!embedCache.containsEmbed("specificHelp")) {
-            return super.getSpecificHelp(context);
+            return super.buildSpecificHelp(context);
         }
 
         String prefix = Matcher.quoteReplacement(context.getSettings().getPrefix());
@@ -82,9 +88,10 @@ public class JsonHelpMessageFactory extends DefaultHelpMessageFactory {
     }
 
     @Override
-    public MessageCreateData getGenericHelp(@NotNull Set<ControllerDefinition> controllers, @NotNull CommandContext context) {
+    protected MessageCreateData buildGenericHelp(@NotNull Set<ControllerDefinition> controllers,
+                                                 @NotNull CommandContext context) {
         if (!embedCache.containsEmbed("genericHelp")) {
-            return super.getGenericHelp(controllers, context);
+            return super.buildGenericHelp(controllers, context);
         }
 
         GuildSettings settings = context.getSettings();
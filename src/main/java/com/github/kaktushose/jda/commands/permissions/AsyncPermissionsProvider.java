@@ -0,0 +1,106 @@
+package com.github.kaktushose.jda.commands.permissions;
+
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.util.Futures;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.User;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Interface for performing permission checks without blocking the dispatching thread, e.g. if mutes and permissions
+ * are stored in a database. The {@link com.github.kaktushose.jda.commands.dispatching.CommandDispatcher
+ * CommandDispatcher} continues once the checks are completed.
+ *
+ * <p>A synchronous {@link PermissionsProvider} can be used through {@link #of(PermissionsProvider)}.
+ *
+ * @author Kaktushose
+ * @version 3.0.0
+ * @see PermissionsProvider
+ * @since 3.0.0
+ */
+public interface AsyncPermissionsProvider {
+
+    /**
+     * Wraps a synchronous {@link PermissionsProvider}. The returned futures are already completed.
+     *
+     * @param provider the {@link PermissionsProvider} to wrap
+     * @return an AsyncPermissionsProvider delegating to the given {@link PermissionsProvider}
+     */
+    static AsyncPermissionsProvider of(@NotNull PermissionsProvider provider) {
+        return new AsyncPermissionsProvider() {
+            @Override
+            public CompletableFuture<Boolean> isMuted(@NotNull User user, @NotNull CommandContext context) {
+                return CompletableFuture.completedFuture(provider.isMuted(user, context));
+            }
+
+            @Override
+            public CompletableFuture<Boolean> hasPermission(@NotNull User user, @NotNull CommandContext context) {
+                return CompletableFuture.completedFuture(provider.hasPermission(user, context));
+            }
+
+            @Override
+            public CompletableFuture<Boolean> hasPermission(@NotNull Member member, @NotNull CommandContext context) {
+                return CompletableFuture.completedFuture(provider.hasPermission(member, context));
+            }
+        };
+    }
+
+    /**
+     * Checks if a {@link User} is muted.
+     *
+     * @param user    the {@link User} to perform the check against
+     * @param context the corresponding {@link CommandContext}
+     * @return a {@link CompletableFuture} completing with {@code true} if the user is muted
+     * @see PermissionsProvider#isMuted(User, CommandContext)
+     */
+    CompletableFuture<Boolean> isMuted(@NotNull User user, @NotNull CommandContext context);
+
+    /**
+     * Checks if a {@link User} has permissions.
+     *
+     * @param user    the {@link User} to perform the check against
+     * @param context the corresponding {@link CommandContext}
+     * @return a {@link CompletableFuture} completing with {@code true} if the user has the permission to execute the
+     * command
+     * @see PermissionsProvider#hasPermission(User, CommandContext)
+     */
+    CompletableFuture<Boolean> hasPermission(@NotNull User user, @NotNull CommandContext context);
+
+    /**
+     * Checks if a {@link Member} has permissions.
+     *
+     * @param member  the {@link Member} to perform the check against
+     * @param context the corresponding {@link CommandContext}
+     * @return a {@link CompletableFuture} completing with {@code true} if the member has the permission to execute
+     * the command
+     * @see PermissionsProvider#hasPermission(Member, CommandContext)
+     */
+    CompletableFuture<Boolean> hasPermission(@NotNull Member member, @NotNull CommandContext context);
+
+    /**
+     * Gets a synchronous view of this provider, which blocks until the checks are completed.
+     *
+     * @return a {@link PermissionsProvider} delegating to this provider
+     */
+    default PermissionsProvider blocking() {
+        AsyncPermissionsProvider provider = this;
+        return new PermissionsProvider() {
+            @Override
+            public boolean isMuted(@NotNull User user, @NotNull CommandContext context) {
+                return Futures.join(provider.isMuted(user, context));
+            }
+
+            @Override
+            public boolean hasPermission(@NotNull User user, @NotNull CommandContext context) {
+                return Futures.join(provider.hasPermission(user, context));
+            }
+
+            @Override
+            public boolean hasPermission(@NotNull Member member, @NotNull CommandContext context) {
+                return Futures.join(provider.hasPermission(member, context));
+            }
+        };
+    }
+}
@@ -0,0 +1,319 @@
+package com.github.kaktushose.jda.commands.permissions;
+
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
+import com.github.kaktushose.jda.commands.util.LruEviction;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.entities.channel.ChannelType;
+import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+/**
+ * A {@link PermissionsProvider} that caches the results of another {@link PermissionsProvider}. This is useful for
+ * providers that access a database, since mutes are checked for every message and permissions for every command.
+ *
+ * <p>Mutes are cached per user and guild, permissions per user or member and command. Results of direct messages
+ * are cached apart from the results of any guild. The cache is bounded by size and time.
+ * Entries expire after a fixed duration since they were loaded. Once the cache exceeds its maximum size, the least
+ * recently used entries get evicted.
+ *
+ * <p>Optionally, results can be memoized for the lifetime of a {@link CommandContext}. Then every check of a
+ * context gets the same result, even if the cached entry expires or gets invalidated in between, and filters and
+ * validators share a single lookup.
+ *
+ * <p>Use the invalidation methods after changing mutes or permissions, so that the next check loads them again.
+ *
+ * @author Kaktushose
+ * @version 3.0.0
+ * @see PermissionsProvider
+ * @since 3.0.0
+ */
+public class CachingPermissionsProvider implements PermissionsProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(CachingPermissionsProvider.class);
+    private static final long NO_GUILD = 0;
+    private final PermissionsProvider delegate;
+    private final Map<Key, CacheEntry> cache;
+    private final Map<CommandContext, Map<Key, Boolean>> memos;
+    private final LruEviction eviction;
+    private final long expireAfter;
+    private final boolean memoizePerContext;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    /**
+     * Constructs a new CachingPermissionsProvider that doesn't memoize results per {@link CommandContext}.
+     *
+     * @param delegate    the {@link PermissionsProvider} to load the results from
+     * @param maximumSize the maximum amount of cached results
+     * @param expireAfter the duration after which cached results get loaded again
+     * @param unit        the {@link TimeUnit} of the duration
+     * @throws IllegalArgumentException if the maximum size or the duration is less than one
+     */
+    public CachingPermissionsProvider(@NotNull PermissionsProvider delegate,
+                                      long maximumSize,
+                                      long expireAfter,
+                                      @NotNull TimeUnit unit) {
+        this(delegate, maximumSize, expireAfter, unit, false);
+    }
+
+    /**
+     * Constructs a new CachingPermissionsProvider.
+     *
+     * @param delegate          the {@link PermissionsProvider} to load the results from
+     * @param maximumSize       the maximum amount of cached results
+     * @param expireAfter       the duration after which cached results get loaded again
+     * @param unit              the {@link TimeUnit} of the duration
+     * @param memoizePerContext whether results should be memoized for the lifetime of a {@link CommandContext}
+     * @throws IllegalArgumentException if the maximum size or the duration is less than one
+     */
+    public CachingPermissionsProvider(@NotNull PermissionsProvider delegate,
+                                      long maximumSize,
+                                      long expireAfter,
+                                      @NotNull TimeUnit unit,
+                                      boolean memoizePerContext) {
+        if (maximumSize < 1 || expireAfter < 1) {
+            throw new IllegalArgumentException("Maximum size and duration must be at least 1!");
+        }
+        this.delegate = delegate;
+        this.expireAfter = unit.toNanos(expireAfter);
+        this.memoizePerContext = memoizePerContext;
+        cache = new ConcurrentHashMap<>();
+        // contexts don't have a defined end, so they are only referenced weakly
+        memos = Collections.synchronizedMap(new WeakHashMap<>());
+        eviction = new LruEviction(maximumSize);
+        hits = new LongAdder();
+        misses = new LongAdder();
+        evictions = new LongAdder();
+    }
+
+    @Override
+    public boolean isMuted(@NotNull User user, @NotNull CommandContext context) {
+        // mutes are checked before routing, thus they don't depend on the command
+        Key key = new Key(Key.MUTED, getGuildId(context), user.getIdLong(), null);
+        return get(key, context, () -> delegate.isMuted(user, context));
+    }
+
+    @Override
+    public boolean hasPermission(@NotNull User user, @NotNull CommandContext context) {
+        Key key = new Key(Key.USER, getGuildId(context), user.getIdLong(), context.getCommand());
+        return get(key, context, () -> delegate.hasPermission(user, context));
+    }
+
+    @Override
+    public boolean hasPermission(@NotNull Member member, @NotNull CommandContext context) {
+        Key key = new Key(Key.MEMBER, member.getGuild().getIdLong(), member.getIdLong(), context.getCommand());
+        return get(key, context, () -> delegate.hasPermission(member, context));
+    }
+
+    private long getGuildId(CommandContext context) {
+        // a provider may decide differently per guild, thus results of a user are cached per guild too
+        MessageReceivedEvent event = context.getEvent();
+        return event != null && event.isFromType(ChannelType.TEXT) ? event.getGuild().getIdLong() : NO_GUILD;
+    }
+
+    private boolean get(Key key, CommandContext context, BooleanSupplier loader) {
+        if (!memoizePerContext) {
+            return getCached(key, loader);
+        }
+        Map<Key, Boolean> memo = memos.computeIfAbsent(context, ignored ->
+                Collections.synchronizedMap(new HashMap<>())
+        );
+        Boolean result = memo.get(key);
+        if (result == null) {
+            result = getCached(key, loader);
+            memo.put(key, result);
+        }
+        return result;
+    }
+
+    private boolean getCached(Key key, BooleanSupplier loader) {
+        long now = System.nanoTime();
+        CacheEntry entry = cache.get(key);
+        if (entry != null && !entry.isLoading && now - entry.loadedAt < expireAfter) {
+            entry.accessedAt = now;
+            hits.increment();
+            return entry.result;
+        }
+        misses.increment();
+        // an invalidation removes the placeholder, thus a result loaded before the invalidation doesn't get cached
+        CacheEntry loading = new CacheEntry(false, now, true);
+        cache.put(key, loading);
+        // loaded outside of any lock, so a slow provider only blocks the requesting thread
+        boolean result = loader.getAsBoolean();
+        if (cache.replace(key, loading, new CacheEntry(result, now, false))) {
+            evict();
+        }
+        return result;
+    }
+
+    private void evict() {
+        int evicted = eviction.evict(cache, entry -> entry.accessedAt);
+        if (evicted > 0) {
+            evictions.add(evicted);
+            log.debug("Evicted {} cached permission checks", evicted);
+        }
+    }
+
+    /**
+     * Removes all cached results of the given user, including the mute and the permissions of all members of this
+     * user.
+     *
+     * @param userId the id of the user
+     */
+    public void invalidateUser(long userId) {
+        cache.keySet().removeIf(key -> key.userId == userId);
+    }
+
+    /**
+     * Removes all cached results of the given user in the given guild, including the mute of this user.
+     *
+     * @param guildId the id of the guild
+     * @param userId  the id of the member
+     */
+    public void invalidateMember(long guildId, long userId) {
+        cache.keySet().removeIf(key -> key.guildId == guildId && key.userId == userId);
+    }
+
+    /**
+     * Removes all cached results of the given guild, including the mutes of all users in this guild.
+     *
+     * @param guildId the id of the guild
+     */
+    public void invalidateGuild(long guildId) {
+        cache.keySet().removeIf(key -> key.guildId == guildId);
+    }
+
+    /**
+     * Removes the cached permissions for the given command.
+     *
+     * @param command the {@link CommandDefinition} to remove the permissions for
+     */
+    public void invalidateCommand(@NotNull CommandDefinition command) {
+        cache.keySet().removeIf(key -> key.command == command);
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    /**
+     * Gets the amount of cached results.
+     *
+     * @return the amount of cached results
+     */
+    public long size() {
+        return cache.size();
+    }
+
+    /**
+     * Gets the amount of checks that were served from the cache. Checks served from the memo of a
+     * {@link CommandContext} aren't counted.
+     *
+     * @return the amount of cache hits
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the amount of checks that had to be delegated, either because they weren't cached or because they were
+     * expired.
+     *
+     * @return the amount of cache misses
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the ratio of checks that were served from the cache.
+     *
+     * @return the hit rate between {@code 0} and {@code 1}, or {@code 1} if there weren't any checks yet
+     */
+    public double getHitRate() {
+        long hits = getHitCount();
+        long total = hits + getMissCount();
+        return total == 0 ? 1 : (double) hits / total;
+    }
+
+    /**
+     * Gets the amount of entries that were evicted due to the size limit.
+     *
+     * @return the amount of evictions
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Gets the underlying {@link PermissionsProvider}.
+     *
+     * @return the underlying {@link PermissionsProvider}
+     */
+    public PermissionsProvider getDelegate() {
+        return delegate;
+    }
+
+    private static class Key {
+        private static final int MUTED = 0;
+        private static final int USER = 1;
+        private static final int MEMBER = 2;
+        private final int type;
+        private final long guildId;
+        private final long userId;
+        private final CommandDefinition command;
+
+        private Key(int type, long guildId, long userId, CommandDefinition command) {
+            this.type = type;
+            this.guildId = guildId;
+            this.userId = userId;
+            this.command = command;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return type == key.type && guildId == key.guildId && userId == key.userId && command == key.command;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = 31 * type + Long.hashCode(guildId);
+            result = 31 * result + Long.hashCode(userId);
+            return 31 * result + System.identityHashCode(command);
+        }
+    }
+
+    private static class CacheEntry {
+        private final boolean result;
+        private final long loadedAt;
+        private final boolean isLoading;
+        private volatile long accessedAt;
+
+        private CacheEntry(boolean result, long loadedAt, boolean isLoading) {
+            this.result = result;
+            this.loadedAt = loadedAt;
+            this.isLoading = isLoading;
+            this.accessedAt = loadedAt;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.github.kaktushose.jda.commands.permissions;
 
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
 import net.dv8tion.jda.api.Permission;
 import net.dv8tion.jda.api.entities.Member;
 import net.dv8tion.jda.api.entities.User;
@@ -8,8 +9,6 @@ import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Arrays;
-
 /**
  * Default implementation of {@link PermissionsProvider} with the following behaviour:
  * <ul>
@@ -43,15 +42,14 @@ public class DefaultPermissionsProvider implements PermissionsProvider {
 
     @Override
     public boolean hasPermission(@NotNull Member member, @NotNull CommandContext context) {
-        for (String s : context.getCommand().getPermissions()) {
-            // not a discord perm, continue
-            if (Arrays.stream(Permission.values()).noneMatch(p -> p.name().equalsIgnoreCase(s))) {
-                continue;
-            }
-            if (!member.hasPermission(Permission.valueOf(s.toUpperCase()))) {
-                log.debug("{} permission is missing!", s.toUpperCase());
-                return false;
-            }
+        CommandDefinition command = context.getCommand();
+        // the Discord permissions are resolved once when the command gets indexed, other permissions are ignored
+        if (command.getDiscordPermissionsRaw() == 0) {
+            return true;
+        }
+        if (!member.hasPermission(command.getDiscordPermissions())) {
+            log.debug("Missing at least one of the permissions {}!", command.getDiscordPermissions());
+            return false;
         }
         return true;
     }
@@ -5,7 +5,10 @@ import com.github.kaktushose.jda.commands.annotations.CommandController;
 import com.github.kaktushose.jda.commands.annotations.Cooldown;
 import com.github.kaktushose.jda.commands.annotations.Permission;
 import com.github.kaktushose.jda.commands.dispatching.CommandEvent;
+import com.github.kaktushose.jda.commands.dispatching.adapter.BindingPlan;
 import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapterRegistry;
+import com.github.kaktushose.jda.commands.dispatching.filter.FilterChain;
+import com.github.kaktushose.jda.commands.dispatching.filter.FilterRegistry;
 import com.github.kaktushose.jda.commands.dispatching.validation.ValidatorRegistry;
 import com.google.common.collect.Sets;
 import org.jetbrains.annotations.NotNull;
@@ -13,6 +16,9 @@ import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.util.*;
@@ -28,16 +34,32 @@ import java.util.*;
 public class CommandDefinition implements Comparable<CommandDefinition> {
 
     private static final Logger log = LoggerFactory.getLogger(CommandDefinition.class);
+    private static final Map<String, net.dv8tion.jda.api.Permission> DISCORD_PERMISSIONS = new HashMap<>();
     private final List<String> labels;
     private final CommandMetadata metadata;
     private final List<ParameterDefinition> parameters;
     private final Set<String> permissions;
+    private volatile long discordPermissions;
+    private volatile Set<net.dv8tion.jda.api.Permission> discordPermissionSet;
+    private volatile Set<String> customPermissions;
     private final CooldownDefinition cooldown;
     private boolean isSuper;
     private final boolean isDM;
     private final Method method;
     private final Object instance;
+    private final MethodHandle invoker;
     private ControllerDefinition controller;
+    private volatile BindingPlan bindingPlan;
+    private volatile FilterChain filterChain;
+
+    static {
+        for (net.dv8tion.jda.api.Permission permission : net.dv8tion.jda.api.Permission.values()) {
+            // UNKNOWN has no raw value and can't be checked
+            if (permission != net.dv8tion.jda.api.Permission.UNKNOWN) {
+                DISCORD_PERMISSIONS.put(permission.name(), permission);
+            }
+        }
+    }
 
     private CommandDefinition(List<String> labels,
                               CommandMetadata metadata,
@@ -48,7 +70,9 @@ public class CommandDefinition implements Comparable<CommandDefinition> {
                               boolean isSuper,
                               boolean isDM,
                               Method method,
-                              Object instance) {
+                              Object instance,
+                              MethodHandle invoker,
+                              BindingPlan bindingPlan) {
         this.labels = labels;
         this.metadata = metadata;
         this.parameters = parameters;
@@ -59,6 +83,9 @@ public class CommandDefinition implements Comparable<CommandDefinition> {
         this.isDM = isDM;
         this.method = method;
         this.instance = instance;
+        this.invoker = invoker;
+        this.bindingPlan = bindingPlan;
+        resolvePermissions();
     }
 
     /**
@@ -128,14 +155,6 @@ public class CommandDefinition implements Comparable<CommandDefinition> {
                 continue;
             }
 
-            // check if parameter adapter exists
-            if (!adapterRegistry.exists(type)) {
-                log.warn("No type adapter for type {} found! Command {}.{} cannot be executed in this state!",
-                        type.getName(),
-                        method.getDeclaringClass().getSimpleName(),
-                        method.getName());
-            }
-
             // argument parsing can be skipped by using just a String array (the traditional way of command frameworks)
             // this means that no other parameters are allowed in this case
             if (type.isAssignableFrom(String[].class) && parameters.size() > 2) {
@@ -164,6 +183,28 @@ public class CommandDefinition implements Comparable<CommandDefinition> {
             }
         }
 
+        // resolve the type adapters once, this also fails for missing adapters and invalid default values
+        BindingPlan bindingPlan;
+        try {
+            bindingPlan = adapterRegistry.compile(parameters);
+        } catch (IllegalArgumentException e) {
+            logError(e.getMessage(), method);
+            return Optional.empty();
+        }
+
+        // bind the instance and spread the argument array once, so invoking the command is a direct call
+        MethodHandle invoker;
+        try {
+            method.setAccessible(true);
+            invoker = MethodHandles.lookup().unreflect(method)
+                    .bindTo(instance)
+                    .asSpreader(Object[].class, parameters.size())
+                    .asType(MethodType.methodType(void.class, Object[].class));
+        } catch (IllegalAccessException | RuntimeException e) {
+            logError(String.format("Command method is not accessible! %s", e.getMessage()), method);
+            return Optional.empty();
+        }
+
         return Optional.of(new CommandDefinition(
                 labels,
                 CommandMetadata.build(command, commandController),
@@ -174,7 +215,9 @@ public class CommandDefinition implements Comparable<CommandDefinition> {
                 command.isSuper(),
                 command.isDM(),
                 method,
-                instance
+                instance,
+                invoker,
+                bindingPlan
         ));
     }
 
@@ -221,6 +264,63 @@ public class CommandDefinition implements Comparable<CommandDefinition> {
         return permissions;
     }
 
+    /**
+     * Adds permission Strings to this command, e.g. the permissions of the {@link ControllerDefinition}. Use this
+     * method instead of modifying {@link #getPermissions()}, otherwise the Discord permissions won't be updated.
+     *
+     * @param permissions the permission Strings to add
+     */
+    public void addPermissions(@NotNull Collection<String> permissions) {
+        this.permissions.addAll(permissions);
+        resolvePermissions();
+    }
+
+    /**
+     * Gets the permission Strings that match a {@link net.dv8tion.jda.api.Permission Discord permission}, ignoring the
+     * case, as a raw bitmask.
+     *
+     * @return the raw bitmask of the Discord permissions or {@code 0} if there aren't any
+     * @see net.dv8tion.jda.api.Permission#getRawValue()
+     */
+    public long getDiscordPermissionsRaw() {
+        return discordPermissions;
+    }
+
+    /**
+     * Gets the permission Strings that match a {@link net.dv8tion.jda.api.Permission Discord permission}, ignoring the
+     * case.
+     *
+     * @return an unmodifiable set of the Discord permissions
+     */
+    public Set<net.dv8tion.jda.api.Permission> getDiscordPermissions() {
+        return discordPermissionSet;
+    }
+
+    /**
+     * Gets the permission Strings that don't match a {@link net.dv8tion.jda.api.Permission Discord permission}.
+     *
+     * @return an unmodifiable set of the custom permission Strings
+     */
+    public Set<String> getCustomPermissions() {
+        return customPermissions;
+    }
+
+    private void resolvePermissions() {
+        long raw = 0;
+        Set<String> custom = new HashSet<>();
+        for (String permission : permissions) {
+            net.dv8tion.jda.api.Permission discord = DISCORD_PERMISSIONS.get(permission.toUpperCase(Locale.ROOT));
+            if (discord == null) {
+                custom.add(permission);
+            } else {
+                raw |= discord.getRawValue();
+            }
+        }
+        customPermissions = Collections.unmodifiableSet(custom);
+        discordPermissionSet = Collections.unmodifiableSet(net.dv8tion.jda.api.Permission.getPermissions(raw));
+        discordPermissions = raw;
+    }
+
     /**
      * Gets the {@link CooldownDefinition}. This is never null, even if the command has no cooldown.
      *
@@ -303,6 +403,67 @@ public class CommandDefinition implements Comparable<CommandDefinition> {
         return instance;
     }
 
+    /**
+     * Gets the {@link MethodHandle} used to invoke the command. The handle is already bound to the instance of the
+     * method defining class and accepts all arguments as one {@code Object[]}, thus its type is
+     * {@code (Object[])void}. This allows custom dispatchers to call {@link MethodHandle#invokeExact(Object...)}
+     * directly.
+     *
+     * @return the {@link MethodHandle} used to invoke the command
+     */
+    public MethodHandle getInvoker() {
+        return invoker;
+    }
+
+    /**
+     * Invokes the command method with the given arguments. The first argument must be the
+     * {@link CommandEvent}, followed by the type adapted parameters.
+     *
+     * @param arguments the arguments to invoke the command with
+     * @throws Throwable anything thrown by the command method
+     */
+    public void invoke(@NotNull Object[] arguments) throws Throwable {
+        invoker.invokeExact(arguments);
+    }
+
+    /**
+     * Gets the {@link BindingPlan} used to type adapt the arguments of this command.
+     *
+     * @return the {@link BindingPlan}
+     */
+    public BindingPlan getBindingPlan() {
+        return bindingPlan;
+    }
+
+    /**
+     * Sets the {@link BindingPlan}. This is done by the {@link TypeAdapterRegistry} if the current plan is stale.
+     *
+     * @param bindingPlan the {@link BindingPlan} to use
+     */
+    public void setBindingPlan(@NotNull BindingPlan bindingPlan) {
+        this.bindingPlan = bindingPlan;
+    }
+
+    /**
+     * Gets the {@link FilterChain} of this command.
+     *
+     * @return the {@link FilterChain} or {@code null} if this command wasn't dispatched yet
+     * @see FilterRegistry#getChain(CommandDefinition)
+     */
+    @Nullable
+    public FilterChain getFilterChain() {
+        return filterChain;
+    }
+
+    /**
+     * Sets the {@link FilterChain}. This is done by the {@link FilterRegistry} if the current chain is stale.
+     *
+     * @param filterChain the {@link FilterChain} to use
+     */
+    public void setFilterChain(@NotNull FilterChain filterChain) {
+        this.filterChain = filterChain;
+    }
+
     @Override
     public String toString() {
         return "{" +
@@ -34,6 +34,9 @@ public class CommandRegistry {
     private final DependencyInjector dependencyInjector;
     private final Set<ControllerDefinition> controllers;
     private final Set<CommandDefinition> commands;
+    private final Set<ControllerDefinition> controllersView;
+    private final Set<CommandDefinition> commandsView;
+    private volatile long version;
 
     /**
      * Constructs a new CommandRegistry.
@@ -50,6 +53,8 @@ public class CommandRegistry {
         this.dependencyInjector = dependencyInjector;
         controllers = new HashSet<>();
         commands = new HashSet<>();
+        controllersView = Collections.unmodifiableSet(controllers);
+        commandsView = Collections.unmodifiableSet(commands);
     }
 
     /**
@@ -90,6 +95,7 @@ public class CommandRegistry {
 
             log.debug("Registered controller {}", controller);
         }
+        version++;
 
         log.debug("Successfully registered {} controller(s) with a total of {} command(s)!", controllers.size(), commands.size());
     }
@@ -100,15 +106,25 @@ public class CommandRegistry {
      * @return a list of all {@link ControllerDefinition ControllerDefinitions}
      */
     public Set<ControllerDefinition> getControllers() {
-        return Collections.unmodifiableSet(controllers);
+        return controllersView;
     }
 
     /**
-     * Gets a list of all {@link CommandDefinition CommandDefinitions}.
+     * Gets a list of all {@link CommandDefinition CommandDefinitions}. This always returns the same unmodifiable view,
+     * which allows routers to cache indexes built from it.
      *
      * @return a list of all {@link CommandDefinition CommandDefinitions}
      */
     public Set<CommandDefinition> getCommands() {
-        return Collections.unmodifiableSet(commands);
+        return commandsView;
+    }
+
+    /**
+     * Gets the version of this registry. The version changes every time controllers get indexed.
+     *
+     * @return the version of this registry
+     */
+    public long getVersion() {
+        return version;
     }
 }
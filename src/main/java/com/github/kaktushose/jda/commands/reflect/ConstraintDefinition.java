@@ -2,6 +2,7 @@ package com.github.kaktushose.jda.commands.reflect;
 
 import com.github.kaktushose.jda.commands.dispatching.validation.Validator;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Representation of parameter constraint.
@@ -17,6 +18,7 @@ public class ConstraintDefinition {
     private final Validator validator;
     private final String message;
     private final Object annotation;
+    private final Object compiled;
 
     /**
      * Constructs a new ConstraintDefinition.
@@ -29,6 +31,7 @@ public class ConstraintDefinition {
         this.validator = validator;
         this.message = message;
         this.annotation = annotation;
+        this.compiled = validator.compile(annotation);
     }
 
     /**
@@ -58,6 +61,17 @@ public class ConstraintDefinition {
         return annotation;
     }
 
+    /**
+     * Gets the compiled form of the annotation, which was created by {@link Validator#compile(Object)} when this
+     * constraint was defined.
+     *
+     * @return the compiled form of the annotation or {@code null} if the {@link Validator} doesn't compile annotations
+     */
+    @Nullable
+    public Object getCompiled() {
+        return compiled;
+    }
+
     @Override
     public String toString() {
         return "{" +
@@ -97,7 +97,7 @@ public class ControllerDefinition {
             CommandDefinition commandDefinition = optional.get();
 
             // add controller level permissions
-            commandDefinition.getPermissions().addAll(permissions);
+            commandDefinition.addPermissions(permissions);
 
             // TODO remove once command overloading is working
             if (subCommands.stream().flatMap(command -> command.getLabels().stream()).anyMatch(commandDefinition.getLabels()::contains)) {
@@ -18,8 +18,10 @@ import com.github.kaktushose.jda.commands.embeds.error.DefaultErrorMessageFactor
 import com.github.kaktushose.jda.commands.embeds.error.ErrorMessageFactory;
 import com.github.kaktushose.jda.commands.embeds.help.DefaultHelpMessageFactory;
 import com.github.kaktushose.jda.commands.embeds.help.HelpMessageFactory;
+import com.github.kaktushose.jda.commands.permissions.AsyncPermissionsProvider;
 import com.github.kaktushose.jda.commands.permissions.DefaultPermissionsProvider;
 import com.github.kaktushose.jda.commands.permissions.PermissionsProvider;
+import com.github.kaktushose.jda.commands.settings.AsyncSettingsProvider;
 import com.github.kaktushose.jda.commands.settings.DefaultSettingsProvider;
 import com.github.kaktushose.jda.commands.settings.SettingsProvider;
 import org.jetbrains.annotations.NotNull;
@@ -42,7 +44,9 @@ import java.util.*;
  * override the default implementation of this framework. Supports the following interfaces:
  * <ul>
  *     <li>{@link SettingsProvider}</li>
+ *     <li>{@link AsyncSettingsProvider}</li>
  *     <li>{@link PermissionsProvider}</li>
+ *     <li>{@link AsyncPermissionsProvider}</li>
  *     <li>{@link HelpMessageFactory}</li>
  *     <li>{@link ErrorMessageFactory}</li>
  *     <li>{@link Router}</li>
@@ -66,7 +70,9 @@ public class ImplementationRegistry {
     private final TypeAdapterRegistry typeAdapterRegistry;
     private final ValidatorRegistry validatorRegistry;
     private SettingsProvider settingsProvider;
+    private AsyncSettingsProvider asyncSettingsProvider;
     private PermissionsProvider permissionsProvider;
+    private AsyncPermissionsProvider asyncPermissionsProvider;
     private HelpMessageFactory helpMessageFactory;
     private ErrorMessageFactory errorMessageFactory;
     private Router router;
@@ -84,8 +90,8 @@ public class ImplementationRegistry {
                                   FilterRegistry filterRegistry,
                                   TypeAdapterRegistry typeAdapterRegistry,
                                   ValidatorRegistry validatorRegistry) {
-        settingsProvider = new DefaultSettingsProvider();
-        permissionsProvider = new DefaultPermissionsProvider();
+        setSettingsProvider(new DefaultSettingsProvider());
+        setPermissionsProvider(new DefaultPermissionsProvider());
         helpMessageFactory = new DefaultHelpMessageFactory();
         errorMessageFactory = new DefaultErrorMessageFactory();
         router = new CommandRouter();
@@ -112,7 +118,9 @@ public class ImplementationRegistry {
         reflections = new Reflections(config);
 
         findImplementation(SettingsProvider.class).ifPresent(this::setSettingsProvider);
+        findImplementation(AsyncSettingsProvider.class).ifPresent(this::setAsyncSettingsProvider);
         findImplementation(PermissionsProvider.class).ifPresent(this::setPermissionsProvider);
+        findImplementation(AsyncPermissionsProvider.class).ifPresent(this::setAsyncPermissionsProvider);
         findImplementation(HelpMessageFactory.class).ifPresent(this::setHelpMessageFactory);
         findImplementation(ErrorMessageFactory.class).ifPresent(this::setErrorMessageFactory);
         findImplementation(Router.class).ifPresent(this::setRouter);
@@ -123,6 +131,15 @@ public class ImplementationRegistry {
         findValidators().forEach(validatorRegistry::register);
     }
 
+    /**
+     * Gets the {@link TypeAdapterRegistry}.
+     *
+     * @return the {@link TypeAdapterRegistry}
+     */
+    public TypeAdapterRegistry getTypeAdapterRegistry() {
+        return typeAdapterRegistry;
+    }
+
     /**
      * Gets the {@link SettingsProvider}.
      *
@@ -133,12 +150,33 @@ public class ImplementationRegistry {
     }
 
     /**
-     * Sets the {@link SettingsProvider}.
+     * Sets the {@link SettingsProvider}. This replaces the {@link AsyncSettingsProvider} as well.
      *
      * @param settingsProvider the new {@link SettingsProvider}
      */
     public void setSettingsProvider(SettingsProvider settingsProvider) {
         this.settingsProvider = settingsProvider;
+        asyncSettingsProvider = AsyncSettingsProvider.of(settingsProvider);
+    }
+
+    /**
+     * Gets the {@link AsyncSettingsProvider}. If only a synchronous {@link SettingsProvider} was set, this wraps it.
+     *
+     * @return the {@link AsyncSettingsProvider}
+     */
+    public AsyncSettingsProvider getAsyncSettingsProvider() {
+        return asyncSettingsProvider;
+    }
+
+    /**
+     * Sets the {@link AsyncSettingsProvider}. This replaces the {@link SettingsProvider} as well, which will then
+     * block until the {@link com.github.kaktushose.jda.commands.settings.GuildSettings GuildSettings} are loaded.
+     *
+     * @param asyncSettingsProvider the new {@link AsyncSettingsProvider}
+     */
+    public void setAsyncSettingsProvider(AsyncSettingsProvider asyncSettingsProvider) {
+        this.asyncSettingsProvider = asyncSettingsProvider;
+        settingsProvider = asyncSettingsProvider.blocking();
     }
 
     /**
@@ -151,12 +189,34 @@ public class ImplementationRegistry {
     }
 
     /**
-     * Sets the {@link PermissionsProvider}.
+     * Sets the {@link PermissionsProvider}. This replaces the {@link AsyncPermissionsProvider} as well.
      *
      * @param permissionsProvider the new {@link PermissionsProvider}
      */
     public void setPermissionsProvider(PermissionsProvider permissionsProvider) {
         this.permissionsProvider = permissionsProvider;
+        asyncPermissionsProvider = AsyncPermissionsProvider.of(permissionsProvider);
+    }
+
+    /**
+     * Gets the {@link AsyncPermissionsProvider}. If only a synchronous {@link PermissionsProvider} was set, this wraps
+     * it.
+     *
+     * @return the {@link AsyncPermissionsProvider}
+     */
+    public AsyncPermissionsProvider getAsyncPermissionsProvider() {
+        return asyncPermissionsProvider;
+    }
+
+    /**
+     * Sets the {@link AsyncPermissionsProvider}. This replaces the {@link PermissionsProvider} as well, which will
+     * then block until the checks are completed.
+     *
+     * @param asyncPermissionsProvider the new {@link AsyncPermissionsProvider}
+     */
+    public void setAsyncPermissionsProvider(AsyncPermissionsProvider asyncPermissionsProvider) {
+        this.asyncPermissionsProvider = asyncPermissionsProvider;
+        permissionsProvider = asyncPermissionsProvider.blocking();
     }
 
     /**
@@ -0,0 +1,50 @@
+package com.github.kaktushose.jda.commands.settings;
+
+import com.github.kaktushose.jda.commands.util.Futures;
+import net.dv8tion.jda.api.entities.Guild;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Interface for loading {@link GuildSettings} without blocking the dispatching thread, e.g. from a database. If an
+ * AsyncSettingsProvider is present, the message is parsed once the {@link GuildSettings} are loaded.
+ *
+ * <p>A synchronous {@link SettingsProvider} can be used through {@link #of(SettingsProvider)}.
+ *
+ * @author Kaktushose
+ * @version 3.0.0
+ * @see SettingsProvider
+ * @since 3.0.0
+ */
+@FunctionalInterface
+public interface AsyncSettingsProvider {
+
+    /**
+     * Wraps a synchronous {@link SettingsProvider}. The returned futures are already completed.
+     *
+     * @param provider the {@link SettingsProvider} to wrap
+     * @return an AsyncSettingsProvider delegating to the given {@link SettingsProvider}
+     */
+    static AsyncSettingsProvider of(@NotNull SettingsProvider provider) {
+        return guild -> CompletableFuture.completedFuture(provider.getSettings(guild));
+    }
+
+    /**
+     * Gets the {@link GuildSettings} for a {@link Guild}.
+     *
+     * @param guild the {@link Guild} to get the {@link GuildSettings} for
+     * @return a {@link CompletableFuture} completing with the {@link GuildSettings}
+     */
+    CompletableFuture<GuildSettings> getSettings(@Nullable Guild guild);
+
+    /**
+     * Gets a synchronous view of this provider, which blocks until the {@link GuildSettings} are loaded.
+     *
+     * @return a {@link SettingsProvider} delegating to this provider
+     */
+    default SettingsProvider blocking() {
+        return guild -> Futures.join(getSettings(guild));
+    }
+}
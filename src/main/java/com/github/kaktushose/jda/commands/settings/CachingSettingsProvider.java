@@ -0,0 +1,238 @@
+package com.github.kaktushose.jda.commands.settings;
+
+import com.github.kaktushose.jda.commands.util.LruEviction;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.sharding.ShardManager;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link SettingsProvider} that caches the {@link GuildSettings} of another {@link SettingsProvider}. This is
+ * useful for providers that access a database, since the {@link GuildSettings} are requested for every message.
+ *
+ * <p>The cache is bounded by size and time. Entries expire after a fixed duration since they were loaded. Once the
+ * cache exceeds its maximum size, the least recently used entries get evicted. Settings of direct messages, where
+ * no {@link Guild} is present, are cached as well.
+ *
+ * <p>Use {@link #invalidate(long)} after changing settings, so that the next request loads them again.
+ *
+ * @author Kaktushose
+ * @version 3.0.0
+ * @see SettingsProvider
+ * @since 3.0.0
+ */
+public class CachingSettingsProvider implements SettingsProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(CachingSettingsProvider.class);
+    private static final long NO_GUILD = Long.MIN_VALUE;
+    private final SettingsProvider delegate;
+    private final Map<Long, CacheEntry> cache;
+    private final LruEviction eviction;
+    private final long expireAfter;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+    // cached entries only hold the guild id, guilds are resolved again when refreshing
+    private volatile JDA jda;
+
+    /**
+     * Constructs a new CachingSettingsProvider.
+     *
+     * @param delegate    the {@link SettingsProvider} to load the {@link GuildSettings} from
+     * @param maximumSize the maximum amount of cached {@link GuildSettings}
+     * @param expireAfter the duration after which cached {@link GuildSettings} get loaded again
+     * @param unit        the {@link TimeUnit} of the duration
+     * @throws IllegalArgumentException if the maximum size or the duration is less than one
+     */
+    public CachingSettingsProvider(@NotNull SettingsProvider delegate,
+                                   long maximumSize,
+                                   long expireAfter,
+                                   @NotNull TimeUnit unit) {
+        if (maximumSize < 1 || expireAfter < 1) {
+            throw new IllegalArgumentException("Maximum size and duration must be at least 1!");
+        }
+        this.delegate = delegate;
+        this.expireAfter = unit.toNanos(expireAfter);
+        cache = new ConcurrentHashMap<>();
+        eviction = new LruEviction(maximumSize);
+        hits = new LongAdder();
+        misses = new LongAdder();
+        evictions = new LongAdder();
+    }
+
+    @Override
+    public GuildSettings getSettings(@Nullable Guild guild) {
+        long key = guild == null ? NO_GUILD : guild.getIdLong();
+        long now = System.nanoTime();
+        CacheEntry entry = cache.get(key);
+        if (entry != null && !entry.isLoading && now - entry.loadedAt < expireAfter) {
+            entry.accessedAt = now;
+            hits.increment();
+            return entry.settings;
+        }
+        misses.increment();
+        return load(key, guild, now);
+    }
+
+    private GuildSettings load(long key, @Nullable Guild guild, long now) {
+        // an invalidation removes the placeholder, thus settings loaded before the invalidation don't get cached
+        CacheEntry loading = new CacheEntry(null, now, true);
+        cache.put(key, loading);
+        // loaded outside of any lock, so a slow provider only blocks the requesting thread
+        GuildSettings settings = delegate.getSettings(guild);
+        if (guild != null) {
+            jda = guild.getJDA();
+        }
+        if (cache.replace(key, loading, new CacheEntry(settings, now, false))) {
+            evict();
+        }
+        return settings;
+    }
+
+    private void evict() {
+        int evicted = eviction.evict(cache, entry -> entry.accessedAt);
+        if (evicted > 0) {
+            evictions.add(evicted);
+            log.debug("Evicted {} cached GuildSettings", evicted);
+        }
+    }
+
+    /**
+     * Removes the cached {@link GuildSettings} of the given guild. The next request will load them again.
+     *
+     * @param guildId the id of the guild
+     */
+    public void invalidate(long guildId) {
+        cache.remove(guildId);
+    }
+
+    /**
+     * Removes the cached {@link GuildSettings} of the given guilds.
+     *
+     * @param guildIds the ids of the guilds
+     */
+    public void invalidateAll(@NotNull Collection<Long> guildIds) {
+        guildIds.forEach(cache::remove);
+    }
+
+    /**
+     * Removes all cached {@link GuildSettings}.
+     */
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    /**
+     * Loads the {@link GuildSettings} of all cached guilds again. Requests will be served from the cache while
+     * refreshing. Guilds that can't be found anymore, e.g. because the bot left them, are removed from the cache.
+     */
+    public void refreshAll() {
+        long now = System.nanoTime();
+        cache.forEach((key, entry) -> {
+            // entries that are loading right now are up to date anyway
+            if (entry.isLoading) {
+                return;
+            }
+            Guild guild = null;
+            if (key != NO_GUILD) {
+                guild = getGuildById(key);
+                if (guild == null) {
+                    cache.remove(key, entry);
+                    return;
+                }
+            }
+            cache.replace(key, entry, new CacheEntry(delegate.getSettings(guild), now, false));
+        });
+        log.debug("Refreshed {} cached GuildSettings", cache.size());
+    }
+
+    @Nullable
+    private Guild getGuildById(long guildId) {
+        JDA jda = this.jda;
+        if (jda == null) {
+            return null;
+        }
+        ShardManager shardManager = jda.getShardManager();
+        return shardManager == null ? jda.getGuildById(guildId) : shardManager.getGuildById(guildId);
+    }
+
+    /**
+     * Gets the amount of cached {@link GuildSettings}.
+     *
+     * @return the amount of cached {@link GuildSettings}
+     */
+    public long size() {
+        return cache.size();
+    }
+
+    /**
+     * Gets the amount of requests that were served from the cache.
+     *
+     * @return the amount of cache hits
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the amount of requests that had to load the {@link GuildSettings}, either because they weren't cached or
+     * because they were expired.
+     *
+     * @return the amount of cache misses
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the ratio of requests that were served from the cache.
+     *
+     * @return the hit rate between {@code 0} and {@code 1}, or {@code 1} if there weren't any requests yet
+     */
+    public double getHitRate() {
+        long hits = getHitCount();
+        long total = hits + getMissCount();
+        return total == 0 ? 1 : (double) hits / total;
+    }
+
+    /**
+     * Gets the amount of entries that were evicted due to the size limit.
+     *
+     * @return the amount of evictions
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Gets the underlying {@link SettingsProvider}.
+     *
+     * @return the underlying {@link SettingsProvider}
+     */
+    public SettingsProvider getDelegate() {
+        return delegate;
+    }
+
+    private static class CacheEntry {
+        private final GuildSettings settings;
+        private final long loadedAt;
+        private final boolean isLoading;
+        private volatile long accessedAt;
+
+        private CacheEntry(GuildSettings settings, long loadedAt, boolean isLoading) {
+            this.settings = settings;
+            this.loadedAt = loadedAt;
+            this.isLoading = isLoading;
+            this.accessedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.github.kaktushose.jda.commands.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A Burkhard-Keller tree for finding all Strings within a given {@link LevenshteinDistance Levenshtein distance} of a
+ * query. Every child of a node is stored at the distance between its key and the key of the parent, which allows
+ * skipping whole subtrees by the triangle inequality. A query therefore only evaluates a fraction of the keys and
+ * collects all matches in one pass, instead of comparing the query against every key for every distance.
+ *
+ * <p>Adding keys is not thread-safe. Once fully built, concurrent queries are safe.
+ *
+ * @param <T> the type of the values mapped to the keys
+ * @author Kaktushose
+ * @version 3.0.0
+ * @see LevenshteinDistance
+ * @since 3.0.0
+ */
+public class BKTree<T> {
+
+    private Node<T> root;
+    private int size;
+
+    /**
+     * Adds a key to this tree. If the key is already present, this call has no effect.
+     *
+     * @param key   the key to add
+     * @param value the value mapped to the key
+     */
+    public void add(@NotNull String key, @NotNull T value) {
+        if (root == null) {
+            root = new Node<>(key, value);
+            size++;
+            return;
+        }
+        Node<T> node = root;
+        while (true) {
+            int distance = LevenshteinDistance.calculate(node.key, key);
+            if (distance == 0) {
+                return;
+            }
+            Node<T> child = node.getChild(distance);
+            if (child == null) {
+                node.setChild(distance, new Node<>(key, value));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Searches for all keys within the given distance of the query.
+     *
+     * @param query       the String to search for
+     * @param maxDistance the maximal Levenshtein distance
+     * @param consumer    called with the value and the exact distance of every matching key
+     */
+    public void search(@NotNull String query, int maxDistance, @NotNull ObjIntConsumer<T> consumer) {
+        if (root == null) {
+            return;
+        }
+        List<Node<T>> stack = new ArrayList<>();
+        stack.add(root);
+        while (!stack.isEmpty()) {
+            Node<T> node = stack.remove(stack.size() - 1);
+            // children are only reachable if the distance is at most the largest edge plus maxDistance
+            int distance = LevenshteinDistance.calculate(node.key, query, node.children.length - 1 + maxDistance);
+            if (distance <= maxDistance) {
+                consumer.accept(node.value, distance);
+            }
+            int from = Math.max(1, distance - maxDistance);
+            int to = Math.min(node.children.length - 1, distance + maxDistance);
+            for (int i = from; i <= to; i++) {
+                if (node.children[i] != null) {
+                    stack.add(node.children[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Searches for all keys within the given distance of the query.
+     *
+     * @param query       the String to search for
+     * @param maxDistance the maximal Levenshtein distance
+     * @return a possibly-empty list of the values of all matching keys
+     */
+    public List<T> search(@NotNull String query, int maxDistance) {
+        List<T> result = new ArrayList<>();
+        search(query, maxDistance, (value, distance) -> result.add(value));
+        return result;
+    }
+
+    /**
+     * Returns the number of keys in this tree.
+     *
+     * @return the number of keys in this tree
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if this tree contains no keys.
+     *
+     * @return {@code true} if this tree contains no keys
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private static class Node<T> {
+
+        private final String key;
+        private final T value;
+        // indexed by the distance to this node, index 0 stays unused
+        private Node<T>[] children;
+
+        @SuppressWarnings("unchecked")
+        private Node(String key, T value) {
+            this.key = key;
+            this.value = value;
+            children = (Node<T>[]) new Node<?>[1];
+        }
+
+        private Node<T> getChild(int distance) {
+            return distance < children.length ? children[distance] : null;
+        }
+
+        private void setChild(int distance, Node<T> child) {
+            if (distance >= children.length) {
+                children = Arrays.copyOf(children, distance + 1);
+            }
+            children[distance] = child;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.github.kaktushose.jda.commands.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Utility class for blocking on {@link CompletableFuture CompletableFutures} without hiding the original exception.
+ * {@link CompletableFuture#join()} wraps the exception of a failed future into a {@link CompletionException}, which
+ * would otherwise end up in error messages instead of the actual cause.
+ *
+ * @author Kaktushose
+ * @version 3.0.0
+ * @since 3.0.0
+ */
+public final class Futures {
+
+    private Futures() {
+    }
+
+    /**
+     * Waits for the given {@link CompletableFuture} to complete and returns its result. Unchecked exceptions the
+     * future completed with are rethrown as they are.
+     *
+     * @param future the {@link CompletableFuture} to wait for
+     * @param <T>    the result type
+     * @return the result of the future
+     */
+    public static <T> T join(@NotNull CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Removes all {@link CompletionException CompletionExceptions} wrapping the given exception.
+     *
+     * @param throwable the exception to unwrap
+     * @return the original exception
+     */
+    public static Throwable unwrap(@NotNull Throwable throwable) {
+        while (throwable instanceof CompletionException && throwable.getCause() != null) {
+            throwable = throwable.getCause();
+        }
+        return throwable;
+    }
+}
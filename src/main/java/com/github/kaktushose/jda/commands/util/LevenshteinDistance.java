@@ -0,0 +1,92 @@
+package com.github.kaktushose.jda.commands.util;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Utility class for calculating the Levenshtein distance between two Strings. The Levenshtein distance is the minimum
+ * number of single-character edits (insertions, deletions or substitutions) required to change one String into the
+ * other.
+ *
+ * @author Kaktushose
+ * @version 3.0.0
+ * @see BKTree
+ * @since 3.0.0
+ */
+public final class LevenshteinDistance {
+
+    private LevenshteinDistance() {
+    }
+
+    /**
+     * Calculates the Levenshtein distance between two Strings.
+     *
+     * @param first  the first String
+     * @param second the second String
+     * @return the Levenshtein distance
+     */
+    public static int calculate(@NotNull CharSequence first, @NotNull CharSequence second) {
+        return calculate(first, second, Math.max(first.length(), second.length()));
+    }
+
+    /**
+     * Calculates the Levenshtein distance between two Strings, giving up as soon as the distance is known to exceed
+     * the threshold. Only the diagonal band of width {@code 2 * threshold + 1} of the distance matrix gets evaluated,
+     * thus this runs in {@code O(threshold * length)} and only allocates two rows.
+     *
+     * @param first     the first String
+     * @param second    the second String
+     * @param threshold the maximal distance of interest
+     * @return the Levenshtein distance or {@code threshold + 1} if the distance exceeds the threshold
+     */
+    public static int calculate(@NotNull CharSequence first, @NotNull CharSequence second, int threshold) {
+        int n = first.length();
+        int m = second.length();
+        threshold = Math.max(0, Math.min(threshold, Math.max(n, m)));
+        if (Math.abs(n - m) > threshold) {
+            return threshold + 1;
+        }
+        if (n == 0 || m == 0) {
+            return Math.max(n, m);
+        }
+
+        int exceeded = threshold + 1;
+        int[] previous = new int[m + 1];
+        int[] current = new int[m + 1];
+        for (int j = 0; j <= m; j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= n; i++) {
+            int from = Math.max(1, i - threshold);
+            int to = Math.min(m, i + threshold);
+            char c = first.charAt(i - 1);
+
+            current[0] = i;
+            // cells left and right of the band are out of reach
+            if (from > 1) {
+                current[from - 1] = exceeded;
+            }
+            int rowMinimum = from == 1 ? i : exceeded;
+
+            for (int j = from; j <= to; j++) {
+                int cost = c == second.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(previous[j - 1] + cost, Math.min(previous[j], current[j - 1]) + 1);
+                current[j] = value;
+                rowMinimum = Math.min(rowMinimum, value);
+            }
+            if (to < m) {
+                current[to + 1] = exceeded;
+            }
+
+            // the distance can only grow from row to row
+            if (rowMinimum > threshold) {
+                return exceeded;
+            }
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[m], exceeded);
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.kaktushose.jda.commands.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongFunction;
+
+/**
+ * Evicts the least recently used entries of a concurrent cache once it exceeds its maximum size. Eviction always
+ * removes some extra entries, so that the entries don't have to be sorted again on the next load.
+ *
+ * <p>Only one thread evicts at a time. Other threads calling {@link #evict(Map, ToLongFunction)} meanwhile return
+ * immediately and continue to serve requests.
+ *
+ * @author Kaktushose
+ * @version 3.0.0
+ * @since 3.0.0
+ */
+public final class LruEviction {
+
+    private final ReentrantLock lock;
+    private final long maximumSize;
+    private final long target;
+
+    /**
+     * Constructs a new LruEviction.
+     *
+     * @param maximumSize the maximum amount of entries
+     */
+    public LruEviction(long maximumSize) {
+        this.maximumSize = maximumSize;
+        target = maximumSize - maximumSize / 10;
+        lock = new ReentrantLock();
+    }
+
+    /**
+     * Evicts the least recently used entries if the given cache exceeds the maximum size. Entries that get replaced
+     * concurrently aren't evicted.
+     *
+     * @param cache      the cache to evict the entries of
+     * @param accessedAt the function providing the {@link System#nanoTime()} an entry was accessed last
+     * @param <K>        the key type
+     * @param <V>        the value type
+     * @return the amount of evicted entries
+     */
+    public <K, V> int evict(@NotNull Map<K, V> cache, @NotNull ToLongFunction<? super V> accessedAt) {
+        if (cache.size() <= maximumSize || !lock.tryLock()) {
+            return 0;
+        }
+        try {
+            long now = System.nanoTime();
+            // access times change concurrently, thus they are read once to keep the order consistent while sorting
+            List<Candidate<K, V>> candidates = new ArrayList<>(cache.size());
+            for (Map.Entry<K, V> entry : cache.entrySet()) {
+                V value = entry.getValue();
+                candidates.add(new Candidate<>(entry.getKey(), value, accessedAt.applyAsLong(value) - now));
+            }
+            candidates.sort((first, second) -> Long.compare(first.accessedAt, second.accessedAt));
+            int evicted = 0;
+            for (Candidate<K, V> candidate : candidates) {
+                if (cache.size() <= target) {
+                    break;
+                }
+                if (cache.remove(candidate.key, candidate.value)) {
+                    evicted++;
+                }
+            }
+            return evicted;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static class Candidate<K, V> {
+        private final K key;
+        private final V value;
+        private final long accessedAt;
+
+        private Candidate(K key, V value, long accessedAt) {
+            this.key = key;
+            this.value = value;
+            this.accessedAt = accessedAt;
+        }
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Utility classes shared by different parts of the framework.
+ */
+package com.github.kaktushose.jda.commands.util;
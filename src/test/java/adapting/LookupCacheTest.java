@@ -0,0 +1,130 @@
+package adapting;
+
+import adapting.mock.MemberMock;
+import com.github.kaktushose.jda.commands.dispatching.adapter.LookupCache;
+import net.dv8tion.jda.api.entities.Member;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LookupCacheTest {
+
+    private static final Member MEMBER = new MemberMock("member", 1234);
+    private AtomicInteger requests;
+    private LookupCache cache;
+
+    @BeforeEach
+    public void setup() {
+        requests = new AtomicInteger();
+        cache = new LookupCache(10, 1, 1, TimeUnit.MINUTES);
+    }
+
+    @Test
+    public void getMember_twice_ShouldRequestOnce() {
+        assertEquals(MEMBER, cache.getMember(1, 1234, request(Optional.of(MEMBER))).join().orElse(null));
+        assertEquals(MEMBER, cache.getMember(1, 1234, request(Optional.of(MEMBER))).join().orElse(null));
+
+        assertEquals(1, requests.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void getMember_whilePending_ShouldShareRequest() {
+        CompletableFuture<Optional<Member>> pending = new CompletableFuture<>();
+        Supplier<CompletableFuture<Optional<Member>>> request = () -> {
+            requests.incrementAndGet();
+            return pending;
+        };
+
+        CompletableFuture<Optional<Member>> first = cache.getMember(1, 1234, request);
+        CompletableFuture<Optional<Member>> second = cache.getMember(1, 1234, request);
+        pending.complete(Optional.of(MEMBER));
+
+        assertEquals(1, requests.get());
+        assertEquals(MEMBER, first.join().orElse(null));
+        assertEquals(MEMBER, second.join().orElse(null));
+    }
+
+    @Test
+    public void getMember_withUnknownId_ShouldCacheMiss() {
+        assertFalse(cache.getMember(1, 1234, request(Optional.empty())).join().isPresent());
+        assertFalse(cache.getMember(1, 1234, request(Optional.of(MEMBER))).join().isPresent());
+
+        assertEquals(1, requests.get());
+        assertEquals(1, cache.getNegativeHitCount());
+    }
+
+    @Test
+    public void getMember_withFailedRequest_ShouldNotCache() {
+        CompletableFuture<Optional<Member>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException());
+
+        assertThrows(Exception.class, () -> cache.getMember(1, 1234, () -> failed).join());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void getMember_withThrowingRequest_ShouldFailAndNotCache() {
+        CompletableFuture<Optional<Member>> result = cache.getMember(1, 1234, () -> {
+            throw new IllegalStateException();
+        });
+
+        assertTrue(result.isCompletedExceptionally());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void getMember_withNestedLookup_ShouldComplete() {
+        CompletableFuture<Optional<Member>> result = cache.getMember(1, 1234, () ->
+                cache.getMember(2, 1234, request(Optional.of(MEMBER)))
+        );
+
+        assertEquals(MEMBER, result.join().orElse(null));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void getMember_afterExpiry_ShouldRequestAgain() {
+        cache = new LookupCache(10, 1, 1, TimeUnit.NANOSECONDS);
+
+        cache.getMember(1, 1234, request(Optional.of(MEMBER))).join();
+        cache.getMember(1, 1234, request(Optional.of(MEMBER))).join();
+
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    public void invalidateMember_withCachedMember_ShouldRequestAgain() {
+        cache.getMember(1, 1234, request(Optional.empty())).join();
+
+        cache.invalidateMember(1, 1234);
+
+        assertEquals(MEMBER, cache.getMember(1, 1234, request(Optional.of(MEMBER))).join().orElse(null));
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    public void getMember_exceedingMaximumSize_ShouldEvict() {
+        for (int i = 0; i < 11; i++) {
+            cache.getMember(1, i, request(Optional.of(MEMBER))).join();
+        }
+
+        assertEquals(9, cache.size());
+        assertEquals(2, cache.getEvictionCount());
+    }
+
+    private Supplier<CompletableFuture<Optional<Member>>> request(Optional<Member> result) {
+        return () -> {
+            requests.incrementAndGet();
+            return CompletableFuture.completedFuture(result);
+        };
+    }
+}
@@ -0,0 +1,114 @@
+package adapting;
+
+import adapting.mock.MemberMock;
+import adapting.mock.MessageMock;
+import adapting.mock.RoleMock;
+import adapting.mock.TextChannelMock;
+import adapting.mock.UserMock;
+import com.github.kaktushose.jda.commands.dispatching.adapter.MentionTable;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Mentions;
+import net.dv8tion.jda.api.entities.Role;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
+import net.dv8tion.jda.api.entities.channel.concrete.VoiceChannel;
+import net.dv8tion.jda.api.entities.channel.middleman.GuildChannel;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MentionTableTest {
+
+    private static final User USER = new UserMock("user", 12345);
+    private static final Member MEMBER = new MemberMock("member", 12345);
+    private static final Role ROLE = new RoleMock("role", 23456);
+    private static final TextChannel CHANNEL = new TextChannelMock("channel", 34567);
+    private static MentionTable table;
+
+    @BeforeAll
+    public static void setup() {
+        Mentions mentions = (Mentions) Proxy.newProxyInstance(
+                Mentions.class.getClassLoader(),
+                new Class[]{Mentions.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getUsers":
+                            return Collections.singletonList(USER);
+                        case "getMembers":
+                            return Collections.singletonList(MEMBER);
+                        case "getRoles":
+                            return Collections.singletonList(ROLE);
+                        case "getChannels":
+                            return Collections.singletonList(CHANNEL);
+                        default:
+                            throw new UnsupportedOperationException();
+                    }
+                }
+        );
+        table = MentionTable.of(new MessageMock() {
+            @NotNull
+            @Override
+            public Mentions getMentions() {
+                return mentions;
+            }
+
+            @NotNull
+            @Override
+            public String getContentRaw() {
+                return "!command <@12345> <@&23456> <#34567>";
+            }
+        });
+    }
+
+    @Test
+    public void indexOfId_withMentions_ShouldReturnStartOfId() {
+        assertEquals(2, MentionTable.indexOfId("<@1234>"));
+        assertEquals(3, MentionTable.indexOfId("<@!1234>"));
+        assertEquals(3, MentionTable.indexOfId("<@&1234>"));
+        assertEquals(2, MentionTable.indexOfId("<#1234>"));
+    }
+
+    @Test
+    public void indexOfId_withNoMentions_ShouldReturnMinusOne() {
+        assertEquals(-1, MentionTable.indexOfId("1234"));
+        assertEquals(-1, MentionTable.indexOfId("<@123>"));
+        assertEquals(-1, MentionTable.indexOfId("<@12a4>"));
+        assertEquals(-1, MentionTable.indexOfId("<:emoji:1234>"));
+        assertEquals(-1, MentionTable.indexOfId("<@1234"));
+    }
+
+    @Test
+    public void lookup_withMatchingKind_ShouldReturnEntity() {
+        assertEquals(USER, table.getUser("<@12345>"));
+        assertEquals(MEMBER, table.getMember("<@!12345>"));
+        assertEquals(ROLE, table.getRole("<@&23456>"));
+        assertEquals(CHANNEL, table.getChannel("<#34567>", TextChannel.class));
+        assertEquals(CHANNEL, table.getChannel("<#34567>", GuildChannel.class));
+    }
+
+    @Test
+    public void lookup_withWrongKind_ShouldReturnNull() {
+        assertNull(table.getUser("<@&12345>"));
+        assertNull(table.getRole("<@23456>"));
+        assertNull(table.getMember("<#12345>"));
+        assertNull(table.getChannel("<#34567>", VoiceChannel.class));
+    }
+
+    @Test
+    public void lookup_withUnknownOrInvalidId_ShouldReturnNull() {
+        assertNull(table.getUser("<@99999>"));
+        assertNull(table.getUser("12345"));
+        assertNull(table.getUser("<@99999999999999999999>"));
+    }
+
+    @Test
+    public void of_withoutMentions_ShouldBeEmpty() {
+        assertTrue(MentionTable.of(new MessageMock()).isEmpty());
+        assertTrue(MentionTable.of(null).isEmpty());
+    }
+}
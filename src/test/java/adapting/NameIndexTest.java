@@ -0,0 +1,232 @@
+package adapting;
+
+import adapting.mock.GuildMock;
+import adapting.mock.JDAMock;
+import adapting.mock.MemberMock;
+import adapting.mock.RoleMock;
+import adapting.mock.TextChannelMock;
+import adapting.mock.UserMock;
+import com.github.kaktushose.jda.commands.dispatching.adapter.NameIndex;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Role;
+import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
+import net.dv8tion.jda.api.entities.channel.concrete.ThreadChannel;
+import net.dv8tion.jda.api.entities.channel.concrete.VoiceChannel;
+import net.dv8tion.jda.api.entities.channel.middleman.GuildChannel;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberRemoveEvent;
+import net.dv8tion.jda.api.events.role.update.RoleUpdateNameEvent;
+import net.dv8tion.jda.api.utils.cache.MemberCacheView;
+import net.dv8tion.jda.api.utils.cache.SortedSnowflakeCacheView;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NameIndexTest {
+
+    private static final Member ALPHA = new MemberMock("Alpha", 10);
+    private static final Role MODERATORS = new RoleMock("Moderators", 20);
+    private static final TextChannel GENERAL = new TextChannelMock("general", 30);
+    private IndexedGuildMock guild;
+
+    @BeforeEach
+    public void setup() {
+        guild = new IndexedGuildMock();
+    }
+
+    @Test
+    public void find_withDifferentCase_ShouldReturnEntity() {
+        NameIndex index = new NameIndex(100);
+
+        assertEquals(ALPHA, index.findMember(guild, "alpha"));
+        assertEquals(MODERATORS, index.findRole(guild, "MODERATORS"));
+        assertEquals(GENERAL, index.findChannel(guild, "General", TextChannel.class));
+        assertEquals(GENERAL, index.findChannel(guild, "general", GuildChannel.class));
+        assertEquals(4, index.getHitCount());
+        assertEquals(3, index.size());
+        assertEquals(1, index.getGuildCount());
+    }
+
+    @Test
+    public void find_withUnknownNameOrType_ShouldReturnNull() {
+        NameIndex index = new NameIndex(100);
+
+        assertNull(index.findMember(guild, "beta"));
+        assertNull(index.findChannel(guild, "general", VoiceChannel.class));
+        assertEquals(2, index.getMissCount());
+    }
+
+    @Test
+    public void find_withTooManyEntries_ShouldSkipGuild() {
+        NameIndex index = new NameIndex(2);
+
+        assertNull(index.findMember(guild, "alpha"));
+        assertEquals(0, index.getGuildCount());
+        assertEquals(1, index.getSkippedGuildCount());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void onGuildMemberRemove_withIndexedMember_ShouldRemoveName() {
+        NameIndex index = new NameIndex(100);
+        index.findMember(guild, "alpha");
+
+        index.onGuildMemberRemove(new GuildMemberRemoveEvent(new JDAMock(), 0, guild, new UserMock("Alpha", 10), ALPHA));
+
+        assertNull(index.findMember(guild, "alpha"));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    public void onRoleUpdateName_withIndexedRole_ShouldReplaceName() {
+        NameIndex index = new NameIndex(100);
+        index.findRole(guild, "moderators");
+        Role renamed = new RoleMock("Admins", 20) {
+            @NotNull
+            @Override
+            public Guild getGuild() {
+                return guild;
+            }
+        };
+        guild.roles.set(0, renamed);
+
+        index.onRoleUpdateName(new RoleUpdateNameEvent(new JDAMock(), 0, renamed, "Moderators"));
+
+        assertNull(index.findRole(guild, "moderators"));
+        assertEquals(renamed, index.findRole(guild, "admins"));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    public void findRole_withMissedRename_ShouldCorrectStaleName() {
+        NameIndex index = new NameIndex(100);
+        index.findRole(guild, "moderators");
+        Role renamed = new RoleMock("Admins", 20);
+        guild.roles.set(0, renamed);
+
+        assertNull(index.findRole(guild, "moderators"));
+        assertEquals(renamed, index.findRole(guild, "admins"));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    public void invalidate_withIndexedGuild_ShouldClearEntries() {
+        NameIndex index = new NameIndex(100);
+        index.findMember(guild, "alpha");
+
+        index.invalidate(guild.getIdLong());
+
+        assertEquals(0, index.size());
+        assertEquals(0, index.getGuildCount());
+    }
+
+    @Test
+    public void findRole_withDuplicateNames_ShouldLeaveLookupToScan() {
+        guild.roles.add(new RoleMock("moderators", 21));
+        NameIndex index = new NameIndex(100);
+
+        assertNull(index.findRole(guild, "Moderators"));
+        assertEquals(1, index.getMissCount());
+    }
+
+    @Test
+    public void findChannel_withThreadName_ShouldOnlyMatchThreads() {
+        ThreadChannel thread = (ThreadChannel) Proxy.newProxyInstance(
+                ThreadChannel.class.getClassLoader(),
+                new Class[]{ThreadChannel.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getIdLong":
+                            return 31L;
+                        case "getName":
+                            return "support";
+                        default:
+                            throw new UnsupportedOperationException();
+                    }
+                });
+        guild.threads.add(thread);
+        NameIndex index = new NameIndex(100);
+
+        assertNull(index.findChannel(guild, "support", GuildChannel.class));
+        assertNull(index.findChannel(guild, "general", ThreadChannel.class));
+        assertSame(thread, index.findChannel(guild, "support", ThreadChannel.class));
+        assertEquals(4, index.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cacheView(Class<T> type, List<?> entities) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class[]{type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "size":
+                    return (long) entities.size();
+                case "forEach":
+                    entities.forEach((Consumer<Object>) args[0]);
+                    return null;
+                default:
+                    throw new UnsupportedOperationException();
+            }
+        });
+    }
+
+    private static class IndexedGuildMock extends GuildMock {
+
+        private final List<Role> roles = new ArrayList<>(Collections.singletonList(MODERATORS));
+        private final List<ThreadChannel> threads = new ArrayList<>();
+
+        @NotNull
+        @Override
+        public MemberCacheView getMemberCache() {
+            return cacheView(MemberCacheView.class, Collections.singletonList(ALPHA));
+        }
+
+        @NotNull
+        @Override
+        public SortedSnowflakeCacheView<Role> getRoleCache() {
+            return cacheView(SortedSnowflakeCacheView.class, roles);
+        }
+
+        @NotNull
+        @Override
+        public SortedSnowflakeCacheView<ThreadChannel> getThreadChannelCache() {
+            return cacheView(SortedSnowflakeCacheView.class, threads);
+        }
+
+        @NotNull
+        @Override
+        public List<GuildChannel> getChannels(boolean includeHidden) {
+            return Arrays.asList(GENERAL);
+        }
+
+        @Override
+        public Member getMemberById(long id) {
+            return id == ALPHA.getIdLong() ? ALPHA : null;
+        }
+
+        @Override
+        public Role getRoleById(long id) {
+            return roles.stream().filter(role -> role.getIdLong() == id).findFirst().orElse(null);
+        }
+
+        @Override
+        public GuildChannel getGuildChannelById(long id) {
+            if (id == GENERAL.getIdLong()) {
+                return GENERAL;
+            }
+            return threads.stream().filter(thread -> thread.getIdLong() == id).findFirst().orElse(null);
+        }
+
+        @Override
+        public long getIdLong() {
+            return 42;
+        }
+    }
+}
@@ -5,6 +5,9 @@ import adapting.mock.TypeAdapterRegistryTestController;
 import com.github.kaktushose.jda.commands.dependency.DependencyInjector;
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
 import com.github.kaktushose.jda.commands.dispatching.CommandEvent;
+import com.github.kaktushose.jda.commands.dispatching.adapter.AsyncTypeAdapter;
+import com.github.kaktushose.jda.commands.dispatching.adapter.BatchTypeAdapter;
+import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapter;
 import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapterRegistry;
 import com.github.kaktushose.jda.commands.dispatching.adapter.impl.IntegerAdapter;
 import com.github.kaktushose.jda.commands.dispatching.filter.FilterRegistry;
@@ -17,6 +20,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -132,6 +140,87 @@ public class TypeAdapterRegistryTest {
         assertTrue(context.isCancelled());
     }
 
+    @Test
+    public void build_withInvalidDefault_ShouldReturnEmpty() throws NoSuchMethodException {
+        Method method = controller.getMethod("invalidDefault", CommandEvent.class, int.class);
+
+        assertFalse(CommandDefinition.build(method, instance, adapter, validator).isPresent());
+    }
+
+    @Test
+    public void adapt_afterRegister_ShouldUseNewAdapter() throws NoSuchMethodException {
+        CommandContext context = buildContext(buildCommand("wrongArgument", CommandEvent.class, int.class), "string");
+        registry.register(Integer.class, (TypeAdapter<Integer>) (raw, ctx) -> Optional.of(raw.length()));
+
+        registry.adapt(context);
+
+        assertFalse(context.isCancelled());
+        assertEquals(6, context.getArguments().get(1));
+        assertTrue(context.getCommand().getBindingPlan().isValid(registry));
+    }
+
+    @Test
+    public void adaptAsync_withAsyncTypeAdapter_ShouldCompleteWithAdapter() throws NoSuchMethodException {
+        CompletableFuture<Optional<CustomType>> request = new CompletableFuture<>();
+        adapter.register(CustomType.class, new CustomTypeAdapter());
+        CommandContext context = buildContext(buildCommand("noAdapter", CommandEvent.class, CustomType.class), "string");
+        adapter.unregister(CustomType.class);
+        registry.register(CustomType.class, (AsyncTypeAdapter<CustomType>) (raw, ctx) -> request);
+
+        CompletableFuture<Void> adapting = registry.adaptAsync(context);
+        assertFalse(adapting.isDone());
+
+        CustomType type = new CustomType();
+        request.complete(Optional.of(type));
+
+        assertTrue(adapting.isDone());
+        assertFalse(context.isCancelled());
+        assertEquals(type, context.getArguments().get(1));
+    }
+
+    @Test
+    public void adaptAsync_withEmptyAsyncResult_ShouldCancel() throws NoSuchMethodException {
+        adapter.register(CustomType.class, new CustomTypeAdapter());
+        CommandContext context = buildContext(buildCommand("noAdapter", CommandEvent.class, CustomType.class), "string");
+        adapter.unregister(CustomType.class);
+        registry.register(CustomType.class, (AsyncTypeAdapter<CustomType>) (raw, ctx) -> CompletableFuture.completedFuture(Optional.empty()));
+
+        registry.adaptAsync(context).join();
+
+        assertTrue(context.isCancelled());
+    }
+
+    @Test
+    public void adaptAsync_withBatchTypeAdapter_ShouldParseAllAtOnce() throws NoSuchMethodException {
+        List<List<String>> batches = new ArrayList<>();
+        CustomType first = new CustomType();
+        CustomType second = new CustomType();
+        adapter.register(CustomType.class, new CustomTypeAdapter());
+        CommandContext context = buildContext(
+                buildCommand("twoCustomTypes", CommandEvent.class, CustomType.class, CustomType.class), "a", "b"
+        );
+        adapter.unregister(CustomType.class);
+        registry.register(CustomType.class, new BatchTypeAdapter<CustomType>() {
+            @Override
+            public CompletableFuture<List<Optional<CustomType>>> parseAll(List<String> raws, CommandContext ctx) {
+                batches.add(raws);
+                return CompletableFuture.completedFuture(Arrays.asList(Optional.of(first), Optional.of(second)));
+            }
+
+            @Override
+            public CompletableFuture<Optional<CustomType>> parseAsync(String raw, CommandContext ctx) {
+                throw new IllegalStateException();
+            }
+        });
+
+        registry.adaptAsync(context).join();
+
+        assertFalse(context.isCancelled());
+        assertEquals(Arrays.asList(Arrays.asList("a", "b")), batches);
+        assertEquals(first, context.getArguments().get(1));
+        assertEquals(second, context.getArguments().get(2));
+    }
+
     private CommandDefinition buildCommand(String name, Class<?>... parameterTypes) throws NoSuchMethodException {
         Method method = controller.getMethod(name, parameterTypes);
         CommandDefinition command = CommandDefinition.build(method, instance, adapter, validator).orElse(null);
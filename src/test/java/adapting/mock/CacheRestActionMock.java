@@ -13,9 +13,19 @@ import java.util.function.Consumer;
 public class CacheRestActionMock<T> implements CacheRestAction<T> {
 
     private final T member;
+    private final RuntimeException failure;
 
     public CacheRestActionMock(T member) {
+        this(member, null);
+    }
+
+    private CacheRestActionMock(T member, RuntimeException failure) {
         this.member = member;
+        this.failure = failure;
+    }
+
+    public static <T> CacheRestActionMock<T> failed(RuntimeException failure) {
+        return new CacheRestActionMock<>(null, failure);
     }
 
     @NotNull
@@ -37,18 +47,27 @@ public class CacheRestActionMock<T> implements CacheRestAction<T> {
 
     @Override
     public T complete(boolean b) throws RateLimitedException {
+        if (failure != null) {
+            throw failure;
+        }
         return member;
     }
 
     @NotNull
     @Override
     public CompletableFuture<T> submit(boolean b) {
-        return null;
+        CompletableFuture<T> future = new CompletableFuture<>();
+        if (failure != null) {
+            future.completeExceptionally(failure);
+        } else {
+            future.complete(member);
+        }
+        return future;
     }
 
     @NotNull
     @Override
     public CacheRestAction<T> useCache(boolean b) {
-        return new CacheRestActionMock<>(member);
+        return new CacheRestActionMock<>(member, failure);
     }
 }
@@ -56,7 +56,7 @@ public class GuildMock implements Guild {
         if (id.equals(MEMBER.getId())) {
             return new CacheRestActionMock<>(MEMBER);
         }
-        throw ErrorResponseException.create(ErrorResponse.UNKNOWN_USER, new Response(new IllegalArgumentException(), new HashSet<>()));
+        return CacheRestActionMock.failed(ErrorResponseException.create(ErrorResponse.UNKNOWN_USER, new Response(new IllegalArgumentException(), new HashSet<>())));
     }
 
     @NotNull
@@ -90,6 +90,12 @@ public class GuildMock implements Guild {
         return null;
     }
 
+    @Nullable
+    @Override
+    public Role getRoleById(long id) {
+        return getRoleById(Long.toString(id));
+    }
+
     @NotNull
     @Override
     public List<Role> getRolesByName(@NotNull String name, boolean ignoreCase) {
@@ -44,7 +44,7 @@ public class JDAMock implements JDA {
         if (id.equals(USER.getId())) {
             return new CacheRestActionMock<>(USER);
         }
-        throw ErrorResponseException.create(ErrorResponse.UNKNOWN_USER, new Response(new IllegalArgumentException(), new HashSet<>()));
+        return CacheRestActionMock.failed(ErrorResponseException.create(ErrorResponse.UNKNOWN_USER, new Response(new IllegalArgumentException(), new HashSet<>())));
     }
 
     @NotNull
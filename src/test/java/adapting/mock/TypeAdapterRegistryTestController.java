@@ -41,4 +41,14 @@ public class TypeAdapterRegistryTestController {
 
     }
 
+    @Command
+    public void invalidDefault(CommandEvent event, @Optional("string") int i) {
+
+    }
+
+    @Command
+    public void twoCustomTypes(CommandEvent event, CustomType first, CustomType second) {
+
+    }
+
 }
@@ -4,10 +4,13 @@ import com.github.kaktushose.jda.commands.dispatching.CommandEvent;
 import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapterRegistry;
 import com.github.kaktushose.jda.commands.dispatching.validation.ValidatorRegistry;
 import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
+import net.dv8tion.jda.api.Permission;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
@@ -75,19 +78,10 @@ public class CommandDefinitionTest {
     }
 
     @Test
-    public void method_withUnsupportedType_ShouldWork() throws NoSuchMethodException {
+    public void method_withUnsupportedType_ShouldReturnEmpty() throws NoSuchMethodException {
         Method method = controller.getDeclaredMethod("unsupported", CommandEvent.class, UnsupportedType.class);
 
-        CommandDefinition definition = CommandDefinition.build(method, instance, adapter, validator).orElse(null);
-
-        assertNotNull(definition);
-
-        assertEquals(definition.getMethod(), method);
-        assertEquals(definition.getInstance(), instance);
-
-        assertEquals(2, definition.getParameters().size());
-        assertEquals(CommandEvent.class, definition.getParameters().get(0).getType());
-        assertEquals(UnsupportedType.class, definition.getParameters().get(1).getType());
+        assertEquals(Optional.empty(), CommandDefinition.build(method, instance, adapter, validator));
     }
 
     @Test
@@ -205,4 +199,41 @@ public class CommandDefinitionTest {
         assertTrue(definition.getPermissions().contains("permission"));
     }
 
+    @Test
+    public void permission_withDiscordPermissions_ShouldResolveMask() throws NoSuchMethodException {
+        Method method = controller.getDeclaredMethod("discordPermissions", CommandEvent.class);
+        CommandDefinition definition = CommandDefinition.build(method, instance, adapter, validator).orElse(null);
+
+        assertNotNull(definition);
+
+        assertEquals(Permission.getRaw(Permission.BAN_MEMBERS, Permission.KICK_MEMBERS), definition.getDiscordPermissionsRaw());
+        assertEquals(EnumSet.of(Permission.BAN_MEMBERS, Permission.KICK_MEMBERS), definition.getDiscordPermissions());
+        assertEquals(Collections.singleton("permission"), definition.getCustomPermissions());
+    }
+
+    @Test
+    public void addPermissions_withDiscordPermission_ShouldUpdateMask() throws NoSuchMethodException {
+        Method method = controller.getDeclaredMethod("permission", CommandEvent.class);
+        CommandDefinition definition = CommandDefinition.build(method, instance, adapter, validator).orElse(null);
+
+        assertNotNull(definition);
+        assertEquals(0, definition.getDiscordPermissionsRaw());
+
+        definition.addPermissions(Collections.singleton("administrator"));
+
+        assertEquals(Permission.ADMINISTRATOR.getRawValue(), definition.getDiscordPermissionsRaw());
+        assertEquals(2, definition.getPermissions().size());
+    }
+
+    @Test
+    public void invoke_withArguments_ShouldCallMethod() throws Throwable {
+        Method method = controller.getDeclaredMethod("invoke", CommandEvent.class, String.class, int.class);
+        CommandDefinition definition = CommandDefinition.build(method, instance, adapter, validator).orElse(null);
+
+        assertNotNull(definition);
+
+        definition.invoke(new Object[]{null, "test", 1});
+        assertEquals("test1", instance.invoked);
+    }
+
 }
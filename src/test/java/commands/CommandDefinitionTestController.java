@@ -8,6 +8,8 @@ import java.util.concurrent.TimeUnit;
 @CommandController
 public class CommandDefinitionTestController {
 
+    public String invoked;
+
     public void noAnnotation() {
     }
 
@@ -88,4 +90,15 @@ public class CommandDefinitionTestController {
     public void permission(CommandEvent event) {
 
     }
+
+    @Command
+    @Permission({"ban_members", "KICK_MEMBERS", "permission"})
+    public void discordPermissions(CommandEvent event) {
+
+    }
+
+    @Command
+    public void invoke(CommandEvent event, String s, int i) {
+        invoked = s + i;
+    }
 }
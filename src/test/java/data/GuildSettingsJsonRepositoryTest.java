@@ -5,11 +5,16 @@ import com.github.kaktushose.jda.commands.settings.GuildSettings;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -76,4 +81,53 @@ public class GuildSettingsJsonRepositoryTest {
 
         assertFalse(settings.isPresent());
     }
+
+    @Test
+    public void saveAll_WithMultipleEntities_ShouldWork() {
+        GuildSettingsJsonRepository saveRepository = new GuildSettingsJsonRepository(tempFile);
+        Map<Long, GuildSettings> entities = new HashMap<>();
+        entities.put(1L, new GuildSettings());
+        entities.put(2L, new GuildSettings());
+
+        saveRepository.saveAll(entities);
+        GuildSettingsJsonRepository loadRepository = new GuildSettingsJsonRepository(tempFile);
+
+        assertTrue(loadRepository.existsById(1));
+        assertTrue(loadRepository.existsById(2));
+    }
+
+    @Test
+    public void save_WithWriteBehind_ShouldWriteOnFlush() {
+        GuildSettingsJsonRepository saveRepository = new GuildSettingsJsonRepository(tempFile);
+        saveRepository.setWriteBehind(1, TimeUnit.HOURS, Integer.MAX_VALUE);
+
+        saveRepository.save(3, new GuildSettings());
+        assertFalse(new GuildSettingsJsonRepository(tempFile).existsById(3));
+
+        saveRepository.close();
+        assertTrue(new GuildSettingsJsonRepository(tempFile).existsById(3));
+    }
+
+    @Test
+    public void flush_AfterFailedWrite_ShouldRetryPendingModifications(@TempDir Path directory) throws IOException {
+        Path path = directory.resolve("guilds.json");
+        Path temp = directory.resolve("guilds.json.tmp");
+        GuildSettingsJsonRepository writeBehind = new GuildSettingsJsonRepository(path.toFile());
+        writeBehind.setWriteBehind(1, TimeUnit.HOURS, 100);
+        try {
+            writeBehind.save(1, new GuildSettings());
+            // a directory in place of the temp file makes the write fail
+            Files.createDirectory(temp);
+            writeBehind.flush();
+
+            assertFalse(new GuildSettingsJsonRepository(path.toFile()).existsById(1));
+
+            Files.delete(temp);
+            writeBehind.flush();
+
+            assertTrue(new GuildSettingsJsonRepository(path.toFile()).existsById(1));
+        } finally {
+            writeBehind.close();
+        }
+    }
 }
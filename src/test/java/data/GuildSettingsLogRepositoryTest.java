@@ -0,0 +1,146 @@
+package data;
+
+import com.github.kaktushose.jda.commands.data.impl.GuildSettingsLogRepository;
+import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GuildSettingsLogRepositoryTest {
+
+    private File file;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        file = File.createTempFile("guilds", ".log");
+        Files.delete(file.toPath());
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        Files.deleteIfExists(file.toPath());
+    }
+
+    @Test
+    public void save_WithDefaultGuildSettings_ShouldReplay() {
+        GuildSettingsLogRepository saveRepository = new GuildSettingsLogRepository(file);
+        saveRepository.save(0, new GuildSettings().setPrefix("?"));
+        saveRepository.close();
+
+        GuildSettingsLogRepository loadRepository = new GuildSettingsLogRepository(file);
+
+        assertTrue(loadRepository.findById(0).isPresent());
+        assertEquals("?", loadRepository.findById(0).get().getPrefix());
+    }
+
+    @Test
+    public void delete_WithExistingId_ShouldReplay() {
+        GuildSettingsLogRepository saveRepository = new GuildSettingsLogRepository(file);
+        Map<Long, GuildSettings> entities = new HashMap<>();
+        entities.put(0L, new GuildSettings());
+        entities.put(1L, new GuildSettings());
+        entities.put(2L, new GuildSettings());
+        saveRepository.saveAll(entities);
+        saveRepository.deleteAll(Arrays.asList(0L, 1L));
+        saveRepository.close();
+
+        GuildSettingsLogRepository loadRepository = new GuildSettingsLogRepository(file);
+
+        assertEquals(1, loadRepository.count());
+        assertTrue(loadRepository.existsById(2));
+    }
+
+    @Test
+    public void compact_WithObsoleteRecords_ShouldShrinkLog() {
+        GuildSettingsLogRepository repository = new GuildSettingsLogRepository(file);
+        for (int i = 0; i < 100; i++) {
+            repository.save(0, new GuildSettings());
+        }
+        long length = file.length();
+
+        repository.compact();
+        repository.save(1, new GuildSettings());
+        repository.close();
+
+        assertTrue(file.length() < length);
+        assertEquals(2, new GuildSettingsLogRepository(file).count());
+    }
+
+    @Test
+    public void save_WithCompactionThreshold_ShouldCompact() {
+        GuildSettingsLogRepository repository = new GuildSettingsLogRepository(file);
+        repository.setCompactionThreshold(10);
+        repository.save(0, new GuildSettings());
+        long length = file.length();
+
+        for (int i = 0; i < 10; i++) {
+            repository.save(0, new GuildSettings());
+        }
+        repository.close();
+
+        assertEquals(length, file.length());
+    }
+
+    @Test
+    public void replay_WithIncompleteRecord_ShouldDiscardRecord() throws IOException {
+        GuildSettingsLogRepository saveRepository = new GuildSettingsLogRepository(file);
+        saveRepository.save(0, new GuildSettings());
+        saveRepository.close();
+        long length = file.length();
+        try (FileOutputStream output = new FileOutputStream(file, true)) {
+            output.write(new byte[]{0, 0, 0});
+        }
+
+        GuildSettingsLogRepository loadRepository = new GuildSettingsLogRepository(file);
+        loadRepository.save(1, new GuildSettings());
+        loadRepository.close();
+
+        assertEquals(2, new GuildSettingsLogRepository(file).count());
+        assertTrue(file.length() > length);
+    }
+
+    @Test
+    public void replay_WithOversizedRecordLength_ShouldDiscardRecord() throws IOException {
+        GuildSettingsLogRepository saveRepository = new GuildSettingsLogRepository(file);
+        saveRepository.save(0, new GuildSettings());
+        saveRepository.close();
+        long length = file.length();
+        try (DataOutputStream output = new DataOutputStream(new FileOutputStream(file, true))) {
+            output.writeLong(1);
+            output.writeByte(1);
+            output.writeInt(Integer.MAX_VALUE);
+        }
+
+        assertEquals(1, new GuildSettingsLogRepository(file).count());
+        assertEquals(length, file.length());
+    }
+
+    @Test
+    public void replay_WithDamagedRecord_ShouldFailAndKeepFile() throws IOException {
+        GuildSettingsLogRepository saveRepository = new GuildSettingsLogRepository(file);
+        saveRepository.save(0, new GuildSettings());
+        saveRepository.save(1, new GuildSettings());
+        saveRepository.close();
+        long length = file.length();
+        try (RandomAccessFile log = new RandomAccessFile(file, "rw")) {
+            // the operation of the first record follows its id
+            log.seek(Long.BYTES);
+            log.writeByte(9);
+        }
+
+        assertThrows(IllegalStateException.class, () -> new GuildSettingsLogRepository(file));
+        assertEquals(length, file.length());
+    }
+}
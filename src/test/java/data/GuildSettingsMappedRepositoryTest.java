@@ -0,0 +1,137 @@
+package data;
+
+import com.github.kaktushose.jda.commands.data.impl.GuildSettingsMappedRepository;
+import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GuildSettingsMappedRepositoryTest {
+
+    private File file;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        file = File.createTempFile("guilds", "");
+        Files.delete(file.toPath());
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        Files.deleteIfExists(new File(file.getPath() + ".idx").toPath());
+        Files.deleteIfExists(new File(file.getPath() + ".dat").toPath());
+    }
+
+    @Test
+    public void save_WithCustomGuildSettings_ShouldReload() {
+        GuildSettingsMappedRepository saveRepository = new GuildSettingsMappedRepository(file);
+        GuildSettings settings = new GuildSettings()
+                .setGuildId(1)
+                .setPrefix("?")
+                .setIgnoreCase(false)
+                .setHelpLabels(Arrays.asList("help", "hilfe"))
+                .setMutedChannels(Arrays.asList(2L, 3L))
+                .setMaxDistance(1);
+        saveRepository.save(1, settings);
+        saveRepository.close();
+
+        GuildSettingsMappedRepository loadRepository = new GuildSettingsMappedRepository(file);
+        Optional<GuildSettings> loaded = loadRepository.findById(1);
+        loadRepository.close();
+
+        assertTrue(loaded.isPresent());
+        assertEquals("?", loaded.get().getPrefix());
+        assertFalse(loaded.get().isIgnoreCase());
+        assertTrue(loaded.get().isIgnoreBots());
+        assertEquals(new HashSet<>(Arrays.asList("help", "hilfe")), loaded.get().getHelpLabels());
+        assertEquals(new HashSet<>(Arrays.asList(2L, 3L)), loaded.get().getMutedChannels());
+        assertEquals(1, loaded.get().getMaxDistance());
+    }
+
+    @Test
+    public void save_WithGrowingSettings_ShouldRelocate() {
+        GuildSettingsMappedRepository repository = new GuildSettingsMappedRepository(file);
+        repository.save(0, new GuildSettings());
+        GuildSettings settings = new GuildSettings();
+        for (long i = 0; i < 100; i++) {
+            settings.getMutedChannels().add(i);
+        }
+
+        repository.save(0, settings);
+
+        assertEquals(1, repository.count());
+        assertEquals(100, repository.findById(0).get().getMutedChannels().size());
+        repository.close();
+    }
+
+    @Test
+    public void save_WithManyGuilds_ShouldGrowIndex() {
+        GuildSettingsMappedRepository repository = new GuildSettingsMappedRepository(file);
+        for (long i = 0; i < 5000; i++) {
+            repository.save(i, new GuildSettings().setGuildId(i));
+        }
+        repository.deleteAll(Arrays.asList(0L, 1L));
+        repository.close();
+
+        GuildSettingsMappedRepository loadRepository = new GuildSettingsMappedRepository(file);
+
+        assertEquals(4998, loadRepository.count());
+        assertEquals(4998, loadRepository.findAll().size());
+        assertFalse(loadRepository.existsById(0));
+        assertEquals(4999, loadRepository.findById(4999).get().getGuildId());
+        loadRepository.close();
+    }
+
+    @Test
+    public void open_WithMissingIndex_ShouldRebuild() throws IOException {
+        GuildSettingsMappedRepository saveRepository = new GuildSettingsMappedRepository(file);
+        for (long i = 0; i < 2000; i++) {
+            saveRepository.save(i, new GuildSettings());
+        }
+        saveRepository.delete(1);
+        saveRepository.close();
+        Files.delete(new File(file.getPath() + ".idx").toPath());
+
+        GuildSettingsMappedRepository loadRepository = new GuildSettingsMappedRepository(file);
+
+        assertEquals(1999, loadRepository.count());
+        assertFalse(loadRepository.existsById(1));
+        assertTrue(loadRepository.existsById(2));
+        loadRepository.close();
+    }
+
+    @Test
+    public void open_WithDamagedRecord_ShouldDiscardFollowingRecords() throws IOException {
+        GuildSettingsMappedRepository saveRepository = new GuildSettingsMappedRepository(file);
+        saveRepository.save(0, new GuildSettings());
+        saveRepository.save(1, new GuildSettings());
+        saveRepository.close();
+        Files.delete(new File(file.getPath() + ".idx").toPath());
+        try (RandomAccessFile data = new RandomAccessFile(file.getPath() + ".dat", "rw")) {
+            // header of 16 bytes, followed by guild id, capacity and length of the first record
+            data.seek(24);
+            long second = 16 + 16 + data.readInt();
+            data.seek(second + 8);
+            data.writeInt(Integer.MAX_VALUE);
+        }
+
+        GuildSettingsMappedRepository loadRepository = new GuildSettingsMappedRepository(file);
+        loadRepository.save(2, new GuildSettings());
+
+        assertEquals(2, loadRepository.count());
+        assertTrue(loadRepository.existsById(0));
+        assertFalse(loadRepository.existsById(1));
+        assertTrue(loadRepository.findById(2).isPresent());
+        loadRepository.close();
+    }
+}
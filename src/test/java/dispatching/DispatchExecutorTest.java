@@ -0,0 +1,153 @@
+package dispatching;
+
+import com.github.kaktushose.jda.commands.dispatching.DispatchExecutor;
+import com.github.kaktushose.jda.commands.dispatching.DispatchExecutor.RejectionPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DispatchExecutorTest {
+
+    private DispatchExecutor executor;
+
+    @AfterEach
+    public void cleanup() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void execute_withSameKey_ShouldPreserveOrder() throws InterruptedException {
+        executor = DispatchExecutor.fixed(4);
+        List<Integer> result = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(100);
+
+        for (int i = 0; i < 100; i++) {
+            int value = i;
+            executor.execute(0, () -> {
+                result.add(value);
+                latch.countDown();
+            });
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, result.get(i));
+        }
+    }
+
+    @Test
+    public void execute_withSameKey_ShouldNotRunConcurrently() throws InterruptedException {
+        executor = DispatchExecutor.fixed(4);
+        AtomicInteger running = new AtomicInteger();
+        AtomicBoolean overlapped = new AtomicBoolean();
+        CountDownLatch latch = new CountDownLatch(50);
+
+        for (int i = 0; i < 50; i++) {
+            executor.execute(0, () -> {
+                if (running.incrementAndGet() > 1) {
+                    overlapped.set(true);
+                }
+                running.decrementAndGet();
+                latch.countDown();
+            });
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertFalse(overlapped.get());
+    }
+
+    @Test
+    public void execute_withExceededCapacityAndDiscard_ShouldIgnore() throws InterruptedException {
+        executor = DispatchExecutor.fixed(1).setCapacity(1).setRejectionPolicy(RejectionPolicy.DISCARD);
+        CountDownLatch blocker = new CountDownLatch(1);
+        AtomicBoolean executed = new AtomicBoolean();
+
+        executor.execute(0, () -> {
+            try {
+                blocker.await();
+            } catch (InterruptedException ignored) {
+            }
+        });
+        executor.execute(1, () -> executed.set(true));
+        blocker.countDown();
+
+        assertFalse(executed.get());
+        assertEquals(RejectionPolicy.DISCARD, executor.getRejectionPolicy());
+    }
+
+    @Test
+    public void execute_withExceededCapacityAndCallerRuns_ShouldRunOnCaller() {
+        executor = DispatchExecutor.fixed(1).setCapacity(1).setRejectionPolicy(RejectionPolicy.CALLER_RUNS);
+        CountDownLatch blocker = new CountDownLatch(1);
+        AtomicBoolean executedOnCaller = new AtomicBoolean();
+        Thread caller = Thread.currentThread();
+
+        executor.execute(0, () -> {
+            try {
+                blocker.await();
+            } catch (InterruptedException ignored) {
+            }
+        });
+        executor.execute(1, () -> executedOnCaller.set(Thread.currentThread() == caller));
+        blocker.countDown();
+
+        assertTrue(executedOnCaller.get());
+    }
+
+    @Test
+    public void executeAsync_withPendingStage_ShouldHoldKeyUntilCompletion() throws InterruptedException {
+        executor = DispatchExecutor.fixed(4);
+        CompletableFuture<Void> stage = new CompletableFuture<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicBoolean executed = new AtomicBoolean();
+
+        executor.executeAsync(0, () -> {
+            started.countDown();
+            return stage;
+        });
+        executor.execute(0, () -> {
+            executed.set(true);
+            latch.countDown();
+        });
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertFalse(latch.await(100, TimeUnit.MILLISECONDS));
+        assertFalse(executed.get());
+        assertEquals(2, executor.getPending());
+
+        stage.complete(null);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void executeAsync_withFailedStage_ShouldReleaseKey() throws InterruptedException {
+        executor = DispatchExecutor.fixed(1);
+        CompletableFuture<Void> stage = new CompletableFuture<>();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        executor.executeAsync(0, () -> stage);
+        executor.execute(0, latch::countDown);
+        stage.completeExceptionally(new IllegalStateException());
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void setCapacity_withZero_ShouldThrow() {
+        executor = DispatchExecutor.fixed(1);
+
+        assertThrows(IllegalArgumentException.class, () -> executor.setCapacity(0));
+    }
+}
@@ -0,0 +1,138 @@
+package filtering;
+
+import adapting.mock.MessageReceivedEventMock;
+import adapting.mock.UserMock;
+import com.github.kaktushose.jda.commands.dependency.DependencyInjector;
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.CommandEvent;
+import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapterRegistry;
+import com.github.kaktushose.jda.commands.dispatching.filter.FilterRegistry;
+import com.github.kaktushose.jda.commands.dispatching.filter.impl.CooldownFilter;
+import com.github.kaktushose.jda.commands.dispatching.validation.ValidatorRegistry;
+import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
+import com.github.kaktushose.jda.commands.reflect.ImplementationRegistry;
+import net.dv8tion.jda.api.entities.User;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CooldownFilterTest {
+
+    private static final CooldownFilterTestController instance = new CooldownFilterTestController();
+    private static CommandDefinition first;
+    private static CommandDefinition second;
+    private ImplementationRegistry registry;
+    private long now;
+    private CooldownFilter filter;
+
+    @BeforeAll
+    public static void setupCommands() throws NoSuchMethodException {
+        first = build("first");
+        second = build("second");
+    }
+
+    @BeforeEach
+    public void setup() {
+        registry = new ImplementationRegistry(
+                new DependencyInjector(),
+                new FilterRegistry(),
+                new TypeAdapterRegistry(),
+                new ValidatorRegistry()
+        );
+        now = 0;
+        filter = new CooldownFilter() {
+            @Override
+            protected long nanoTime() {
+                return now;
+            }
+        };
+    }
+
+    @Test
+    public void apply_withinCooldown_ShouldCancel() {
+        CommandContext context = apply(1, first);
+        advance(9);
+        CommandContext blocked = apply(1, first);
+
+        assertFalse(context.isCancelled());
+        assertTrue(blocked.isCancelled());
+        assertNotNull(blocked.getErrorMessage());
+    }
+
+    @Test
+    public void apply_afterCooldown_ShouldPass() {
+        apply(1, first);
+        advance(10);
+
+        assertFalse(apply(1, first).isCancelled());
+    }
+
+    @Test
+    public void apply_withOtherUserOrCommand_ShouldPass() {
+        apply(1, first);
+
+        assertFalse(apply(2, first).isCancelled());
+        assertFalse(apply(1, second).isCancelled());
+        assertTrue(apply(1, first).isCancelled());
+        assertEquals(3, filter.size());
+    }
+
+    @Test
+    public void apply_afterSweepInterval_ShouldRemoveExpiredCooldowns() {
+        apply(1, first);
+        apply(2, first);
+        advance(55);
+        apply(3, second);
+        advance(6);
+
+        // the sweep runs before the new cooldown gets added
+        apply(4, second);
+
+        assertEquals(2, filter.size());
+        assertTrue(apply(4, second).isCancelled());
+        assertFalse(apply(1, first).isCancelled());
+    }
+
+    private void advance(long seconds) {
+        now += TimeUnit.SECONDS.toNanos(seconds);
+    }
+
+    private CommandContext apply(long userId, CommandDefinition command) {
+        CommandContext context = new CommandContext();
+        context.setEvent(new AuthorEventMock(new UserMock("user", userId)));
+        context.setImplementationRegistry(registry);
+        context.setCommand(command);
+        filter.apply(context);
+        return context;
+    }
+
+    private static CommandDefinition build(String name) throws NoSuchMethodException {
+        return CommandDefinition.build(
+                instance.getClass().getDeclaredMethod(name, CommandEvent.class),
+                instance,
+                new TypeAdapterRegistry(),
+                new ValidatorRegistry()
+        ).orElseThrow(IllegalStateException::new);
+    }
+
+    private static class AuthorEventMock extends MessageReceivedEventMock {
+
+        private final User author;
+
+        private AuthorEventMock(User author) {
+            super(true);
+            this.author = author;
+        }
+
+        @NotNull
+        @Override
+        public User getAuthor() {
+            return author;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package filtering;
+
+import com.github.kaktushose.jda.commands.annotations.Command;
+import com.github.kaktushose.jda.commands.annotations.CommandController;
+import com.github.kaktushose.jda.commands.annotations.Cooldown;
+import com.github.kaktushose.jda.commands.dispatching.CommandEvent;
+
+import java.util.concurrent.TimeUnit;
+
+@CommandController
+public class CooldownFilterTestController {
+
+    @Command
+    @Cooldown(value = 10, timeUnit = TimeUnit.SECONDS)
+    public void first(CommandEvent event) {
+    }
+
+    @Command
+    @Cooldown(value = 10, timeUnit = TimeUnit.SECONDS)
+    public void second(CommandEvent event) {
+    }
+
+}
@@ -0,0 +1,89 @@
+package filtering;
+
+import com.github.kaktushose.jda.commands.dispatching.CommandEvent;
+import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapterRegistry;
+import com.github.kaktushose.jda.commands.dispatching.filter.Filter;
+import com.github.kaktushose.jda.commands.dispatching.filter.FilterChain;
+import com.github.kaktushose.jda.commands.dispatching.filter.FilterRegistry;
+import com.github.kaktushose.jda.commands.dispatching.filter.FilterRegistry.FilterPosition;
+import com.github.kaktushose.jda.commands.dispatching.filter.impl.ConstraintFilter;
+import com.github.kaktushose.jda.commands.dispatching.filter.impl.CooldownFilter;
+import com.github.kaktushose.jda.commands.dispatching.filter.impl.UserMuteFilter;
+import com.github.kaktushose.jda.commands.dispatching.validation.ValidatorRegistry;
+import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FilterRegistryTest {
+
+    private static final FilterRegistryTestController instance = new FilterRegistryTestController();
+    private FilterRegistry registry;
+
+    @BeforeEach
+    public void setup() {
+        registry = new FilterRegistry();
+    }
+
+    @Test
+    public void unregister_withRegisteredFilter_ShouldOnlyRemoveThisFilter() {
+        registry.unregister(CooldownFilter.class);
+
+        assertEquals(4, registry.getAll().size());
+        assertTrue(registry.getAll(FilterPosition.BEFORE_ADAPTING).stream().noneMatch(CooldownFilter.class::isInstance));
+        assertEquals(1, registry.getAll(FilterPosition.BEFORE_ROUTING).size());
+    }
+
+    @Test
+    public void getChain_withPlainCommand_ShouldSkipInapplicableFilters() throws NoSuchMethodException {
+        FilterChain chain = registry.getChain(build("plain"));
+
+        assertTrue(chain.getAll(FilterPosition.BEFORE_ADAPTING).stream().noneMatch(CooldownFilter.class::isInstance));
+        assertTrue(chain.getAll(FilterPosition.BEFORE_EXECUTION).isEmpty());
+        assertEquals(registry.getAll(FilterPosition.BEFORE_ROUTING), chain.getAll(FilterPosition.BEFORE_ROUTING));
+    }
+
+    @Test
+    public void getChain_withCooldownAndConstraint_ShouldContainFilters() throws NoSuchMethodException {
+        FilterChain cooldown = registry.getChain(build("cooldown"));
+        FilterChain constraint = registry.getChain(build("constraint", int.class));
+
+        assertTrue(cooldown.getAll(FilterPosition.BEFORE_ADAPTING).stream().anyMatch(CooldownFilter.class::isInstance));
+        assertTrue(constraint.getAll(FilterPosition.BEFORE_EXECUTION).get(0) instanceof ConstraintFilter);
+    }
+
+    @Test
+    public void getChain_afterRegister_ShouldRebuildChain() throws NoSuchMethodException {
+        CommandDefinition command = build("plain");
+        FilterChain chain = registry.getChain(command);
+        assertSame(chain, registry.getChain(command));
+
+        Filter filter = context -> {
+        };
+        registry.register(filter, FilterPosition.BEFORE_EXECUTION);
+        List<Filter> filters = registry.getChain(command).getAll(FilterPosition.BEFORE_EXECUTION);
+
+        assertFalse(chain.isValid(registry));
+        assertEquals(1, filters.size());
+        assertSame(filter, filters.get(0));
+    }
+
+    @Test
+    public void getAll_withPosition_ShouldBeUnmodifiable() {
+        List<Filter> filters = registry.getAll(FilterPosition.BEFORE_ROUTING);
+
+        assertThrows(UnsupportedOperationException.class, () -> filters.add(new UserMuteFilter()));
+    }
+
+    private CommandDefinition build(String name, Class<?>... parameters) throws NoSuchMethodException {
+        Class<?>[] types = new Class<?>[parameters.length + 1];
+        types[0] = CommandEvent.class;
+        System.arraycopy(parameters, 0, types, 1, parameters.length);
+        return CommandDefinition.build(
+                instance.getClass().getDeclaredMethod(name, types), instance, new TypeAdapterRegistry(), new ValidatorRegistry()
+        ).orElseThrow(IllegalStateException::new);
+    }
+}
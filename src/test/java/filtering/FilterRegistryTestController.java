@@ -0,0 +1,27 @@
+package filtering;
+
+import com.github.kaktushose.jda.commands.annotations.Command;
+import com.github.kaktushose.jda.commands.annotations.CommandController;
+import com.github.kaktushose.jda.commands.annotations.Cooldown;
+import com.github.kaktushose.jda.commands.annotations.constraints.Min;
+import com.github.kaktushose.jda.commands.dispatching.CommandEvent;
+
+import java.util.concurrent.TimeUnit;
+
+@CommandController
+public class FilterRegistryTestController {
+
+    @Command
+    public void plain(CommandEvent event) {
+    }
+
+    @Command
+    @Cooldown(value = 10, timeUnit = TimeUnit.SECONDS)
+    public void cooldown(CommandEvent event) {
+    }
+
+    @Command
+    public void constraint(CommandEvent event, @Min(10) int i) {
+    }
+
+}
@@ -0,0 +1,108 @@
+package help;
+
+import adapting.mock.JDAMock;
+import com.github.kaktushose.jda.commands.JDACommands;
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.embeds.EmbedCache;
+import com.github.kaktushose.jda.commands.embeds.help.DefaultHelpMessageFactory;
+import com.github.kaktushose.jda.commands.embeds.help.JsonHelpMessageFactory;
+import com.github.kaktushose.jda.commands.reflect.ControllerDefinition;
+import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import net.dv8tion.jda.api.utils.messages.MessageCreateData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HelpMessageFactoryTest {
+
+    private JDACommands jdaCommands;
+    private Set<ControllerDefinition> controllers;
+
+    @BeforeEach
+    public void setup() {
+        jdaCommands = JDACommands.start(new JDAMock(), HelpMessageFactoryTest.class, "help");
+        controllers = jdaCommands.getCommandRegistry().getControllers();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdaCommands.shutdown();
+    }
+
+    @Test
+    public void getSpecificHelp_twice_ShouldReturnCachedMessage() {
+        DefaultHelpMessageFactory factory = new DefaultHelpMessageFactory();
+
+        MessageCreateData first = factory.getSpecificHelp(buildContext("!"));
+
+        assertSame(first, factory.getSpecificHelp(buildContext("!")));
+        assertNotSame(first, factory.getSpecificHelp(buildContext("?")));
+    }
+
+    @Test
+    public void getSpecificHelp_ExceedingMaximumSize_ShouldEvictLeastRecentlyUsed() throws InterruptedException {
+        DefaultHelpMessageFactory factory = new DefaultHelpMessageFactory(2);
+        MessageCreateData first = factory.getSpecificHelp(buildContext("!"));
+        Thread.sleep(1);
+        factory.getSpecificHelp(buildContext("?"));
+        Thread.sleep(1);
+        MessageCreateData third = factory.getSpecificHelp(buildContext("."));
+
+        assertNotSame(first, factory.getSpecificHelp(buildContext("!")));
+        assertSame(third, factory.getSpecificHelp(buildContext(".")));
+    }
+
+    @Test
+    public void getGenericHelp_twice_ShouldReturnCachedMessage() {
+        DefaultHelpMessageFactory factory = new DefaultHelpMessageFactory();
+
+        MessageCreateData first = factory.getGenericHelp(controllers, buildContext("!"));
+
+        assertSame(first, factory.getGenericHelp(controllers, buildContext("!")));
+    }
+
+    @Test
+    public void getGenericHelp_afterIndexing_ShouldBuildAgain() {
+        DefaultHelpMessageFactory factory = new DefaultHelpMessageFactory();
+        MessageCreateData first = factory.getGenericHelp(controllers, buildContext("!"));
+
+        jdaCommands.getCommandRegistry().index(HelpMessageFactoryTest.class, "help");
+
+        assertNotSame(first, factory.getGenericHelp(controllers, buildContext("!")));
+    }
+
+    @Test
+    public void getGenericHelp_afterReloadingEmbeds_ShouldBuildAgain(@TempDir Path directory) throws IOException {
+        File file = directory.resolve("embeds.json").toFile();
+        String json = "{\"genericHelp\": {\"title\": \"General Help\", \"description\": \"{prefix}{helpLabel}\"}}";
+        Files.write(file.toPath(), json.getBytes(StandardCharsets.UTF_8));
+        EmbedCache embedCache = new EmbedCache(file);
+        embedCache.loadEmbedsToCache();
+        JsonHelpMessageFactory factory = new JsonHelpMessageFactory(embedCache);
+
+        MessageCreateData first = factory.getGenericHelp(controllers, buildContext("!"));
+        assertSame(first, factory.getGenericHelp(controllers, buildContext("!")));
+
+        embedCache.loadEmbedsToCache();
+
+        assertNotSame(first, factory.getGenericHelp(controllers, buildContext("!")));
+    }
+
+    private CommandContext buildContext(String prefix) {
+        CommandContext context = new CommandContext();
+        context.setJdaCommands(jdaCommands);
+        context.setSettings(new GuildSettings().setPrefix(prefix));
+        context.setCommand(jdaCommands.getCommands().iterator().next());
+        return context;
+    }
+}
@@ -0,0 +1,14 @@
+package help;
+
+import com.github.kaktushose.jda.commands.annotations.Command;
+import com.github.kaktushose.jda.commands.annotations.CommandController;
+import com.github.kaktushose.jda.commands.dispatching.CommandEvent;
+
+@CommandController
+public class HelpMessageFactoryTestController {
+
+    @Command("foo")
+    public void foo(CommandEvent event) {
+    }
+
+}
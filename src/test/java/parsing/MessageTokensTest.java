@@ -0,0 +1,69 @@
+package parsing;
+
+import com.github.kaktushose.jda.commands.dispatching.parser.MessageTokens;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MessageTokensTest {
+
+    @Test
+    public void tokenize_WithMultipleSpaces_ShouldIgnoreEmptyTokens() {
+        MessageTokens tokens = MessageTokens.tokenize("!  foo   bar ", 1, false);
+
+        assertArrayEquals(new String[]{"foo", "bar"}, tokens.toArray());
+        assertEquals(3, tokens.getStart(0));
+        assertEquals(9, tokens.getStart(1));
+    }
+
+    @Test
+    public void tokenize_WithoutTokens_ShouldBeEmpty() {
+        assertEquals(0, MessageTokens.tokenize("!   ", 1, true).size());
+    }
+
+    @Test
+    public void tokenize_WithQuotes_ShouldConcatenate() {
+        MessageTokens tokens = MessageTokens.tokenize("!Hello \"Foo Bar\" World", 1, true);
+
+        assertArrayEquals(new String[]{"Hello", "Foo Bar", "World"}, tokens.toArray());
+    }
+
+    @Test
+    public void tokenize_WithTrailingQuote_ShouldKeepToken() {
+        MessageTokens tokens = MessageTokens.tokenize("!say 'foo bar'", 1, true);
+
+        assertArrayEquals(new String[]{"say", "foo bar"}, tokens.toArray());
+    }
+
+    @Test
+    public void tokenize_WithUnclosedQuote_ShouldConsumeRest() {
+        MessageTokens tokens = MessageTokens.tokenize("!say \"foo bar", 1, true);
+
+        assertArrayEquals(new String[]{"say", "foo bar"}, tokens.toArray());
+    }
+
+    @Test
+    public void tokenize_WithQuotesDisabled_ShouldKeepQuotes() {
+        MessageTokens tokens = MessageTokens.tokenize("!say \"foo bar\"", 1, false);
+
+        assertArrayEquals(new String[]{"say", "\"foo", "bar\""}, tokens.toArray());
+    }
+
+    @Test
+    public void slice_WithIndex_ShouldKeepOriginalText() {
+        MessageTokens tokens = MessageTokens.tokenize("!say  hello   \"big\" world  ", 1, true);
+
+        assertEquals("hello   \"big\" world", tokens.slice(1));
+    }
+
+    @Test
+    public void isSuffix_WithCopiedRange_ShouldBeTrue() {
+        MessageTokens tokens = MessageTokens.tokenize("!foo bar baz", 1, true);
+        String[] input = tokens.toArray();
+
+        assertTrue(tokens.isSuffix(Arrays.copyOfRange(input, 1, input.length)));
+        assertFalse(tokens.isSuffix(new String[]{"bar", "baz"}));
+    }
+}
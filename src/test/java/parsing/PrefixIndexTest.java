@@ -0,0 +1,67 @@
+package parsing;
+
+import com.github.kaktushose.jda.commands.dispatching.parser.PrefixIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrefixIndexTest {
+
+    private PrefixIndex index;
+
+    @BeforeEach
+    public void setup() {
+        index = new PrefixIndex();
+    }
+
+    @Test
+    public void matches_WithoutPrefixes_ShouldBeFalse() {
+        assertTrue(index.isEmpty());
+        assertFalse(index.matches("!ping"));
+    }
+
+    @Test
+    public void matches_WithMatchingPrefix_ShouldBeTrue() {
+        index.addAll(Arrays.asList("!", "?", "!!", "bot "));
+
+        assertTrue(index.matches("!ping"));
+        assertTrue(index.matches("?ping"));
+        assertTrue(index.matches("bot ping"));
+    }
+
+    @Test
+    public void matches_WithSameFirstChar_ShouldCompareWholePrefix() {
+        index.add("bot ");
+
+        assertFalse(index.matches("bottle"));
+        assertFalse(index.matches("b"));
+        assertFalse(index.matches(""));
+    }
+
+    @Test
+    public void matches_WithRemovedPrefix_ShouldBeFalse() {
+        index.add("!");
+        index.remove("!");
+
+        assertFalse(index.matches("!ping"));
+    }
+
+    @Test
+    public void matches_WithEmptyPrefix_ShouldMatchEverything() {
+        index.add("");
+
+        assertTrue(index.matches("hello"));
+        assertTrue(index.matches(""));
+    }
+
+    @Test
+    public void matches_WithNonAsciiPrefix_ShouldWork() {
+        index.add("→");
+
+        assertTrue(index.matches("→ping"));
+        assertFalse(index.matches("←ping"));
+    }
+}
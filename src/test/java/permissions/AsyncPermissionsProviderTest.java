@@ -0,0 +1,132 @@
+package permissions;
+
+import adapting.mock.MessageReceivedEventMock;
+import adapting.mock.UserMock;
+import com.github.kaktushose.jda.commands.dependency.DependencyInjector;
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapterRegistry;
+import com.github.kaktushose.jda.commands.dispatching.filter.FilterRegistry;
+import com.github.kaktushose.jda.commands.dispatching.filter.impl.UserMuteFilter;
+import com.github.kaktushose.jda.commands.dispatching.validation.ValidatorRegistry;
+import com.github.kaktushose.jda.commands.permissions.AsyncPermissionsProvider;
+import com.github.kaktushose.jda.commands.permissions.DefaultPermissionsProvider;
+import com.github.kaktushose.jda.commands.permissions.PermissionsProvider;
+import com.github.kaktushose.jda.commands.reflect.ImplementationRegistry;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.User;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncPermissionsProviderTest {
+
+    private static final User USER = new UserMock("user", 1234);
+    private ImplementationRegistry registry;
+    private CommandContext context;
+
+    @BeforeEach
+    public void setup() {
+        registry = new ImplementationRegistry(
+                new DependencyInjector(),
+                new FilterRegistry(),
+                new TypeAdapterRegistry(),
+                new ValidatorRegistry()
+        );
+        context = new CommandContext();
+        context.setEvent(new MessageReceivedEventMock(false));
+        context.setImplementationRegistry(registry);
+    }
+
+    @Test
+    public void of_withSyncProvider_ShouldComplete() {
+        AsyncPermissionsProvider provider = AsyncPermissionsProvider.of(new DefaultPermissionsProvider());
+
+        CompletableFuture<Boolean> isMuted = provider.isMuted(USER, context);
+
+        assertTrue(isMuted.isDone());
+        assertFalse(isMuted.join());
+    }
+
+    @Test
+    public void setPermissionsProvider_withSyncProvider_ShouldWrapProvider() {
+        PermissionsProvider provider = new DefaultPermissionsProvider();
+
+        registry.setPermissionsProvider(provider);
+
+        assertEquals(provider, registry.getPermissionsProvider());
+        assertTrue(registry.getAsyncPermissionsProvider().isMuted(USER, context).isDone());
+    }
+
+    @Test
+    public void setAsyncPermissionsProvider_withAsyncProvider_ShouldProvideBlockingView() {
+        CompletableFuture<Boolean> pending = new CompletableFuture<>();
+        registry.setAsyncPermissionsProvider(new PendingPermissionsProvider(pending));
+        pending.complete(true);
+
+        assertTrue(registry.getPermissionsProvider().isMuted(USER, context));
+    }
+
+    @Test
+    public void blocking_withFailedCheck_ShouldThrowOriginalException() {
+        CompletableFuture<Boolean> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException("timeout"));
+        registry.setAsyncPermissionsProvider(new PendingPermissionsProvider(failed));
+
+        assertThrows(IllegalStateException.class, () -> registry.getPermissionsProvider().isMuted(USER, context));
+        assertThrows(IllegalStateException.class, () -> new UserMuteFilter().apply(context));
+    }
+
+    @Test
+    public void applyAsync_withPendingMuteCheck_ShouldCancelOnCompletion() {
+        CompletableFuture<Boolean> pending = new CompletableFuture<>();
+        registry.setAsyncPermissionsProvider(new PendingPermissionsProvider(pending));
+
+        CompletableFuture<Void> filtering = new UserMuteFilter().applyAsync(context);
+
+        assertFalse(filtering.isDone());
+        assertFalse(context.isCancelled());
+
+        pending.complete(true);
+
+        assertTrue(filtering.isDone());
+        assertTrue(context.isCancelled());
+        assertNotNull(context.getErrorMessage());
+    }
+
+    @Test
+    public void applyAsync_withUnmutedUser_ShouldNotCancel() {
+        registry.setAsyncPermissionsProvider(new PendingPermissionsProvider(CompletableFuture.completedFuture(false)));
+
+        new UserMuteFilter().applyAsync(context).join();
+
+        assertFalse(context.isCancelled());
+    }
+
+    private static class PendingPermissionsProvider implements AsyncPermissionsProvider {
+
+        private final CompletableFuture<Boolean> result;
+
+        private PendingPermissionsProvider(CompletableFuture<Boolean> result) {
+            this.result = result;
+        }
+
+        @Override
+        public CompletableFuture<Boolean> isMuted(@NotNull User user, @NotNull CommandContext context) {
+            return result;
+        }
+
+        @Override
+        public CompletableFuture<Boolean> hasPermission(@NotNull User user, @NotNull CommandContext context) {
+            return result;
+        }
+
+        @Override
+        public CompletableFuture<Boolean> hasPermission(@NotNull Member member, @NotNull CommandContext context) {
+            return result;
+        }
+    }
+}
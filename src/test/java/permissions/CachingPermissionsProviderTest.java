@@ -0,0 +1,186 @@
+package permissions;
+
+import adapting.mock.GuildMock;
+import adapting.mock.MemberMock;
+import adapting.mock.MessageReceivedEventMock;
+import adapting.mock.UserMock;
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.permissions.CachingPermissionsProvider;
+import com.github.kaktushose.jda.commands.permissions.PermissionsProvider;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.User;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachingPermissionsProviderTest {
+
+    private static final User USER = new UserMock("user", 1234);
+    private static final Member MEMBER = new MemberMock("member", 1234) {
+        @NotNull
+        @Override
+        public Guild getGuild() {
+            return new GuildMock();
+        }
+    };
+    private AtomicInteger loads;
+    private boolean result;
+    private Runnable onLoad;
+    private PermissionsProvider delegate;
+
+    @BeforeEach
+    public void setup() {
+        loads = new AtomicInteger();
+        result = true;
+        onLoad = () -> {
+        };
+        delegate = new PermissionsProvider() {
+            @Override
+            public boolean isMuted(@NotNull User user, @NotNull CommandContext context) {
+                loads.incrementAndGet();
+                onLoad.run();
+                return result;
+            }
+
+            @Override
+            public boolean hasPermission(@NotNull User user, @NotNull CommandContext context) {
+                loads.incrementAndGet();
+                onLoad.run();
+                return result;
+            }
+
+            @Override
+            public boolean hasPermission(@NotNull Member member, @NotNull CommandContext context) {
+                loads.incrementAndGet();
+                onLoad.run();
+                return result;
+            }
+        };
+    }
+
+    @Test
+    public void isMuted_WithSameUser_ShouldLoadOnce() {
+        CachingPermissionsProvider provider = new CachingPermissionsProvider(delegate, 10, 1, TimeUnit.HOURS);
+
+        assertTrue(provider.isMuted(USER, new CommandContext()));
+        assertTrue(provider.isMuted(USER, new CommandContext()));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, provider.getHitCount());
+        assertEquals(1, provider.getMissCount());
+    }
+
+    @Test
+    public void hasPermission_WithUserAndMember_ShouldCacheSeparately() {
+        CachingPermissionsProvider provider = new CachingPermissionsProvider(delegate, 10, 1, TimeUnit.HOURS);
+
+        provider.hasPermission(USER, new CommandContext());
+        provider.hasPermission(MEMBER, new CommandContext());
+        provider.isMuted(USER, new CommandContext());
+
+        assertEquals(3, loads.get());
+        assertEquals(3, provider.size());
+    }
+
+    @Test
+    public void isMuted_WithDifferentGuilds_ShouldCacheSeparately() {
+        CachingPermissionsProvider provider = new CachingPermissionsProvider(delegate, 10, 1, TimeUnit.HOURS);
+
+        provider.isMuted(USER, guildContext(1));
+        provider.isMuted(USER, guildContext(2));
+        provider.isMuted(USER, new CommandContext());
+        provider.isMuted(USER, guildContext(1));
+
+        assertEquals(3, loads.get());
+        assertEquals(3, provider.size());
+    }
+
+    @Test
+    public void invalidateGuild_WithCachedUserResults_ShouldLoadAgain() {
+        CachingPermissionsProvider provider = new CachingPermissionsProvider(delegate, 10, 1, TimeUnit.HOURS);
+        provider.isMuted(USER, guildContext(1));
+        provider.hasPermission(USER, guildContext(1));
+        provider.isMuted(USER, guildContext(2));
+
+        provider.invalidateGuild(1);
+
+        assertEquals(1, provider.size());
+        provider.isMuted(USER, guildContext(1));
+        provider.isMuted(USER, guildContext(2));
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    public void invalidateUser_WithCachedResults_ShouldLoadAgain() {
+        CachingPermissionsProvider provider = new CachingPermissionsProvider(delegate, 10, 1, TimeUnit.HOURS);
+        provider.isMuted(USER, new CommandContext());
+        provider.hasPermission(MEMBER, new CommandContext());
+
+        provider.invalidateUser(1234);
+        result = false;
+
+        assertFalse(provider.isMuted(USER, new CommandContext()));
+        assertFalse(provider.hasPermission(MEMBER, new CommandContext()));
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    public void hasPermission_WithContextMemo_ShouldKeepResultForContext() {
+        CachingPermissionsProvider provider = new CachingPermissionsProvider(delegate, 10, 1, TimeUnit.HOURS, true);
+        CommandContext context = new CommandContext();
+        provider.hasPermission(MEMBER, context);
+
+        provider.invalidateAll();
+        result = false;
+
+        assertTrue(provider.hasPermission(MEMBER, context));
+        assertFalse(provider.hasPermission(MEMBER, new CommandContext()));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void isMuted_ExceedingMaximumSize_ShouldEvict() {
+        CachingPermissionsProvider provider = new CachingPermissionsProvider(delegate, 10, 1, TimeUnit.HOURS);
+
+        for (int i = 0; i < 11; i++) {
+            provider.isMuted(new UserMock("user", i), new CommandContext());
+        }
+
+        assertEquals(9, provider.size());
+        assertEquals(2, provider.getEvictionCount());
+    }
+
+    @Test
+    public void isMuted_InvalidatedWhileLoading_ShouldNotCacheResult() {
+        CachingPermissionsProvider provider = new CachingPermissionsProvider(delegate, 10, 1, TimeUnit.HOURS);
+        onLoad = () -> provider.invalidateUser(1234);
+
+        assertTrue(provider.isMuted(USER, new CommandContext()));
+        onLoad = () -> {
+        };
+        result = false;
+
+        assertFalse(provider.isMuted(USER, new CommandContext()));
+        assertEquals(2, loads.get());
+    }
+
+    private static CommandContext guildContext(long guildId) {
+        return new CommandContext().setEvent(new MessageReceivedEventMock(true) {
+            @Override
+            public Guild getGuild() {
+                return new GuildMock() {
+                    @Override
+                    public long getIdLong() {
+                        return guildId;
+                    }
+                };
+            }
+        });
+    }
+}
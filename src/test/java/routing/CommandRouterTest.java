@@ -0,0 +1,152 @@
+package routing;
+
+import adapting.mock.MessageReceivedEventMock;
+import com.github.kaktushose.jda.commands.dependency.DependencyInjector;
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.CommandEvent;
+import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapterRegistry;
+import com.github.kaktushose.jda.commands.dispatching.filter.FilterRegistry;
+import com.github.kaktushose.jda.commands.dispatching.router.impl.CommandRouter;
+import com.github.kaktushose.jda.commands.dispatching.validation.ValidatorRegistry;
+import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
+import com.github.kaktushose.jda.commands.reflect.ImplementationRegistry;
+import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CommandRouterTest {
+
+    private static Set<CommandDefinition> commands;
+    private CommandRouter router;
+
+    @BeforeAll
+    public static void setup() throws NoSuchMethodException {
+        CommandRouterTestController instance = new CommandRouterTestController();
+        ValidatorRegistry validators = new ValidatorRegistry();
+        TypeAdapterRegistry adapters = new TypeAdapterRegistry();
+        commands = new HashSet<>();
+
+        for (String name : new String[]{"foo", "fooBar", "ban", "bank", "typo"}) {
+            commands.add(CommandDefinition.build(
+                    instance.getClass().getDeclaredMethod(name, CommandEvent.class), instance, adapters, validators
+            ).get());
+        }
+    }
+
+    @BeforeEach
+    public void cleanup() {
+        router = new CommandRouter();
+    }
+
+    @Test
+    public void findCommands_withExactLabel_ShouldMatch() {
+        CommandContext context = buildContext("typo", "arg");
+
+        router.findCommands(context, commands);
+
+        assertFalse(context.isCancelled());
+        assertTrue(context.getCommand().getLabels().contains("typo"));
+        assertArrayEquals(new String[]{"arg"}, context.getInput());
+    }
+
+    @Test
+    public void findCommands_withSubLabel_ShouldPreferLongestLabel() {
+        CommandContext context = buildContext("foo", "bar", "arg");
+
+        router.findCommands(context, commands);
+
+        assertFalse(context.isCancelled());
+        assertTrue(context.getCommand().getLabels().contains("foo bar"));
+        assertArrayEquals(new String[]{"arg"}, context.getInput());
+    }
+
+    @Test
+    public void findCommands_withShortenedLabel_ShouldMatch() {
+        CommandContext context = buildContext("ty");
+
+        router.findCommands(context, commands);
+
+        assertFalse(context.isCancelled());
+        assertTrue(context.getCommand().getLabels().contains("typo"));
+    }
+
+    @Test
+    public void findCommands_withDifferentCase_ShouldMatch() {
+        CommandContext context = buildContext("TYPO");
+
+        router.findCommands(context, commands);
+
+        assertFalse(context.isCancelled());
+        assertTrue(context.getCommand().getLabels().contains("typo"));
+    }
+
+    @Test
+    public void findCommands_withDifferentCaseAndCaseSensitive_ShouldCancel() {
+        CommandContext context = buildContext("TYPO");
+        context.getSettings().setIgnoreCase(false).setMaxDistance(1);
+
+        router.findCommands(context, commands);
+
+        assertTrue(context.isCancelled());
+    }
+
+    @Test
+    public void findCommands_withAmbiguousExactLabel_ShouldPreferExact() {
+        CommandContext context = buildContext("ban");
+
+        router.findCommands(context, commands);
+
+        assertFalse(context.isCancelled());
+        assertTrue(context.getCommand().getLabels().contains("banish"));
+    }
+
+    @Test
+    public void findCommands_withAmbiguousPrefix_ShouldCancel() {
+        CommandContext context = buildContext("ba");
+
+        router.findCommands(context, commands);
+
+        assertTrue(context.isCancelled());
+        assertEquals(2, context.getPossibleCommands().size());
+    }
+
+    @Test
+    public void findCommands_withTypo_ShouldMatch() {
+        CommandContext context = buildContext("tpyo");
+
+        router.findCommands(context, commands);
+
+        assertFalse(context.isCancelled());
+        assertTrue(context.getCommand().getLabels().contains("typo"));
+    }
+
+    @Test
+    public void findCommands_withUnknownLabel_ShouldCancel() {
+        CommandContext context = buildContext("unknown");
+
+        router.findCommands(context, commands);
+
+        assertTrue(context.isCancelled());
+        assertNull(context.getCommand());
+    }
+
+    private CommandContext buildContext(String... input) {
+        CommandContext context = new CommandContext();
+        context.setImplementationRegistry(new ImplementationRegistry(
+                new DependencyInjector(),
+                new FilterRegistry(),
+                new TypeAdapterRegistry(),
+                new ValidatorRegistry())
+        );
+        context.setSettings(new GuildSettings());
+        context.setEvent(new MessageReceivedEventMock(true));
+        context.setInput(input);
+        return context;
+    }
+}
@@ -0,0 +1,30 @@
+package routing;
+
+import com.github.kaktushose.jda.commands.annotations.Command;
+import com.github.kaktushose.jda.commands.annotations.CommandController;
+import com.github.kaktushose.jda.commands.dispatching.CommandEvent;
+
+@CommandController
+public class CommandRouterTestController {
+
+    @Command("foo")
+    public void foo(CommandEvent event) {
+    }
+
+    @Command("foo bar")
+    public void fooBar(CommandEvent event) {
+    }
+
+    @Command({"ban", "banish"})
+    public void ban(CommandEvent event) {
+    }
+
+    @Command("bank")
+    public void bank(CommandEvent event) {
+    }
+
+    @Command("typo")
+    public void typo(CommandEvent event) {
+    }
+
+}
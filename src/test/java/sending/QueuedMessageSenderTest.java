@@ -0,0 +1,187 @@
+package sending;
+
+import adapting.mock.MessageReceivedEventMock;
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.sender.impl.QueuedMessageSender;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.channel.unions.MessageChannelUnion;
+import net.dv8tion.jda.api.requests.restaction.MessageCreateAction;
+import net.dv8tion.jda.api.utils.messages.MessageCreateData;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class QueuedMessageSenderTest {
+
+    private static final MessageCreateData ERROR = MessageCreateData.fromContent("error");
+    private static final MessageCreateData HELP = MessageCreateData.fromContent("help");
+    private static final MessageCreateData REPLY = MessageCreateData.fromContent("reply");
+    private List<MessageCreateData> sent;
+    private List<Consumer<Message>> pending;
+    private boolean isFailing;
+    private CommandContext context;
+
+    @BeforeEach
+    public void setup() {
+        sent = new ArrayList<>();
+        pending = new ArrayList<>();
+        isFailing = false;
+        context = new CommandContext();
+        context.setEvent(new ChannelEventMock(channel(1)));
+    }
+
+    @Test
+    public void sendErrorMessage_withDuplicate_ShouldCoalesce() {
+        QueuedMessageSender sender = new QueuedMessageSender(1, TimeUnit.MINUTES, 10);
+
+        sender.sendErrorMessage(context, ERROR);
+        sender.sendErrorMessage(context, ERROR);
+        complete();
+
+        assertEquals(1, sent.size());
+        assertEquals(1, sender.getCoalescedCount());
+        assertEquals(1, sender.getSentCount());
+    }
+
+    @Test
+    public void sendErrorMessage_withDuplicateInOtherChannel_ShouldSend() {
+        QueuedMessageSender sender = new QueuedMessageSender(1, TimeUnit.MINUTES, 10);
+        CommandContext other = new CommandContext();
+        other.setEvent(new ChannelEventMock(channel(2)));
+
+        sender.sendErrorMessage(context, ERROR);
+        sender.sendErrorMessage(other, ERROR);
+
+        assertEquals(2, sent.size());
+        assertEquals(2, sender.getActiveChannelCount());
+    }
+
+    @Test
+    public void sendReply_whileSending_ShouldBeSentBeforeHelp() {
+        QueuedMessageSender sender = new QueuedMessageSender(1, TimeUnit.MINUTES, 10);
+
+        sender.sendErrorMessage(context, ERROR);
+        sender.sendGenericHelpMessage(context, HELP);
+        sender.sendReply(context, REPLY, null);
+
+        assertEquals(1, sent.size());
+        assertEquals(2, sender.getQueueDepth());
+        assertEquals(2, sender.getQueueDepth(1));
+
+        complete();
+
+        assertEquals(ERROR, sent.get(0));
+        assertEquals(REPLY, sent.get(1));
+        assertEquals(HELP, sent.get(2));
+        assertEquals(0, sender.getQueueDepth());
+        assertEquals(0, sender.getActiveChannelCount());
+    }
+
+    @Test
+    public void sendGenericHelpMessage_withFullQueue_ShouldDrop() {
+        QueuedMessageSender sender = new QueuedMessageSender(1, TimeUnit.MINUTES, 1);
+
+        sender.sendGenericHelpMessage(context, HELP);
+        sender.sendGenericHelpMessage(context, HELP);
+        sender.sendGenericHelpMessage(context, HELP);
+        sender.sendReply(context, REPLY, null);
+
+        assertEquals(2, sender.getQueueDepth(1));
+        assertEquals(1, sender.getDroppedCount());
+    }
+
+    @Test
+    public void sendReply_withFullReplyQueue_ShouldDrop() {
+        QueuedMessageSender sender = new QueuedMessageSender(1, TimeUnit.MINUTES, 1, 2);
+
+        sender.sendReply(context, REPLY, null);
+        sender.sendGenericHelpMessage(context, HELP);
+        for (int i = 0; i < 3; i++) {
+            sender.sendReply(context, REPLY, null);
+        }
+
+        assertEquals(3, sender.getQueueDepth(1));
+        assertEquals(1, sender.getDroppedCount());
+    }
+
+    @Test
+    public void sendReply_withManySynchronousFailures_ShouldDrainQueue() {
+        QueuedMessageSender sender = new QueuedMessageSender(1, TimeUnit.MINUTES, 10, 10_000);
+        sender.sendReply(context, REPLY, null);
+        for (int i = 0; i < 10_000; i++) {
+            sender.sendReply(context, REPLY, null);
+        }
+
+        isFailing = true;
+        complete();
+
+        assertEquals(10_000, sender.getFailedCount());
+        assertEquals(0, sender.getQueueDepth());
+        assertEquals(0, sender.getActiveChannelCount());
+    }
+
+    private void complete() {
+        // completing a message may send the next one
+        while (!pending.isEmpty()) {
+            pending.remove(0).accept(null);
+        }
+    }
+
+    private MessageChannelUnion channel(long id) {
+        return (MessageChannelUnion) Proxy.newProxyInstance(
+                MessageChannelUnion.class.getClassLoader(),
+                new Class[]{MessageChannelUnion.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getIdLong":
+                            return id;
+                        case "sendMessage":
+                            if (isFailing) {
+                                throw new IllegalStateException("Missing permissions");
+                            }
+                            sent.add((MessageCreateData) args[0]);
+                            return action();
+                        default:
+                            throw new UnsupportedOperationException();
+                    }
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private MessageCreateAction action() {
+        return (MessageCreateAction) Proxy.newProxyInstance(
+                MessageCreateAction.class.getClassLoader(),
+                new Class[]{MessageCreateAction.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("queue") && args.length == 2) {
+                        pending.add((Consumer<Message>) args[0]);
+                        return null;
+                    }
+                    throw new UnsupportedOperationException();
+                });
+    }
+
+    private static class ChannelEventMock extends MessageReceivedEventMock {
+
+        private final MessageChannelUnion channel;
+
+        private ChannelEventMock(MessageChannelUnion channel) {
+            super(true);
+            this.channel = channel;
+        }
+
+        @NotNull
+        @Override
+        public MessageChannelUnion getChannel() {
+            return channel;
+        }
+    }
+}
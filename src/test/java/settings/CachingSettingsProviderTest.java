@@ -0,0 +1,168 @@
+package settings;
+
+import adapting.mock.GuildMock;
+import adapting.mock.JDAMock;
+import com.github.kaktushose.jda.commands.settings.CachingSettingsProvider;
+import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Guild;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachingSettingsProviderTest {
+
+    private final Map<Long, Guild> guilds = new HashMap<>();
+    private final JDA jda = new JDAMock() {
+        @Override
+        public Guild getGuildById(long id) {
+            return guilds.get(id);
+        }
+    };
+    private AtomicInteger loads;
+    private CachingSettingsProvider provider;
+
+    @BeforeEach
+    public void setup() {
+        loads = new AtomicInteger();
+        provider = new CachingSettingsProvider(guild -> {
+            loads.incrementAndGet();
+            return new GuildSettings();
+        }, 10, 1, TimeUnit.HOURS);
+    }
+
+    @Test
+    public void getSettings_WithSameGuild_ShouldLoadOnce() {
+        GuildSettings settings = provider.getSettings(new GuildMock());
+
+        assertSame(settings, provider.getSettings(new GuildMock()));
+        assertEquals(1, loads.get());
+        assertEquals(1, provider.getHitCount());
+        assertEquals(1, provider.getMissCount());
+    }
+
+    @Test
+    public void getSettings_WithoutGuild_ShouldBeCached() {
+        provider.getSettings(null);
+        provider.getSettings(null);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void invalidate_WithCachedGuild_ShouldLoadAgain() {
+        provider.getSettings(new GuildMock());
+        provider.invalidate(0);
+        provider.getSettings(new GuildMock());
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void invalidate_DuringLoad_ShouldNotCacheLoadedSettings() {
+        CachingSettingsProvider[] self = new CachingSettingsProvider[1];
+        self[0] = new CachingSettingsProvider(guild -> {
+            loads.incrementAndGet();
+            self[0].invalidate(0);
+            return new GuildSettings();
+        }, 10, 1, TimeUnit.HOURS);
+
+        self[0].getSettings(new GuildMock());
+
+        assertEquals(0, self[0].size());
+        self[0].getSettings(new GuildMock());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void refreshAll_WithCachedGuild_ShouldReplaceSettings() {
+        GuildSettings settings = provider.getSettings(guild(1));
+        provider.refreshAll();
+
+        assertNotSame(settings, provider.getSettings(guild(1)));
+        assertEquals(2, loads.get());
+        assertEquals(1, provider.getHitCount());
+    }
+
+    @Test
+    public void refreshAll_WithLeftGuild_ShouldRemoveSettings() {
+        provider.getSettings(guild(1));
+        guilds.clear();
+        provider.refreshAll();
+
+        assertEquals(0, provider.size());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void getSettings_ExceedingMaximumSize_ShouldEvictLeastRecentlyUsed() throws InterruptedException {
+        for (int i = 0; i < 10; i++) {
+            provider.getSettings(guild(i));
+        }
+        Thread.sleep(5);
+        provider.getSettings(guild(0));
+        provider.getSettings(guild(10));
+
+        assertEquals(9, provider.size());
+        assertEquals(2, provider.getEvictionCount());
+        provider.getSettings(guild(0));
+        provider.getSettings(guild(10));
+        assertEquals(11, loads.get());
+    }
+
+    @Test
+    public void getSettings_WithExpiredEntry_ShouldLoadAgain() throws InterruptedException {
+        provider = new CachingSettingsProvider(guild -> {
+            loads.incrementAndGet();
+            return new GuildSettings();
+        }, 10, 1, TimeUnit.MILLISECONDS);
+
+        provider.getSettings(null);
+        Thread.sleep(5);
+        provider.getSettings(null);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void getSettings_WithExpiredGuild_ShouldOnlyLoadExpiredEntry() throws InterruptedException {
+        provider = new CachingSettingsProvider(guild -> {
+            loads.incrementAndGet();
+            return new GuildSettings();
+        }, 10, 200, TimeUnit.MILLISECONDS);
+
+        provider.getSettings(guild(1));
+        Thread.sleep(250);
+        provider.getSettings(guild(2));
+        provider.getSettings(guild(1));
+        provider.getSettings(guild(2));
+
+        assertEquals(3, loads.get());
+        assertEquals(1, provider.getHitCount());
+        assertEquals(3, provider.getMissCount());
+    }
+
+    private Guild guild(long id) {
+        Guild guild = new GuildMock() {
+            @NotNull
+            @Override
+            public JDA getJDA() {
+                return jda;
+            }
+
+            @Override
+            public long getIdLong() {
+                return id;
+            }
+        };
+        guilds.put(id, guild);
+        return guild;
+    }
+}
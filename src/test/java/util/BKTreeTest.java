@@ -0,0 +1,62 @@
+package util;
+
+import com.github.kaktushose.jda.commands.util.BKTree;
+import com.github.kaktushose.jda.commands.util.LevenshteinDistance;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BKTreeTest {
+
+    private static final List<String> WORDS = Arrays.asList(
+            "help", "hello", "ban", "bank", "banish", "kick", "mute", "unmute", "warn", "typo", "type", "info", "ping"
+    );
+    private static BKTree<String> tree;
+
+    @BeforeAll
+    public static void setup() {
+        tree = new BKTree<>();
+        WORDS.forEach(word -> tree.add(word, word));
+    }
+
+    @Test
+    public void add_withDuplicateKey_ShouldIgnore() {
+        BKTree<String> tree = new BKTree<>();
+        tree.add("foo", "foo");
+        tree.add("foo", "bar");
+
+        assertEquals(1, tree.size());
+        assertEquals(Arrays.asList("foo"), tree.search("foo", 0));
+    }
+
+    @Test
+    public void search_withExactKey_ShouldOnlyReturnKey() {
+        assertEquals(Arrays.asList("ping"), tree.search("ping", 0));
+    }
+
+    @Test
+    public void search_withEmptyTree_ShouldReturnEmpty() {
+        assertTrue(new BKTree<String>().search("foo", 3).isEmpty());
+    }
+
+    @Test
+    public void search_withDistance_ShouldEqualLinearScan() {
+        for (String query : new String[]{"hlep", "bnak", "tpyo", "mtue", "xyz", ""}) {
+            for (int distance = 0; distance < 4; distance++) {
+                int max = distance;
+                Set<String> expected = WORDS.stream()
+                        .filter(word -> LevenshteinDistance.calculate(word, query) <= max)
+                        .collect(Collectors.toSet());
+
+                assertEquals(expected, new HashSet<>(tree.search(query, distance)), query + " with distance " + distance);
+            }
+        }
+    }
+}
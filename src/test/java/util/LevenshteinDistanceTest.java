@@ -0,0 +1,43 @@
+package util;
+
+import com.github.kaktushose.jda.commands.util.LevenshteinDistance;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LevenshteinDistanceTest {
+
+    @Test
+    public void calculate_withEqualStrings_ShouldBeZero() {
+        assertEquals(0, LevenshteinDistance.calculate("typo", "typo"));
+    }
+
+    @Test
+    public void calculate_withEmptyString_ShouldBeLength() {
+        assertEquals(4, LevenshteinDistance.calculate("", "typo"));
+        assertEquals(4, LevenshteinDistance.calculate("typo", ""));
+    }
+
+    @Test
+    public void calculate_withSwappedCharacters_ShouldBeTwo() {
+        assertEquals(2, LevenshteinDistance.calculate("tpyo", "typo"));
+    }
+
+    @Test
+    public void calculate_withDifferentStrings_ShouldMatchKnownDistance() {
+        assertEquals(3, LevenshteinDistance.calculate("kitten", "sitting"));
+        assertEquals(3, LevenshteinDistance.calculate("sitting", "kitten"));
+    }
+
+    @Test
+    public void calculate_withThresholdExceeded_ShouldReturnThresholdPlusOne() {
+        assertEquals(2, LevenshteinDistance.calculate("kitten", "sitting", 1));
+        assertEquals(1, LevenshteinDistance.calculate("foo", "foobar", 0));
+    }
+
+    @Test
+    public void calculate_withThresholdNotExceeded_ShouldReturnExactDistance() {
+        assertEquals(3, LevenshteinDistance.calculate("kitten", "sitting", 3));
+        assertEquals(3, LevenshteinDistance.calculate("kitten", "sitting", 10));
+    }
+}
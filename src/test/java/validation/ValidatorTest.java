@@ -0,0 +1,100 @@
+package validation;
+
+import adapting.mock.GuildMock;
+import adapting.mock.MemberMock;
+import adapting.mock.MessageReceivedEventMock;
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.validation.Validator;
+import com.github.kaktushose.jda.commands.dispatching.validation.impl.NotPermissionValidator;
+import com.github.kaktushose.jda.commands.dispatching.validation.impl.NotUserValidator;
+import com.github.kaktushose.jda.commands.dispatching.validation.impl.PermissionValidator;
+import com.github.kaktushose.jda.commands.dispatching.validation.impl.RoleValidator;
+import com.github.kaktushose.jda.commands.dispatching.validation.impl.UserValidator;
+import com.github.kaktushose.jda.commands.reflect.ConstraintDefinition;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Role;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ValidatorTest {
+
+    private static final Member MEMBER = new MemberMock("member", 1234);
+    private static final Member OTHER = new MemberMock("other", 5678);
+    private CommandContext context;
+
+    @BeforeEach
+    public void setup() {
+        context = new CommandContext();
+        context.setEvent(new MessageReceivedEventMock(true));
+    }
+
+    @Test
+    public void user_withId_ShouldCompileId() throws NoSuchMethodException {
+        ConstraintDefinition constraint = constraint("user", new UserValidator());
+
+        assertEquals(1234L, constraint.getCompiled());
+        assertTrue(constraint.getValidator().validate(MEMBER, constraint, context));
+        assertFalse(constraint.getValidator().validate(OTHER, constraint, context));
+    }
+
+    @Test
+    public void notUser_withMention_ShouldCompileId() throws NoSuchMethodException {
+        ConstraintDefinition constraint = constraint("notUser", new NotUserValidator());
+
+        assertEquals(1234L, constraint.getCompiled());
+        assertFalse(constraint.getValidator().validate(MEMBER, constraint, context));
+        assertTrue(constraint.getValidator().validate(OTHER, constraint, context));
+    }
+
+    @Test
+    public void role_withName_ShouldResolveRole() throws NoSuchMethodException {
+        ConstraintDefinition constraint = constraint("role", new RoleValidator());
+        Member member = memberWithRoles(Collections.singletonList(GuildMock.ROLE));
+
+        assertTrue(constraint.getValidator().validate(member, constraint, context));
+        // resolved from the memo
+        assertTrue(constraint.getValidator().validate(member, constraint, context));
+        assertFalse(constraint.getValidator().validate(memberWithRoles(Collections.emptyList()), constraint, context));
+    }
+
+    @Test
+    public void role_withId_ShouldCompareIds() throws NoSuchMethodException {
+        ConstraintDefinition constraint = constraint("roleId", new RoleValidator());
+        Member member = memberWithRoles(Collections.singletonList(GuildMock.ROLE));
+
+        assertTrue(constraint.getValidator().validate(member, constraint, context));
+    }
+
+    @Test
+    public void perm_withInvalidPermission_ShouldNotCompile() throws NoSuchMethodException {
+        ConstraintDefinition perm = constraint("invalidPerm", new PermissionValidator());
+        ConstraintDefinition notPerm = constraint("invalidNotPerm", new NotPermissionValidator());
+
+        assertNull(perm.getCompiled());
+        assertFalse(perm.getValidator().validate(MEMBER, perm, context));
+        assertTrue(notPerm.getValidator().validate(MEMBER, notPerm, context));
+    }
+
+    private ConstraintDefinition constraint(String name, Validator validator) throws NoSuchMethodException {
+        Object annotation = ValidatorTestController.class.getDeclaredMethod(name, Member.class)
+                .getParameters()[0]
+                .getAnnotations()[0];
+        return new ConstraintDefinition(validator, "", annotation);
+    }
+
+    private Member memberWithRoles(List<Role> roles) {
+        return new MemberMock("member", 1234) {
+            @NotNull
+            @Override
+            public List<Role> getRoles() {
+                return roles;
+            }
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package validation;
+
+import com.github.kaktushose.jda.commands.annotations.constraints.NotPerm;
+import com.github.kaktushose.jda.commands.annotations.constraints.NotUser;
+import com.github.kaktushose.jda.commands.annotations.constraints.Perm;
+import com.github.kaktushose.jda.commands.annotations.constraints.Role;
+import com.github.kaktushose.jda.commands.annotations.constraints.User;
+import net.dv8tion.jda.api.entities.Member;
+
+public class ValidatorTestController {
+
+    public void user(@User("1234") Member member) {
+    }
+
+    public void notUser(@NotUser("<@!1234>") Member member) {
+    }
+
+    public void role(@Role("ROLE") Member member) {
+    }
+
+    public void roleId(@Role("2") Member member) {
+    }
+
+    public void invalidPerm(@Perm("invalid") Member member) {
+    }
+
+    public void invalidNotPerm(@NotPerm("invalid") Member member) {
+    }
+
+}